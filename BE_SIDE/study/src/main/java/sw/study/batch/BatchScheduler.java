@@ -8,8 +8,14 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import sw.study.community.service.TrendingService;
+import sw.study.config.jwt.TokenRevocationCache;
+import sw.study.config.websocket.StompSessionRegistry;
+import sw.study.mail.MailDispatcher;
+import sw.study.mail.MailOutboxService;
 import sw.study.user.domain.Member;
 import sw.study.user.repository.MemberRepository;
+import sw.study.viewcount.ViewCountService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +25,12 @@ import java.util.List;
 @EnableScheduling
 public class BatchScheduler {
     private final MemberRepository memberRepository;
+    private final ViewCountService viewCountService;
+    private final TrendingService trendingService;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final MailDispatcher mailDispatcher;
+    private final StompSessionRegistry stompSessionRegistry;
+    private final MailOutboxService mailOutboxService;
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
     public void deleteInactiveMembers() {
@@ -33,4 +45,40 @@ public class BatchScheduler {
 
         memberRepository.saveAll(membersToDelete);
     }
+
+    @Scheduled(fixedDelay = 10000) // 10초마다 실행
+    public void flushViewCounts() {
+        // Redis/로컬에 누적된 조회 수를 DB 에 반영
+        viewCountService.flush();
+    }
+
+    @Scheduled(fixedDelay = 600000) // 10분마다 실행
+    public void renormalizeTrendingScores() {
+        // 인기 게시글 점수 감쇠 적용 및 정리
+        trendingService.renormalize();
+    }
+
+    @Scheduled(fixedDelay = 30000) // 30초마다 실행
+    public void reloadTokenRevocations() {
+        // pub/sub 메시지를 놓친 경우를 대비해 로그아웃/비밀번호 재설정 목록을 Redis 와 다시 맞춤
+        tokenRevocationCache.reload();
+    }
+
+    @Scheduled(fixedDelay = 10000) // 10초마다 실행
+    public void closeInvalidStompSessions() {
+        // 연결 이후 토큰이 만료되었거나 로그아웃 등으로 무효화된 알림 세션 종료
+        stompSessionRegistry.closeInvalidSessions();
+    }
+
+    @Scheduled(fixedDelay = 5000) // 5초마다 실행
+    public void dispatchMails() {
+        // 커밋 직후 발송하지 못했거나 재시도 시각이 된 아웃박스 메일 발송
+        mailDispatcher.dispatch();
+    }
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분
+    public void purgeMails() {
+        // 보관 기간이 지난 발송 완료/만료 아웃박스 메일 삭제
+        mailOutboxService.purge();
+    }
 }
@@ -2,24 +2,33 @@ package sw.study.community.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import sw.study.admin.dto.ReportRequest;
+import sw.study.community.dto.CommentPageResponse;
 import sw.study.community.dto.CommentRequest;
 import sw.study.community.dto.PostDetailResponse;
+import sw.study.community.dto.PostFeedResponse;
 import sw.study.community.dto.PostRequest;
+import sw.study.community.dto.PostSearchResponse;
+import sw.study.community.dto.PostSummaryResponse;
 import sw.study.community.repository.CommentRepository;
 import sw.study.community.service.CommentService;
+import sw.study.community.service.PostSearchService;
 import sw.study.community.service.PostService;
+import sw.study.community.service.TrendingService;
+import sw.study.config.jwt.LoginMember;
 import sw.study.exception.InvalidTokenException;
 import sw.study.exception.UserNotFoundException;
 import sw.study.exception.community.*;
+import sw.study.exception.s3.FileUploadException;
 import sw.study.exception.studyGroup.UnauthorizedException;
-import sw.study.user.service.MemberService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -27,13 +36,18 @@ import java.util.List;
 @RequestMapping("/api/post")
 @RequiredArgsConstructor
 public class PostController {
+    private static final int MAX_FEED_SIZE = 50;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
     private final PostService postService;
     private final CommentService commentService;
-    private final MemberService memberService;
+    private final PostSearchService postSearchService;
+    private final TrendingService trendingService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> createPost(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam("category") String category,
@@ -43,7 +57,6 @@ public class PostController {
         log.info("게시글 생성 요청: title = {}, content = {}, category = {}, area = {}", title, content, category, area);
 
         try {
-            Long memberId = memberService.getMemberIdByToken(accessToken);
 
             PostRequest postRequest = new PostRequest();
             postRequest.setTitle(title);
@@ -59,6 +72,8 @@ public class PostController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (AreaNotFoundException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (FileUploadException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("파일 업로드 실패: " + e.getMessage());
         } catch (InvalidTokenException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 토큰입니다.");
         } catch (Exception e) {
@@ -66,11 +81,82 @@ public class PostController {
         }
     }
 
+    @GetMapping
+    public ResponseEntity<?> getFeed(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "area", required = false) List<String> area,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        log.info("게시글 목록 조회 요청: category = {}, area = {}, cursorCreatedAt = {}, cursorId = {}, size = {}",
+                category, area, cursorCreatedAt, cursorId, size);
+
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("size 는 1 이상 " + MAX_FEED_SIZE + " 이하여야 합니다.");
+        }
+        // 커서는 (cursorCreatedAt, cursorId) 를 함께 보내야 한다. (하나만 보내면 첫 페이지부터 다시 조회되므로 거절)
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("cursorCreatedAt 과 cursorId 는 함께 보내야 합니다.");
+        }
+
+        try {
+            PostFeedResponse postFeedResponse = postService.getFeed(category, area, cursorCreatedAt, cursorId, size);
+            return ResponseEntity.status(HttpStatus.OK).body(postFeedResponse);
+        } catch (CategoryNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPosts(
+            @RequestParam("q") String keyword,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "area", required = false) List<String> area,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        log.info("게시글 검색 요청: q = {}, category = {}, area = {}, page = {}, size = {}", keyword, category, area, page, size);
+
+        if (keyword.isBlank() || page < 0 || size < 1 || size > MAX_FEED_SIZE || (page + 1) * size > MAX_SEARCH_RESULTS) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("잘못된 검색 요청입니다.");
+        }
+
+        try {
+            PostSearchResponse postSearchResponse = postSearchService.search(keyword, category, area, page, size);
+            return ResponseEntity.status(HttpStatus.OK).body(postSearchResponse);
+        } catch (CategoryNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/hot")
+    public ResponseEntity<?> getHotPosts(@RequestParam(value = "size", defaultValue = "20") int size) {
+        log.info("인기 게시글 조회 요청: size = {}", size);
+
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("size 는 1 이상 " + MAX_FEED_SIZE + " 이하여야 합니다.");
+        }
+
+        try {
+            List<PostSummaryResponse> hotPosts = trendingService.getHotPosts(size);
+            return ResponseEntity.status(HttpStatus.OK).body(hotPosts);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/{postId}")
-    public ResponseEntity<?> getPost(@PathVariable Long postId) {
+    public ResponseEntity<?> getPost(
+            @LoginMember(required = false) Long memberId,
+            @PathVariable Long postId) {
         log.info("게시글 상세 조회 요청: postId = {}", postId);
         try {
-            PostDetailResponse postDetailResponse = postService.getPostById(postId);
+            // 로그인한 사용자라면 좋아요 여부를 함께 내려준다.
+            PostDetailResponse postDetailResponse = postService.getPostById(postId, memberId);
             return ResponseEntity.status(HttpStatus.OK).body(postDetailResponse);
 
 
@@ -78,16 +164,17 @@ public class PostController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (InvalidTokenException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 토큰입니다.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
     }
 
     @DeleteMapping("/{postId}")
-    public ResponseEntity<?> deletePost(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId) {
+    public ResponseEntity<?> deletePost(@LoginMember Long memberId, @PathVariable Long postId) {
         log.info("게시글 삭제 요청: postId = {}", postId);
         try {
-            Long memberId = memberService.getMemberIdByToken(accessToken);
             postService.delete(postId, memberId);
             return ResponseEntity.ok("게시글이 정상적으로 삭제되었습니다");
 
@@ -105,9 +192,8 @@ public class PostController {
     }
 
     @PostMapping("/{postId}/like")
-    public ResponseEntity<?> likePost(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId) {
+    public ResponseEntity<?> likePost(@LoginMember Long memberId, @PathVariable Long postId) {
         try{
-            Long memberId = memberService.getMemberIdByToken(accessToken);
             log.info("게시글 좋아요 요청: postId = {}, memberId = {}", postId, memberId);
             postService.addLike(postId, memberId);
             return ResponseEntity.status(HttpStatus.CREATED).body("게시글에 좋아요가 정상적으로 추가되었습니다.");
@@ -126,9 +212,8 @@ public class PostController {
     }
 
     @DeleteMapping("/{postId}/like")
-    public ResponseEntity<?> cancelLikePost(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId) {
+    public ResponseEntity<?> cancelLikePost(@LoginMember Long memberId, @PathVariable Long postId) {
         try {
-            Long memberId = memberService.getMemberIdByToken(accessToken);
             postService.cancelLike(postId, memberId);
             log.info("게시글 좋아요 취소 요청: postId = {}, memberId = {}", postId, memberId);
             return ResponseEntity.ok("성공적으로 좋아요를 취소했습니다.");
@@ -145,9 +230,8 @@ public class PostController {
     }
 
     @PostMapping("/{postId}/report")
-    public ResponseEntity<?> reportPost(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @RequestBody ReportRequest reportRequest) {
+    public ResponseEntity<?> reportPost(@LoginMember Long reporterId, @PathVariable Long postId, @RequestBody ReportRequest reportRequest) {
         try {
-            Long reporterId = memberService.getMemberIdByToken(accessToken);
             log.info("게시글 신고 요청: targetId = {}, reporterId = {}", postId, reporterId);
             postService.report(reportRequest, postId, reporterId);
             return ResponseEntity.ok("신고가 성공적으로 접수되었습니다.");
@@ -164,9 +248,8 @@ public class PostController {
     }
 
     @PostMapping("/{postId}/comment")
-    public ResponseEntity<?> createComment(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @RequestBody CommentRequest commentRequest) {
+    public ResponseEntity<?> createComment(@LoginMember Long commenterId, @PathVariable Long postId, @RequestBody CommentRequest commentRequest) {
         try {
-            Long commenterId = memberService.getMemberIdByToken(accessToken);
             log.info("게시글 댓글 요청: postId = {}, commenterId = {}", postId, commenterId);
             commentService.save(commentRequest, postId, commenterId);
             return ResponseEntity.status(HttpStatus.CREATED).body("정상적으로 댓글이 생성되었습니다.");
@@ -180,11 +263,61 @@ public class PostController {
         }
     }
 
+    @GetMapping("/{postId}/comment")
+    public ResponseEntity<?> getComments(
+            @LoginMember(required = false) Long memberId,
+            @PathVariable Long postId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        log.info("댓글 목록 조회 요청: postId = {}, cursor = {}, size = {}", postId, cursor, size);
+
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("size 는 1 이상 " + MAX_COMMENT_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        try {
+            CommentPageResponse commentPageResponse = commentService.getComments(postId, cursor, size, memberId);
+            return ResponseEntity.status(HttpStatus.OK).body(commentPageResponse);
+        } catch (PostNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (InvalidTokenException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 토큰입니다.");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{postId}/comment/{commentId}/reply")
+    public ResponseEntity<?> getReplies(
+            @LoginMember(required = false) Long memberId,
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        log.info("대댓글 목록 조회 요청: postId = {}, commentId = {}, cursor = {}, size = {}", postId, commentId, cursor, size);
+
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("size 는 1 이상 " + MAX_COMMENT_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        try {
+            CommentPageResponse commentPageResponse = commentService.getReplies(postId, commentId, cursor, size, memberId);
+            return ResponseEntity.status(HttpStatus.OK).body(commentPageResponse);
+        } catch (CommentNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (CommentNotBelongToPostException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (InvalidTokenException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 토큰입니다.");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/{postId}/comment/{commentId}")
-    public ResponseEntity<?> deleteComment(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId) {
+    public ResponseEntity<?> deleteComment(@LoginMember Long memberId, @PathVariable Long postId, @PathVariable Long commentId) {
         log.info("게시글 댓글 삭제 요청: postId = {}, commentId = {}", postId, commentId);
         try {
-            Long memberId = memberService.getMemberIdByToken(accessToken);
             commentService.delete(postId, commentId, memberId);
             return ResponseEntity.ok("정상적으로 댓글이 삭제되었습니다.");
 
@@ -204,17 +337,16 @@ public class PostController {
     }
 
     @PostMapping("/{postId}/comment/{commentId}/like")
-    public ResponseEntity<?> likeComment(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId) {
+    public ResponseEntity<?> likeComment(@LoginMember Long likerId, @PathVariable Long postId, @PathVariable Long commentId) {
         log.info("댓글 좋아요 요청: postId = {}, commentId = {}", postId, commentId);
         try {
-            Long likerId = memberService.getMemberIdByToken(accessToken);
             commentService.addLike(postId, commentId, likerId);
             return ResponseEntity.ok("성공적으로 좋아요를 달았습니다.");
 
 
         } catch (CommentNotFoundException | PostNotFoundException | UserNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (CommentNotBelongToPostException e) {
+        } catch (CommentNotBelongToPostException | DuplicateLikeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }  catch (InvalidTokenException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 토큰입니다."); // 잘못된 토큰이면 401 Unauthorized 응답
@@ -224,10 +356,9 @@ public class PostController {
     }
 
     @DeleteMapping("/{postId}/comment/{commentId}/like")
-    public ResponseEntity<?> cancelLikeComment(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId) {
+    public ResponseEntity<?> cancelLikeComment(@LoginMember Long cancelerId, @PathVariable Long postId, @PathVariable Long commentId) {
         log.info("댓글 좋아요 취소 요청: postId = {}, commentId = {}", postId, commentId);
         try {
-            Long cancelerId = memberService.getMemberIdByToken(accessToken);
             commentService.cancelLike(postId, commentId, cancelerId);
             return ResponseEntity.ok("성공적으로 좋아요를 취소했습니다.");
 
@@ -244,9 +375,8 @@ public class PostController {
     }
 
     @PostMapping("/{postId}/comment /{commentId}/report")
-    public ResponseEntity<?> reportComment(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId, @RequestBody ReportRequest reportRequest) {
+    public ResponseEntity<?> reportComment(@LoginMember Long reporterId, @PathVariable Long postId, @PathVariable Long commentId, @RequestBody ReportRequest reportRequest) {
         try {
-            Long reporterId = memberService.getMemberIdByToken(accessToken);
             log.info("댓글 신고 요청: targetId = {}, reporterId = {}", commentId, reporterId);
             commentService.report(reportRequest, postId, commentId, reporterId);
             return ResponseEntity.ok("신고가 성공적으로 접수되었습니다.");
@@ -265,9 +395,8 @@ public class PostController {
     }
 
     @PostMapping("/{postId}/comment/{commentId}/reply")
-    public ResponseEntity<?> createReply(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId, @RequestBody CommentRequest commentRequest) {
+    public ResponseEntity<?> createReply(@LoginMember Long replierId, @PathVariable Long postId, @PathVariable Long commentId, @RequestBody CommentRequest commentRequest) {
         try {
-            Long replierId = memberService.getMemberIdByToken(accessToken);
             log.info("대댓글 요청: postId = {}, commentId={}, replierId = {}", postId, commentId, replierId);
             commentService.reply(commentRequest, postId, commentId, replierId);
             return ResponseEntity.status(HttpStatus.CREATED).body("정상적으로 대댓글이 생성되었습니다.");
@@ -275,7 +404,7 @@ public class PostController {
 
         } catch (PostNotFoundException | UserNotFoundException | CommentNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage()); // 404
-        } catch (CommentNotBelongToPostException e) {
+        } catch (CommentNotBelongToPostException | CommentDepthExceededException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400
         }  catch (InvalidTokenException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 토큰입니다."); // 잘못된 토큰이면 401 Unauthorized 응답
@@ -286,15 +415,14 @@ public class PostController {
     }
 
     @PostMapping("/{postId}/comment/{commentId}/reply/{replyId}/like")
-    public ResponseEntity<?> likeReply(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId, @PathVariable Long replyId) {
+    public ResponseEntity<?> likeReply(@LoginMember Long likerId, @PathVariable Long postId, @PathVariable Long commentId, @PathVariable Long replyId) {
         try {
-            Long likerId = memberService.getMemberIdByToken(accessToken);
             log.info("대댓글 좋아요 요청");
             commentService.addReplyLike(postId, commentId, replyId, likerId);
             return ResponseEntity.status(HttpStatus.CREATED).body("대댓글에 좋아요가 성공적으로 추가되었습니다.");
         } catch (PostNotFoundException | CommentNotFoundException | UserNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (CommentNotBelongToPostException e) {
+        } catch (CommentNotBelongToPostException | DuplicateLikeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }  catch (InvalidTokenException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 토큰입니다."); // 잘못된 토큰이면 401 Unauthorized 응답
@@ -305,10 +433,9 @@ public class PostController {
 
     // 대댓글 좋아요 취소
     @DeleteMapping("/{postId}/comment/{commentId}/reply/{replyId}/like")
-    public ResponseEntity<?> cancelLikeReply(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId, @PathVariable Long replyId) {
+    public ResponseEntity<?> cancelLikeReply(@LoginMember Long cancelerId, @PathVariable Long postId, @PathVariable Long commentId, @PathVariable Long replyId) {
         log.info("대댓글 좋아요 취소 요청");
         try {
-            Long cancelerId = memberService.getMemberIdByToken(accessToken);
             commentService.cancelReplyLike(postId, commentId, replyId, cancelerId);
             return ResponseEntity.ok("대댓글 좋아요가 성공적으로 취소되었습니다.");
         } catch (PostNotFoundException | CommentNotFoundException | UserNotFoundException | LikeNotFoundException e) {
@@ -324,10 +451,9 @@ public class PostController {
 
     // 대댓글 삭제
     @DeleteMapping("/{postId}/comment/{commentId}/reply/{replyId}")
-    public ResponseEntity<?> deleteReply(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId, @PathVariable Long replyId) {
+    public ResponseEntity<?> deleteReply(@LoginMember Long memberId, @PathVariable Long postId, @PathVariable Long commentId, @PathVariable Long replyId) {
         log.info("대댓글 삭제 요청");
         try {
-            Long memberId = memberService.getMemberIdByToken(accessToken);
             commentService.deleteReply(postId, commentId, replyId, memberId);
 
             return ResponseEntity.ok("대댓글이 성공적으로 삭제되었습니다.");
@@ -348,9 +474,8 @@ public class PostController {
 
     // 대댓글 신고
     @PostMapping("/{postId}/comment/{commentId}/reply/{replyId}/report")
-    public ResponseEntity<?> reportReply(@RequestHeader("Authorization") String accessToken, @PathVariable Long postId, @PathVariable Long commentId, @PathVariable Long replyId, @RequestBody ReportRequest reportRequest) {
+    public ResponseEntity<?> reportReply(@LoginMember Long reporterId, @PathVariable Long postId, @PathVariable Long commentId, @PathVariable Long replyId, @RequestBody ReportRequest reportRequest) {
         try {
-            Long reporterId = memberService.getMemberIdByToken(accessToken);
             log.info("대댓글 신고 요청: replyId = {}, reporterId = {}", replyId, reporterId);
             Long reportId = commentService.reportReply(reportRequest, postId, commentId, replyId, reporterId);
             return ResponseEntity.ok(reportId);
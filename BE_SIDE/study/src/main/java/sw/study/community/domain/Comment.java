@@ -14,7 +14,11 @@ import static lombok.AccessLevel.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_comment_post_depth_path", columnList = "post_id, depth, path"))
 public class Comment {
+    public static final int MAX_DEPTH = 10; // 대댓글을 달 수 있는 최대 단계 (댓글 = 0)
+    private static final int PATH_ID_LENGTH = 19;
+    private static final int PATH_LENGTH = MAX_DEPTH * (PATH_ID_LENGTH + 1); // 단계마다 ID 19자리 + "/"
 
     @Id @GeneratedValue
     @Column(name = "comment_id")
@@ -35,11 +39,18 @@ public class Comment {
     @OneToMany(mappedBy = "parent")
     private List<Comment> child = new ArrayList<>();
 
-    @OneToMany
+    @OneToMany(mappedBy = "comment")
     private List<CommentLike> commentLikes = new ArrayList<>();
 
     private String content;
     private int level;
+
+    // 조상 댓글 ID 를 0으로 채워 이어붙인 경로 (댓글: "", 대댓글: "{부모 ID}/")
+    // (post_id, depth, path) 인덱스 뒤에 PK 가 붙으므로, 한 스레드의 한 페이지는 인덱스 범위 스캔 한 번으로 조회된다.
+    // 길이는 MAX_DEPTH 단계의 경로에 맞춘다. (기본값 255 로는 13단계에서 잘린다.)
+    @Column(nullable = false, length = PATH_LENGTH)
+    private String path;
+    private int depth;
     private int reportCount = 0;
     private boolean isDeleted = false;
     private LocalDateTime createdAt;
@@ -61,6 +72,8 @@ public class Comment {
         comment.member = member;
         comment.content = content;
         comment.level = level;
+        comment.path = "";
+        comment.depth = 0;
 
         return comment;
     }
@@ -68,9 +81,12 @@ public class Comment {
     public static Comment createReply(Comment parent, Member member, String content, int level) {
         Comment comment = new Comment();
         parent.addChildComment(comment);
+        comment.post = parent.post;
         comment.member = member;
         comment.content = content;
         comment.level = level;
+        comment.path = parent.getChildPath();
+        comment.depth = parent.depth + 1;
 
         return comment;
     }
@@ -110,6 +126,25 @@ public class Comment {
         this.reportCount--;
     }
 
+    // 최대 단계보다 깊은 대댓글은 경로 컬럼에 들어가지 않으므로 받지 않는다.
+    public boolean canReply() {
+        return this.depth < MAX_DEPTH;
+    }
+
+    // 자식 댓글이 가지는 경로
+    public String getChildPath() {
+        return this.path + String.format("%0" + PATH_ID_LENGTH + "d", this.id) + "/";
+    }
+
+    // 프록시를 초기화하지 않고 FK 로 비교
+    public boolean belongsTo(Long postId) {
+        return this.post != null && this.post.getId().equals(postId);
+    }
+
+    public boolean isReplyOf(Comment comment) {
+        return this.parent != null && this.parent.getId().equals(comment.getId());
+    }
+
     public boolean hasParentComment() {
         return this.parent != null;
     }
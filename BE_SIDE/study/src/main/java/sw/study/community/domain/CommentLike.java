@@ -12,6 +12,7 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_comment_like_comment_member", columnNames = {"comment_id", "member_id"}))
 public class CommentLike {
 
     @Id
@@ -0,0 +1,19 @@
+package sw.study.community.domain;
+
+/**
+ * 업로드된 이미지를 가진 대상
+ */
+public enum ImageOwnerType {
+    POST_FILE(640),      // 게시글 첨부 이미지
+    MEMBER_PROFILE(160); // 회원 프로필 사진
+
+    private final int thumbnailSize; // 썸네일의 긴 변 (px)
+
+    ImageOwnerType(int thumbnailSize) {
+        this.thumbnailSize = thumbnailSize;
+    }
+
+    public int getThumbnailSize() {
+        return thumbnailSize;
+    }
+}
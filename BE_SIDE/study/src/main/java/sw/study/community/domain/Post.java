@@ -15,6 +15,10 @@ import static lombok.AccessLevel.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_post_created_at", columnList = "created_at, post_id"),
+        @Index(name = "idx_post_category_created_at", columnList = "category_id, created_at, post_id")
+})
 public class Post {
 
     @Id @GeneratedValue
@@ -46,6 +50,7 @@ public class Post {
     private boolean isDeleted = false;
     private int viewCount = 0;
     private int reportCount = 0;
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -26,6 +26,7 @@ public class PostFile {
     private Member member;
 
     private String url;
+    private String thumbnailUrl; // 썸네일이 만들어지기 전에는 null
     private boolean isDeleted = false;
     private LocalDateTime createdAt;
 
@@ -48,4 +49,8 @@ public class PostFile {
     public void addPost(Post post) {
         this.post = post;
     }
+
+    public void deleteFile() {
+        this.isDeleted = true;
+    }
 }
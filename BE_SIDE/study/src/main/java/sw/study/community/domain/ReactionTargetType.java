@@ -0,0 +1,9 @@
+package sw.study.community.domain;
+
+/**
+ * 좋아요 대상
+ */
+public enum ReactionTargetType {
+    POST,
+    COMMENT
+}
@@ -0,0 +1,39 @@
+package sw.study.community.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.*;
+
+/**
+ * 내용(SHA-256) 기준으로 중복 제거된 S3 파일
+ * 같은 위치에 올라온 같은 내용의 파일은 한 번만 저장하고, 참조 수가 0 이 될 때 S3 에서 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "stored_file",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_file_digest", columnNames = "digest"),
+        indexes = @Index(name = "idx_stored_file_url", columnList = "url"))
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stored_file_id")
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String digest; // 업로드 위치 + 내용의 SHA-256 (hex)
+
+    @Column(nullable = false, length = 512)
+    private String url;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
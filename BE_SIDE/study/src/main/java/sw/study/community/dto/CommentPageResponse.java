@@ -0,0 +1,13 @@
+package sw.study.community.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class CommentPageResponse {
+    private List<CommentResponse> comments = new ArrayList<>();
+    private boolean hasNext;
+    private Long nextCursor; // 다음 페이지 요청 시 전달하는 커서 (마지막 댓글 ID)
+}
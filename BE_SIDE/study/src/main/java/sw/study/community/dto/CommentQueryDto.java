@@ -0,0 +1,31 @@
+package sw.study.community.dto;
+
+import lombok.Data;
+
+/**
+ * 댓글/대댓글 프로젝션 (댓글 + 작성자)
+ */
+@Data
+public class CommentQueryDto {
+    private Long commentId;
+    private Long parentId; // 댓글이면 null, 대댓글이면 부모 댓글 ID
+    private String content;
+    private int level;
+    private boolean isDeleted;
+
+    private String authorNickname;
+    private String authorProfile;
+    private boolean isAuthorDeleted;
+
+    public CommentQueryDto(Long commentId, Long parentId, String content, int level, boolean isDeleted,
+                           String authorNickname, String authorProfile, boolean isAuthorDeleted) {
+        this.commentId = commentId;
+        this.parentId = parentId;
+        this.content = content;
+        this.level = level;
+        this.isDeleted = isDeleted;
+        this.authorNickname = authorNickname;
+        this.authorProfile = authorProfile;
+        this.isAuthorDeleted = isAuthorDeleted;
+    }
+}
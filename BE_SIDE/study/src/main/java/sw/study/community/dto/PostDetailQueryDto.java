@@ -0,0 +1,40 @@
+package sw.study.community.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 조회용 프로젝션 (게시글 + 카테고리 + 작성자)
+ */
+@Data
+public class PostDetailQueryDto {
+    private Long postId;
+    private String title;
+    private String content;
+    private String category;
+    private int viewCount;
+    private int reportCount;
+    private LocalDateTime createdAt;
+    private boolean isDeleted;
+
+    private String authorNickname;
+    private String authorProfile;
+    private boolean isAuthorDeleted;
+
+    public PostDetailQueryDto(Long postId, String title, String content, String category,
+                              int viewCount, int reportCount, LocalDateTime createdAt, boolean isDeleted,
+                              String authorNickname, String authorProfile, boolean isAuthorDeleted) {
+        this.postId = postId;
+        this.title = title;
+        this.content = content;
+        this.category = category;
+        this.viewCount = viewCount;
+        this.reportCount = reportCount;
+        this.createdAt = createdAt;
+        this.isDeleted = isDeleted;
+        this.authorNickname = authorNickname;
+        this.authorProfile = authorProfile;
+        this.isAuthorDeleted = isAuthorDeleted;
+    }
+}
@@ -16,11 +16,14 @@ public class PostDetailResponse {
     private int viewCount;
     private int reportCount;
     private LocalDateTime createTime;
+    private long likeCount;
+    private boolean isLikedByMe;
 
     private PostAuthorResponse postAuthorResponse;
 
-    private List<String> likerEmailsResponse = new ArrayList<>();
     private List<PostFileResponse> filesResponse = new ArrayList<>();
     private List<PostAreaResponse> interestsResponse = new ArrayList<>();
-    private List<CommentResponse> commentsResponse = new ArrayList<>();
+    private List<CommentResponse> commentsResponse = new ArrayList<>(); // 댓글 첫 페이지
+    private boolean hasNextComments;
+    private Long nextCommentCursor;
 }
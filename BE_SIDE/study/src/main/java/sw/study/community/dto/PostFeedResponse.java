@@ -0,0 +1,17 @@
+package sw.study.community.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class PostFeedResponse {
+    private List<PostSummaryResponse> posts = new ArrayList<>();
+    private boolean hasNext;
+
+    // 다음 페이지 요청 시 그대로 전달하는 커서 (마지막 게시글의 작성일, ID)
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+}
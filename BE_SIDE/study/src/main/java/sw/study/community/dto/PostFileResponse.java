@@ -5,8 +5,10 @@ import lombok.Data;
 @Data
 public class PostFileResponse {
     String url;
+    String thumbnailUrl; // 목록/미리보기용 (아직 없으면 원본 URL)
 
-    public PostFileResponse(String url) {
+    public PostFileResponse(String url, String thumbnailUrl) {
         this.url = url;
+        this.thumbnailUrl = thumbnailUrl != null ? thumbnailUrl : url;
     }
 }
@@ -0,0 +1,12 @@
+package sw.study.community.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class PostSearchResponse {
+    private List<PostSummaryResponse> posts = new ArrayList<>(); // 검색 점수 순
+    private boolean hasNext;
+}
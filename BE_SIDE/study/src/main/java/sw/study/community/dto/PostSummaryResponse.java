@@ -0,0 +1,29 @@
+package sw.study.community.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class PostSummaryResponse {
+    private Long postId;
+    private String title;
+    private String category;
+    private String authorNickname;
+    private int viewCount;
+    private long likeCount;
+    private long commentCount;
+    private LocalDateTime createTime;
+
+    public PostSummaryResponse(Long postId, String title, String category, String authorNickname,
+                               int viewCount, long likeCount, long commentCount, LocalDateTime createTime) {
+        this.postId = postId;
+        this.title = title;
+        this.category = category;
+        this.authorNickname = authorNickname;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.createTime = createTime;
+    }
+}
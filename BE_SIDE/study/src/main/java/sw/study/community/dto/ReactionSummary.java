@@ -0,0 +1,11 @@
+package sw.study.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReactionSummary {
+    private long likeCount;
+    private boolean isLikedByMe;
+}
@@ -0,0 +1,25 @@
+package sw.study.community.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import sw.study.community.domain.ImageOwnerType;
+
+/**
+ * 이미지가 업로드되어 게시글 첨부 파일/프로필 사진으로 저장되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImageUploadedEvent {
+    private final ImageOwnerType ownerType;
+    private final Long ownerId; // PostFile ID 또는 회원 ID
+    private final Long postId;  // 게시글 첨부 파일인 경우 게시글 ID (캐시 삭제용)
+    private final String url;
+
+    public static ImageUploadedEvent postFile(Long postFileId, Long postId, String url) {
+        return new ImageUploadedEvent(ImageOwnerType.POST_FILE, postFileId, postId, url);
+    }
+
+    public static ImageUploadedEvent memberProfile(Long memberId, String url) {
+        return new ImageUploadedEvent(ImageOwnerType.MEMBER_PROFILE, memberId, null, url);
+    }
+}
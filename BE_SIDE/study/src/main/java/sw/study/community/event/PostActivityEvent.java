@@ -0,0 +1,14 @@
+package sw.study.community.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글에 조회, 좋아요, 댓글, 신고 등의 활동이 있을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostActivityEvent {
+    private final Long postId;
+    private final PostActivityType type;
+}
@@ -0,0 +1,13 @@
+package sw.study.community.event;
+
+/**
+ * 게시글 활동 종류
+ */
+public enum PostActivityType {
+    VIEW,
+    LIKE,
+    CANCEL_LIKE,
+    COMMENT,
+    DELETE_COMMENT,
+    REPORT
+}
@@ -0,0 +1,14 @@
+package sw.study.community.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 생성/삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+    private final Long postId;
+    private final boolean deleted;
+}
@@ -0,0 +1,18 @@
+package sw.study.community.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import sw.study.community.domain.ReactionTargetType;
+
+/**
+ * 좋아요/좋아요 취소가 Redis 에 반영되었을 때 발행되는 이벤트
+ * DB(PostLike, CommentLike) 반영은 이 이벤트를 받아 비동기로 처리한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReactionChangedEvent {
+    private final ReactionTargetType targetType;
+    private final Long targetId;
+    private final Long memberId;
+    private final boolean liked;
+}
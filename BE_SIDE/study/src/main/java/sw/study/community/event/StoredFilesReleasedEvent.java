@@ -0,0 +1,26 @@
+package sw.study.community.event;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 더 이상 참조하지 않는 S3 파일(프로필 사진, 게시글 첨부 파일 등)이 생겼을 때 발행되는 이벤트
+ * 커밋된 뒤에 참조를 해제하므로, 트랜잭션이 롤백되면 파일은 그대로 남는다.
+ */
+@Getter
+public class StoredFilesReleasedEvent {
+    private final List<String> urls;
+
+    public StoredFilesReleasedEvent(List<String> urls) {
+        // 기본 사진("")이나 아직 만들어지지 않은 썸네일(null)은 제외
+        this.urls = urls.stream()
+                .filter(url -> url != null && !url.isBlank())
+                .toList();
+    }
+
+    public static StoredFilesReleasedEvent of(String... urls) {
+        return new StoredFilesReleasedEvent(Arrays.asList(urls));
+    }
+}
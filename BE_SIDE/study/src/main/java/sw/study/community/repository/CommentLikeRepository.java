@@ -1,12 +1,26 @@
 package sw.study.community.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sw.study.community.domain.Comment;
 import sw.study.community.domain.CommentLike;
 import sw.study.user.domain.Member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     Optional<CommentLike> findByCommentAndMember(Comment comment, Member member);
+    boolean existsByComment_IdAndMember_Id(Long commentId, Long memberId);
+
+    // [댓글 ID, 회원 ID]
+    @Query("select cl.comment.id, cl.member.id from CommentLike cl where cl.comment.id in :commentIds")
+    List<Object[]> findMemberIdsByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query("delete from CommentLike cl where cl.comment.id = :commentId and cl.member.id = :memberId")
+    int deleteByCommentIdAndMemberId(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
 }
@@ -0,0 +1,63 @@
+package sw.study.community.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import sw.study.community.dto.CommentQueryDto;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 스레드 조회 전용 리포지토리
+ * (post_id, depth, path, comment_id) 순서의 인덱스를 따라 커서 이후의 댓글을 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentQueryRepository {
+    private final EntityManager em;
+
+    /**
+     * 같은 부모(path)를 가진 댓글을 ID 순으로 limit 개 조회
+     * 커서가 없으면 처음부터 조회한다.
+     */
+    public List<CommentQueryDto> findThread(Long postId, int depth, String path, Long cursorId, int limit) {
+        return em.createQuery(
+                        "select new sw.study.community.dto.CommentQueryDto(" +
+                                " c.id, parent.id, c.content, c.level, c.isDeleted," +
+                                " m.nickname, coalesce(m.profileThumbnail, m.profile), m.isDeleted)" +
+                                " from Comment c" +
+                                " left join c.parent parent" +
+                                " join c.member m" +
+                                " where c.post.id = :postId" +
+                                " and c.depth = :depth" +
+                                " and c.path = :path" +
+                                " and c.id > :cursorId" +
+                                " order by c.id", CommentQueryDto.class)
+                .setParameter("postId", postId)
+                .setParameter("depth", depth)
+                .setParameter("path", path)
+                .setParameter("cursorId", cursorId != null ? cursorId : 0L)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 댓글별 대댓글 수
+    public Map<Long, Long> countReplies(Collection<Long> parentIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (parentIds.isEmpty()) {
+            return counts;
+        }
+
+        em.createQuery(
+                        "select c.parent.id, count(c) from Comment c" +
+                                " where c.parent.id in :parentIds" +
+                                " group by c.parent.id", Object[].class)
+                .setParameter("parentIds", parentIds)
+                .getResultList()
+                .forEach(row -> counts.put((Long) row[0], (Long) row[1]));
+        return counts;
+    }
+}
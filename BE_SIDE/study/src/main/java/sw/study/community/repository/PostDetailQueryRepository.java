@@ -0,0 +1,57 @@
+package sw.study.community.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import sw.study.community.dto.PostAreaResponse;
+import sw.study.community.dto.PostDetailQueryDto;
+import sw.study.community.dto.PostFileResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 상세 조회 전용 리포지토리
+ * 엔티티 그래프를 순회하지 않고, 필요한 컬럼만 DTO 로 바로 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostDetailQueryRepository {
+    private final EntityManager em;
+
+    // 게시글 + 카테고리 + 작성자 (프로필은 썸네일 우선)
+    public Optional<PostDetailQueryDto> findPostDetail(Long postId) {
+        return em.createQuery(
+                        "select new sw.study.community.dto.PostDetailQueryDto(" +
+                                " p.id, p.title, p.content, c.name, p.viewCount, p.reportCount, p.createdAt, p.isDeleted," +
+                                " m.nickname, coalesce(m.profileThumbnail, m.profile), m.isDeleted)" +
+                                " from Post p" +
+                                " join p.category c" +
+                                " join p.member m" +
+                                " where p.id = :postId", PostDetailQueryDto.class)
+                .setParameter("postId", postId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    // 첨부 파일
+    public List<PostFileResponse> findPostFiles(Long postId) {
+        return em.createQuery(
+                        "select new sw.study.community.dto.PostFileResponse(f.url, f.thumbnailUrl) from PostFile f" +
+                                " where f.post.id = :postId" +
+                                " order by f.id", PostFileResponse.class)
+                .setParameter("postId", postId)
+                .getResultList();
+    }
+
+    // 게시글 관심 분야
+    public List<PostAreaResponse> findPostAreas(Long postId) {
+        return em.createQuery(
+                        "select new sw.study.community.dto.PostAreaResponse(a.level, a.areaName) from PostArea pa" +
+                                " join pa.area a" +
+                                " where pa.post.id = :postId" +
+                                " order by pa.id", PostAreaResponse.class)
+                .setParameter("postId", postId)
+                .getResultList();
+    }
+}
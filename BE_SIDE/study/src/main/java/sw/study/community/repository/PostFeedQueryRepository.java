@@ -0,0 +1,80 @@
+package sw.study.community.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import sw.study.community.dto.PostSummaryResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 목록(피드) 조회 전용 리포지토리
+ * (createdAt, post_id) 기준 키셋 페이지네이션으로 OFFSET, COUNT 없이 다음 페이지를 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostFeedQueryRepository {
+    private static final String SUMMARY_SELECT =
+            "select new sw.study.community.dto.PostSummaryResponse(" +
+                    " p.id, p.title, c.name, m.nickname, p.viewCount," +
+                    " (select count(pl) from PostLike pl where pl.post = p)," +
+                    " (select count(cm) from Comment cm where cm.post = p and cm.isDeleted = false)," +
+                    " p.createdAt)" +
+                    " from Post p" +
+                    " join p.category c" +
+                    " join p.member m";
+
+    private final EntityManager em;
+
+    /**
+     * 커서 이후의 게시글을 최신순으로 limit 개 조회
+     * 커서가 없으면 첫 페이지를 조회한다.
+     */
+    public List<PostSummaryResponse> findFeed(String category, List<String> areas,
+                                              LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        StringBuilder jpql = new StringBuilder(SUMMARY_SELECT + " where p.isDeleted = false");
+
+        if (category != null) {
+            jpql.append(" and c.name = :category");
+        }
+        if (areas != null && !areas.isEmpty()) {
+            jpql.append(" and exists (select pa.id from PostArea pa join pa.area a" +
+                    " where pa.post = p and a.areaName in :areas)");
+        }
+        if (cursorCreatedAt != null && cursorId != null) {
+            jpql.append(" and (p.createdAt < :cursorCreatedAt" +
+                    " or (p.createdAt = :cursorCreatedAt and p.id < :cursorId))");
+        }
+        jpql.append(" order by p.createdAt desc, p.id desc");
+
+        TypedQuery<PostSummaryResponse> query = em.createQuery(jpql.toString(), PostSummaryResponse.class);
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (areas != null && !areas.isEmpty()) {
+            query.setParameter("areas", areas);
+        }
+        if (cursorCreatedAt != null && cursorId != null) {
+            query.setParameter("cursorCreatedAt", cursorCreatedAt);
+            query.setParameter("cursorId", cursorId);
+        }
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * ID 목록에 해당하는 삭제되지 않은 게시글 요약 (순서는 보장하지 않음)
+     */
+    public List<PostSummaryResponse> findSummaries(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        return em.createQuery(SUMMARY_SELECT + " where p.id in :postIds and p.isDeleted = false", PostSummaryResponse.class)
+                .setParameter("postIds", postIds)
+                .getResultList();
+    }
+}
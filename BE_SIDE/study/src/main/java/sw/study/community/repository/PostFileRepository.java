@@ -0,0 +1,16 @@
+package sw.study.community.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sw.study.community.domain.PostFile;
+
+public interface PostFileRepository extends JpaRepository<PostFile, Long> {
+
+    // 원본이 그대로이고 삭제되지 않았으며 썸네일이 아직 없는 경우에만 썸네일 저장
+    @Modifying
+    @Query("update PostFile f set f.thumbnailUrl = :thumbnailUrl" +
+            " where f.id = :id and f.url = :url and f.isDeleted = false and f.thumbnailUrl is null")
+    int updateThumbnailUrl(@Param("id") Long id, @Param("url") String url, @Param("thumbnailUrl") String thumbnailUrl);
+}
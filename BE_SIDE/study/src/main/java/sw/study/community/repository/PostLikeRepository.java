@@ -1,14 +1,28 @@
 package sw.study.community.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sw.study.community.domain.Post;
 import sw.study.community.domain.PostLike;
 import sw.study.user.domain.Member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     boolean existsByPostAndMember(Post post, Member member);
     Optional<PostLike> findByPostAndMember(Post post, Member member);
+    boolean existsByPost_IdAndMember_Id(Long postId, Long memberId);
+
+    // [게시글 ID, 회원 ID]
+    @Query("select pl.post.id, pl.member.id from PostLike pl where pl.post.id in :postIds")
+    List<Object[]> findMemberIdsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("delete from PostLike pl where pl.post.id = :postId and pl.member.id = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 }
@@ -0,0 +1,32 @@
+package sw.study.community.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sw.study.community.domain.StoredFile;
+
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByDigest(String digest);
+
+    // 이미 같은 내용이 등록되어 있다면 참조 수만 증가
+    @Modifying
+    @Query(value = "insert into stored_file (digest, url, ref_count, created_at) values (:digest, :url, 1, now())" +
+            " on duplicate key update ref_count = ref_count + 1", nativeQuery = true)
+    int register(@Param("digest") String digest, @Param("url") String url);
+
+    @Modifying
+    @Query("update StoredFile f set f.refCount = f.refCount + 1 where f.url = :url")
+    int incrementRefCount(@Param("url") String url);
+
+    @Modifying
+    @Query("update StoredFile f set f.refCount = f.refCount - 1 where f.url = :url and f.refCount > 0")
+    int decrementRefCount(@Param("url") String url);
+
+    @Modifying
+    @Query("delete from StoredFile f where f.url = :url and f.refCount = 0")
+    int deleteUnreferenced(@Param("url") String url);
+}
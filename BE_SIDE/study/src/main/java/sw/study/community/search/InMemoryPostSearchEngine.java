@@ -0,0 +1,307 @@
+package sw.study.community.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 애플리케이션 메모리 안의 역색인 검색 엔진 (기본값)
+ * 토큰마다 (문서 번호, 출현 횟수) 를 원시 배열로 저장해 100만 건 규모에서도 박싱 없이 동작한다.
+ * 삭제/수정된 문서는 지우지 않고 표시만 해두고, 표시된 문서가 COMPACT_MIN_REMOVED 개 이상이면서 살아있는 문서보다 많아지면
+ * 문서 번호를 다시 매겨 역색인에서 걷어낸다.
+ * 색인은 노드마다 따로 있고 그 노드에서 커밋된 게시글 변경만 반영되므로, 여러 노드로 실행할 때는 search.engine=mariadb 를 사용해야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 2; // 제목 토큰은 두 번 센다.
+    private static final double RECENCY_WEIGHT = 1.0;
+    private static final double RECENCY_HALF_LIFE_DAYS = 30.0;
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final int COMPACT_MIN_REMOVED = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> index = new HashMap<>();
+    private final Map<Long, Integer> docByPostId = new HashMap<>();
+
+    // 문서 번호별 정보
+    private long[] postIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private long[] createdAts = new long[1024]; // epoch second
+    private String[] categories = new String[1024];
+    private String[][] areas = new String[1024][];
+    private final BitSet removed = new BitSet();
+    private int removedCount;
+
+    private int docCount; // 지금까지 부여한 문서 번호 수 (삭제 포함)
+    private int liveDocCount;
+    private long liveTotalLength;
+
+    @Override
+    public void index(PostSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : KoreanBigramTokenizer.tokenize(document.getTitle())) {
+            frequencies.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : KoreanBigramTokenizer.tokenize(document.getContent())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getPostId());
+
+            int doc = docCount++;
+            ensureCapacity(doc + 1);
+            postIds[doc] = document.getPostId();
+            docLengths[doc] = length;
+            createdAts[doc] = document.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+            categories[doc] = document.getCategory() != null ? document.getCategory().intern() : null;
+            areas[doc] = document.getAreas() != null ? document.getAreas().toArray(String[]::new) : new String[0];
+
+            frequencies.forEach((term, frequency) -> index.computeIfAbsent(term, key -> new Postings()).add(doc, frequency));
+            docByPostId.put(document.getPostId(), doc);
+            liveDocCount++;
+            liveTotalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            docByPostId.clear();
+            removed.clear();
+            removedCount = 0;
+            docCount = 0;
+            liveDocCount = 0;
+            liveTotalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        lock.readLock().lock();
+        try {
+            return liveDocCount == 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PostSearchHit> search(PostSearchQuery query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : KoreanBigramTokenizer.tokenize(query.getKeyword())) {
+            if (terms.size() == MAX_QUERY_TERMS) {
+                break;
+            }
+            terms.add(token);
+        }
+        int limit = query.getOffset() + query.getLimit();
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // 검색어 토큰의 절반 이상이 들어있는 문서만 결과로 인정
+        int minimumMatch = Math.max(1, (terms.size() + 1) / 2);
+        Set<String> areaFilter = query.getAreas() != null ? new HashSet<>(query.getAreas()) : Set.of();
+        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+
+        lock.readLock().lock();
+        try {
+            if (liveDocCount == 0) {
+                return List.of();
+            }
+
+            double averageLength = (double) liveTotalLength / liveDocCount;
+            float[] scores = new float[docCount];
+            byte[] matches = new byte[docCount];
+            int[] touched = new int[16];
+            int touchedCount = 0;
+
+            for (String term : terms) {
+                Postings postings = index.get(term);
+                if (postings == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (liveDocCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    int doc = postings.docs[i];
+                    if (removed.get(doc)) {
+                        continue;
+                    }
+
+                    int frequency = postings.frequencies[i];
+                    double norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    if (matches[doc] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = doc;
+                    }
+                    scores[doc] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                    matches[doc]++;
+                }
+            }
+
+            PriorityQueue<PostSearchHit> topHits = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(PostSearchHit::getScore));
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (matches[doc] < minimumMatch || !matchesFilter(doc, query.getCategory(), areaFilter)) {
+                    continue;
+                }
+
+                double ageDays = Math.max(0, now - createdAts[doc]) / 86400.0;
+                double score = scores[doc] + RECENCY_WEIGHT * Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+                topHits.offer(new PostSearchHit(postIds[doc], score));
+                if (topHits.size() > limit) {
+                    topHits.poll();
+                }
+            }
+
+            List<PostSearchHit> hits = new ArrayList<>(topHits);
+            hits.sort(Comparator.comparingDouble(PostSearchHit::getScore).reversed());
+            return hits.subList(Math.min(query.getOffset(), hits.size()), hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matchesFilter(int doc, String category, Set<String> areaFilter) {
+        if (category != null && !category.equals(categories[doc])) {
+            return false;
+        }
+        if (areaFilter.isEmpty()) {
+            return true;
+        }
+        for (String area : areas[doc]) {
+            if (areaFilter.contains(area)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeInternal(Long postId) {
+        Integer doc = docByPostId.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        removed.set(doc);
+        removedCount++;
+        liveDocCount--;
+        liveTotalLength -= docLengths[doc];
+
+        if (removedCount >= COMPACT_MIN_REMOVED && removedCount > liveDocCount) {
+            compact();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 걷어내고 살아있는 문서에 번호를 앞에서부터 다시 매긴다. (쓰기 잠금 안에서 호출)
+     */
+    private void compact() {
+        int[] newDocs = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (removed.get(doc)) {
+                newDocs[doc] = -1;
+                continue;
+            }
+            newDocs[doc] = next;
+            postIds[next] = postIds[doc];
+            docLengths[next] = docLengths[doc];
+            createdAts[next] = createdAts[doc];
+            categories[next] = categories[doc];
+            areas[next] = areas[doc];
+            next++;
+        }
+        Arrays.fill(categories, next, docCount, null);
+        Arrays.fill(areas, next, docCount, null);
+
+        index.values().removeIf(postings -> postings.renumber(newDocs) == 0);
+        docByPostId.replaceAll((postId, doc) -> newDocs[doc]);
+        docCount = next;
+        removed.clear();
+        removedCount = 0;
+    }
+
+    // 테스트용: 지금까지 부여한 문서 번호 수 (삭제 포함)
+    int documentSlots() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= postIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, postIds.length * 2);
+        postIds = Arrays.copyOf(postIds, newCapacity);
+        docLengths = Arrays.copyOf(docLengths, newCapacity);
+        createdAts = Arrays.copyOf(createdAts, newCapacity);
+        categories = Arrays.copyOf(categories, newCapacity);
+        areas = Arrays.copyOf(areas, newCapacity);
+    }
+
+    // 토큰 하나의 문서 목록
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        // 삭제된 문서(-1)를 빼고 새 번호로 바꾼다. (번호 순서는 유지된다.)
+        private int renumber(int[] newDocs) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = newDocs[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package sw.study.community.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색용 토크나이저
+ * 한글(및 한자/가나)은 형태소 분석 없이 바이그램으로, 영문/숫자는 단어 단위로 자른다.
+ * 예) "스프링 부트 JPA 질문" -> [스프, 프링, 부트, jpa, 질문]
+ */
+public final class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            int start = i;
+            if (isCjk(normalized.charAt(i))) {
+                while (i < length && isCjk(normalized.charAt(i))) {
+                    i++;
+                }
+                addBigrams(normalized, start, i, tokens);
+            } else if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                while (i < length && Character.isLetterOrDigit(normalized.charAt(i)) && !isCjk(normalized.charAt(i))) {
+                    i++;
+                }
+                tokens.add(normalized.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    // 토큰별 출현 횟수 (입력 순서 유지)
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        // 한 글자짜리 단어는 그대로 사용
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,115 @@
+package sw.study.community.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MariaDB FULLTEXT 검색 엔진 (search.engine=mariadb)
+ * MariaDB 에는 MySQL 의 ngram 파서가 없으므로, KoreanBigramTokenizer 로 자른 토큰을 별도 테이블에 공백으로 이어 저장하고
+ * 기본 FULLTEXT 파서로 색인한다. 2글자 바이그램이 innodb_ft_min_token_size(기본 3) 에 걸리지 않도록 토큰 앞에 접두어를 붙인다.
+ * 점수는 InnoDB 의 관련도(TF-IDF 계열) + 최신성 가중치다.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "mariadb")
+@RequiredArgsConstructor
+public class MariaDbPostSearchEngine implements PostSearchEngine {
+    private static final String TOKEN_PREFIX = "t";
+    private static final int TITLE_BOOST = 2;
+    private static final double RECENCY_WEIGHT = 1.0;
+    private static final double RECENCY_HALF_LIFE_DAYS = 30.0;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("create table if not exists post_search_index (" +
+                " post_id bigint not null primary key," +
+                " tokens mediumtext not null," +
+                " fulltext key ft_post_search_tokens (tokens)" +
+                ") engine = InnoDB default charset = utf8mb4");
+    }
+
+    @Override
+    public void index(PostSearchDocument document) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : KoreanBigramTokenizer.tokenize(document.getTitle())) {
+            for (int i = 0; i < TITLE_BOOST; i++) {
+                tokens.add(TOKEN_PREFIX + token);
+            }
+        }
+        for (String token : KoreanBigramTokenizer.tokenize(document.getContent())) {
+            tokens.add(TOKEN_PREFIX + token);
+        }
+
+        jdbcTemplate.update("insert into post_search_index (post_id, tokens) values (?, ?)" +
+                " on duplicate key update tokens = values(tokens)", document.getPostId(), String.join(" ", tokens));
+    }
+
+    @Override
+    public void remove(Long postId) {
+        jdbcTemplate.update("delete from post_search_index where post_id = ?", postId);
+    }
+
+    @Override
+    public void clear() {
+        jdbcTemplate.execute("truncate table post_search_index");
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("select post_id from post_search_index limit 1", Long.class).isEmpty();
+    }
+
+    @Override
+    public List<PostSearchHit> search(PostSearchQuery query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : KoreanBigramTokenizer.tokenize(query.getKeyword())) {
+            terms.add(TOKEN_PREFIX + token);
+        }
+        if (terms.isEmpty() || query.getLimit() <= 0) {
+            return List.of();
+        }
+        String against = String.join(" ", terms);
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(
+                "select s.post_id, match(s.tokens) against (? in natural language mode)" +
+                        " + ? * pow(0.5, timestampdiff(second, p.created_at, now()) / 86400 / ?) as score" +
+                        " from post_search_index s" +
+                        " join post p on p.post_id = s.post_id" +
+                        " join category c on c.category_id = p.category_id" +
+                        " where match(s.tokens) against (? in natural language mode)" +
+                        " and p.is_deleted = false");
+        args.add(against);
+        args.add(RECENCY_WEIGHT);
+        args.add(RECENCY_HALF_LIFE_DAYS);
+        args.add(against);
+
+        if (query.getCategory() != null) {
+            sql.append(" and c.name = ?");
+            args.add(query.getCategory());
+        }
+        if (query.getAreas() != null && !query.getAreas().isEmpty()) {
+            sql.append(" and exists (select 1 from post_area pa join area a on a.area_id = pa.interest_area_id" +
+                    " where pa.post_id = s.post_id and a.area_name in (")
+                    .append(String.join(", ", query.getAreas().stream().map(area -> "?").toList()))
+                    .append("))");
+            args.addAll(query.getAreas());
+        }
+        sql.append(" order by score desc limit ? offset ?");
+        args.add(query.getLimit());
+        args.add(query.getOffset());
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new PostSearchHit(rs.getLong("post_id"), rs.getDouble("score")),
+                args.toArray());
+    }
+}
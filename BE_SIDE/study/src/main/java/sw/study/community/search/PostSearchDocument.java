@@ -0,0 +1,21 @@
+package sw.study.community.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색 색인 대상 게시글
+ */
+@Data
+@AllArgsConstructor
+public class PostSearchDocument {
+    private Long postId;
+    private String title;
+    private String content;
+    private String category;
+    private List<String> areas;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,67 @@
+package sw.study.community.search;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 검색 색인용 게시글 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchDocumentRepository {
+    private final EntityManager em;
+
+    // 삭제되지 않은 게시글
+    public List<PostSearchDocument> findDocuments(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        return toDocuments(em.createQuery(
+                        "select p.id, p.title, p.content, c.name, p.createdAt from Post p" +
+                                " join p.category c" +
+                                " where p.id in :postIds and p.isDeleted = false", Object[].class)
+                .setParameter("postIds", postIds)
+                .getResultList());
+    }
+
+    // 전체 색인용: lastPostId 이후의 삭제되지 않은 게시글을 ID 순으로 limit 개
+    public List<PostSearchDocument> findDocumentsAfter(Long lastPostId, int limit) {
+        return toDocuments(em.createQuery(
+                        "select p.id, p.title, p.content, c.name, p.createdAt from Post p" +
+                                " join p.category c" +
+                                " where p.id > :lastPostId and p.isDeleted = false" +
+                                " order by p.id", Object[].class)
+                .setParameter("lastPostId", lastPostId)
+                .setMaxResults(limit)
+                .getResultList());
+    }
+
+    private List<PostSearchDocument> toDocuments(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = rows.stream().map(row -> (Long) row[0]).toList();
+        Map<Long, List<String>> areas = new HashMap<>();
+        em.createQuery(
+                        "select pa.post.id, a.areaName from PostArea pa" +
+                                " join pa.area a" +
+                                " where pa.post.id in :postIds", Object[].class)
+                .setParameter("postIds", postIds)
+                .getResultList()
+                .forEach(row -> areas.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]));
+
+        List<PostSearchDocument> documents = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long postId = (Long) row[0];
+            documents.add(new PostSearchDocument(postId, (String) row[1], (String) row[2], (String) row[3],
+                    areas.getOrDefault(postId, List.of()), (LocalDateTime) row[4]));
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,35 @@
+package sw.study.community.search;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 엔진
+ * search.engine 설정으로 구현체를 고른다. (memory: 애플리케이션 내 역색인, mariadb: MariaDB FULLTEXT)
+ */
+public interface PostSearchEngine {
+
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 갱신)
+     */
+    void index(PostSearchDocument document);
+
+    /**
+     * 게시글 색인 삭제
+     */
+    void remove(Long postId);
+
+    /**
+     * 전체 색인 초기화
+     */
+    void clear();
+
+    /**
+     * 색인된 게시글이 하나도 없는지 (시작 시 전체 색인이 필요한지 판단)
+     */
+    boolean isEmpty();
+
+    /**
+     * 점수(BM25 + 최신성) 내림차순 검색
+     */
+    List<PostSearchHit> search(PostSearchQuery query);
+}
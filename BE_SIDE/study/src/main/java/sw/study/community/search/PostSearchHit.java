@@ -0,0 +1,11 @@
+package sw.study.community.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PostSearchHit {
+    private Long postId;
+    private double score;
+}
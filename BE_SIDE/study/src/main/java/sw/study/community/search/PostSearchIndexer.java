@@ -0,0 +1,64 @@
+package sw.study.community.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sw.study.community.event.PostChangedEvent;
+
+import java.util.List;
+
+/**
+ * 검색 색인 갱신
+ * 색인이 비어 있으면 애플리케이션 시작 시 전체 게시글을 색인하고, 이후에는 게시글 생성/삭제가 커밋될 때마다 해당 게시글만 갱신한다.
+ * (memory 엔진은 시작할 때마다 비어 있으므로 매번 색인하고, 테이블에 남아 있는 mariadb 엔진의 색인은 다시 만들지 않는다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer {
+    private static final int BATCH_SIZE = 1000;
+
+    private final PostSearchEngine postSearchEngine;
+    private final PostSearchDocumentRepository postSearchDocumentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!postSearchEngine.isEmpty()) {
+            log.info("게시글 검색 색인 유지 (이미 색인됨)");
+            return;
+        }
+        postSearchEngine.clear();
+
+        long lastPostId = 0;
+        int count = 0;
+        List<PostSearchDocument> documents;
+        do {
+            documents = postSearchDocumentRepository.findDocumentsAfter(lastPostId, BATCH_SIZE);
+            for (PostSearchDocument document : documents) {
+                postSearchEngine.index(document);
+                lastPostId = document.getPostId();
+            }
+            count += documents.size();
+        } while (documents.size() == BATCH_SIZE);
+
+        log.info("게시글 검색 색인 완료: count = {}", count);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handle(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            postSearchEngine.remove(event.getPostId());
+            return;
+        }
+
+        postSearchDocumentRepository.findDocuments(List.of(event.getPostId()))
+                .forEach(postSearchEngine::index);
+    }
+}
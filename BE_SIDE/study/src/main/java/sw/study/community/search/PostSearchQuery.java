@@ -0,0 +1,16 @@
+package sw.study.community.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class PostSearchQuery {
+    private String keyword;
+    private String category; // null 이면 전체
+    private List<String> areas; // null 이거나 비어있으면 전체
+    private int offset;
+    private int limit;
+}
@@ -0,0 +1,75 @@
+package sw.study.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 첨부 파일 병렬 업로드
+ * 파일마다 uploadExecutor 에서 동시에 S3 에 업로드하고, 하나라도 실패하면 이미 올라간 파일을 지운 뒤 예외를 다시 던진다.
+ * DB 커넥션을 잡지 않도록 트랜잭션 밖에서 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class AttachmentUploader {
+    private final S3Service s3Service;
+    private final Executor uploadExecutor;
+
+    public AttachmentUploader(S3Service s3Service, @Qualifier("uploadExecutor") Executor uploadExecutor) {
+        this.s3Service = s3Service;
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    /**
+     * 파일 업로드
+     * @return 업로드된 파일 URL (files 순서 유지)
+     */
+    public List<String> uploadAll(List<MultipartFile> files, String location) {
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<CompletableFuture<String>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> s3Service.upload(file, location), uploadExecutor))
+                .toList();
+
+        // 실패한 업로드가 있어도 나머지가 끝날 때까지 기다린 뒤 정리
+        RuntimeException failure = null;
+        List<String> urls = new ArrayList<>();
+        for (CompletableFuture<String> upload : uploads) {
+            try {
+                urls.add(upload.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            deleteAll(urls);
+            throw failure;
+        }
+        return urls;
+    }
+
+    /**
+     * 업로드한 파일 삭제 (보상 처리용, 실패해도 예외를 던지지 않는다.)
+     */
+    public void deleteAll(List<String> urls) {
+        for (String url : urls) {
+            try {
+                s3Service.delete(url);
+            } catch (RuntimeException e) {
+                log.warn("업로드 파일 삭제 실패: url = {}", url, e);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package sw.study.community.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sw.study.admin.domain.Report;
@@ -9,15 +10,19 @@ import sw.study.admin.dto.ReportRequest;
 import sw.study.admin.role.ReportStatus;
 import sw.study.admin.service.ReportService;
 import sw.study.community.domain.Comment;
-import sw.study.community.domain.CommentLike;
 import sw.study.community.domain.Post;
+import sw.study.community.domain.ReactionTargetType;
+import sw.study.community.dto.CommentPageResponse;
 import sw.study.community.dto.CommentRequest;
-import sw.study.community.repository.CommentLikeRepository;
+import sw.study.community.event.PostActivityEvent;
+import sw.study.community.event.PostActivityType;
 import sw.study.community.repository.CommentRepository;
 import sw.study.community.repository.PostRepository;
 import sw.study.exception.UserNotFoundException;
+import sw.study.exception.community.CommentDepthExceededException;
 import sw.study.exception.community.CommentNotBelongToPostException;
 import sw.study.exception.community.CommentNotFoundException;
+import sw.study.exception.community.DuplicateLikeException;
 import sw.study.exception.community.LikeNotFoundException;
 import sw.study.exception.community.PostNotFoundException;
 import sw.study.exception.studyGroup.UnauthorizedException;
@@ -32,7 +37,9 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
-    private final CommentLikeRepository commentLikeRepository;
+    private final ReactionService reactionService;
+    private final CommentThreadAssembler commentThreadAssembler;
+    private final ApplicationEventPublisher eventPublisher;
     private final ReportService reportService;
 
     /**
@@ -48,6 +55,8 @@ public class CommentService {
         Comment comment = Comment.createComment(findPost, findMember,
                 commentRequest.getContent(), commentRequest.getLevel());
         commentRepository.save(comment);
+        reactionService.initialize(ReactionTargetType.COMMENT, comment.getId());
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.COMMENT));
         log.info("댓글이 성공적으로 반영: commentId={}, postId={}", comment.getId(), postId);
         return comment.getId();
     }
@@ -57,37 +66,70 @@ public class CommentService {
      */
     @Transactional
     public Long reply(CommentRequest replyRequest, Long postId, Long commentId, Long replierId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다.");
+        }
         Member member = memberRepository.findById(replierId)
                 .orElseThrow(() -> new UserNotFoundException("해당하는 사용자를 찾을 수 없습니다."));
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("해당하는 댓글을 찾을 수 없습니다."));
 
         // 댓글이 해당 게시글에 속하는지 검증
-        if (!post.getComments().contains(comment)) {
+        if (!comment.belongsTo(postId)) {
             throw new CommentNotBelongToPostException("댓글이 해당 게시글에 속하지 않습니다.");
         }
+        if (!comment.canReply()) {
+            throw new CommentDepthExceededException("대댓글은 " + Comment.MAX_DEPTH + "단계까지만 달 수 있습니다.");
+        }
 
         Comment reply = Comment.createReply(comment, member, replyRequest.getContent(), replyRequest.getLevel());
         commentRepository.save(reply);
+        reactionService.initialize(ReactionTargetType.COMMENT, reply.getId());
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.COMMENT));
         log.info("대댓글이 성공적으로 반영: postId={}, commentId={}, replyId={}", postId, comment.getId(), reply.getId());
         return reply.getId();
     }
 
+    /**
+     * 댓글 목록 조회 (페이지 단위)
+     */
+    public CommentPageResponse getComments(Long postId, Long cursorId, int size, Long memberId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다.");
+        }
+
+        return commentThreadAssembler.assemble(postId, 0, "", cursorId, size, memberId);
+    }
+
+    /**
+     * 대댓글 목록 조회 (페이지 단위)
+     */
+    public CommentPageResponse getReplies(Long postId, Long commentId, Long cursorId, int size, Long memberId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new CommentNotFoundException("해당하는 댓글을 찾을 수 없습니다."));
+
+        // 댓글이 해당 게시글에 속하는지 검증
+        if (!comment.belongsTo(postId)) {
+            throw new CommentNotBelongToPostException("댓글이 해당 게시글에 속하지 않습니다.");
+        }
+
+        return commentThreadAssembler.assemble(postId, comment.getDepth() + 1, comment.getChildPath(), cursorId, size, memberId);
+    }
+
     /**
      * 댓글 삭제
      */
     @Transactional
     public void delete(Long postId, Long commentId, Long memberId) {
         // 게시글과 댓글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당 게시글을 찾을 수 없습니다.");
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 댓글을 찾을 수 없습니다."));
 
         // 댓글이 해당 게시글에 속하는지 검증
-        if (!post.getComments().contains(comment)) {
+        if (!comment.belongsTo(postId)) {
             throw new CommentNotBelongToPostException("댓글이 해당 게시글에 속하지 않습니다.");
         }
 
@@ -98,6 +140,7 @@ public class CommentService {
 
         // 댓글 삭제(논리적 삭제)
         comment.deleteComment();
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.DELETE_COMMENT));
         log.info("댓글이 성공적으로 삭제(논리적): commentId={}, postId={}", comment.getId(), postId);
     }
 
@@ -107,21 +150,21 @@ public class CommentService {
     @Transactional
     public void addLike(Long postId, Long commentId, Long memberId) {
         // 게시글, 댓글, 좋아요를 누른 사람 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당 게시글을 찾을 수 없습니다.");
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 댓글을 찾을 수 없습니다."));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new UserNotFoundException("해당하는 사용자를 찾을 수 없습니다."));
 
         // 댓글이 해당 게시글에 속하는지 검증
-        if (!post.getComments().contains(comment)) {
+        if (!comment.belongsTo(postId)) {
             throw new CommentNotBelongToPostException("댓글이 해당 게시글에 속하지 않습니다.");
         }
 
-        // 댓글 좋아요
-        CommentLike commentLike = CommentLike.createCommentLike(comment, member);
-        commentLikeRepository.save(commentLike);
+        // 댓글 좋아요 (DB 반영은 비동기)
+        if (!reactionService.like(ReactionTargetType.COMMENT, commentId, memberId)) {
+            throw new DuplicateLikeException("이미 좋아요를 눌렀습니다.");
+        }
         log.info("댓글에 성공적으로 좋아요: commentId={}, postId={}, memberId={}", commentId, postId, memberId);
     }
 
@@ -131,23 +174,21 @@ public class CommentService {
     @Transactional
     public void cancelLike(Long postId, Long commentId, Long memberId) {
         // 게시글, 댓글, 좋아요를 취소하려는 사람, 해당 좋아요 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당 게시글을 찾을 수 없습니다.");
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 댓글을 찾을 수 없습니다."));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new UserNotFoundException("해당하는 사용자를 찾을 수 없습니다."));
-        CommentLike commentLike = commentLikeRepository.findByCommentAndMember(comment, member)
-                .orElseThrow(() -> new LikeNotFoundException("좋아요가 존재하지 않습니다"));
 
         // 댓글이 해당 게시글에 속하는지 검증
-        if (!post.getComments().contains(comment)) {
+        if (!comment.belongsTo(postId)) {
             throw new CommentNotBelongToPostException("댓글이 해당 게시글에 속하지 않습니다.");
         }
 
-        // 좋아요 취소
-        comment.deletedCommentLike(commentLike);
-        commentLikeRepository.delete(commentLike);
+        // 좋아요 취소 (DB 반영은 비동기)
+        if (!reactionService.unlike(ReactionTargetType.COMMENT, commentId, memberId)) {
+            throw new LikeNotFoundException("좋아요가 존재하지 않습니다");
+        }
         log.info("댓글에 성공적으로 좋아요 취소: commentId={}, postId={}, memberId={}", commentId, postId, memberId);
     }
 
@@ -157,26 +198,23 @@ public class CommentService {
     @Transactional
     public void cancelReplyLike(Long postId, Long commentId, Long replyId, Long cancelerId) {
         // 게시글, 댓글, 대댓글, 좋아요를 취소하려는 사람 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당 게시글을 찾을 수 없습니다.");
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 댓글을 찾을 수 없습니다."));
         Comment reply = commentRepository.findById(replyId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 대댓글을 찾을 수 없습니다."));
 
-        Member member = memberRepository.findById(cancelerId)
-                .orElseThrow(() -> new UserNotFoundException("해당 사용자를 찾을 수 없습니다."));
-        CommentLike commentLike = commentLikeRepository.findByCommentAndMember(reply, member)
-                .orElseThrow(() -> new LikeNotFoundException("좋아요가 존재하지 않습니다"));
-
         // 댓글이 해당 게시글에 속하는지 검증
-        if (!post.getComments().contains(comment) || !comment.getChild().contains(reply)) {
+        if (!comment.belongsTo(postId) || !reply.isReplyOf(comment)) {
             throw new CommentNotBelongToPostException("대댓글이 해당 게시글에 속하지 않거나, 댓글에 속하지 않습니다.");
         }
 
-        // 대댓글 좋아요 취소
-        reply.deletedCommentLike(commentLike);
-        commentLikeRepository.delete(commentLike);
+        // 대댓글 좋아요 취소 (DB 반영은 비동기)
+        if (!reactionService.unlike(ReactionTargetType.COMMENT, replyId, cancelerId)) {
+            throw new LikeNotFoundException("좋아요가 존재하지 않습니다");
+        }
         log.info("대댓글에 성공적으로 좋아요 취소: replyId={}, commentId={}, postId={}, memberId={}", replyId, commentId, postId, cancelerId);
     }
 
@@ -186,8 +224,9 @@ public class CommentService {
      */
     @Transactional
     public Long report(ReportRequest reportRequest, Long postId, Long commentId, Long reporterId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다.");
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new PostNotFoundException("해당하는 댓글을 찾을 수 없습니다."));
         Member targetMember = memberRepository.findById(comment.getMember().getId())
@@ -196,7 +235,7 @@ public class CommentService {
                 .orElseThrow(() -> new UserNotFoundException("해당하는 신고자를 찾을 수 없습니다."));
 
         // 댓글이 해당 게시글에 속하는지 검증
-        if (!post.getComments().contains(comment)) {
+        if (!comment.belongsTo(postId)) {
             throw new CommentNotBelongToPostException("댓글이 해당 게시글에 속하지 않습니다.");
         }
 
@@ -220,15 +259,16 @@ public class CommentService {
     @Transactional
     public void deleteReply(Long postId, Long commentId, Long replyId, Long memberId) {
         // 게시글, 댓글, 대댓글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당 게시글을 찾을 수 없습니다.");
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 댓글을 찾을 수 없습니다."));
         Comment reply = commentRepository.findById(replyId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 대댓글을 찾을 수 없습니다."));
 
         // 댓글이 해당 게시글에 속하는지 검증
-        if (!post.getComments().contains(comment) || !comment.getChild().contains(reply)) {
+        if (!comment.belongsTo(postId) || !reply.isReplyOf(comment)) {
             throw new CommentNotBelongToPostException("대댓글이 해당 게시글에 속하지 않거나, 댓글에 속하지 않습니다.");
         }
 
@@ -240,6 +280,7 @@ public class CommentService {
         // 대댓글 삭제(논리적 삭제)
         reply.deleteComment();
         System.out.println("reply.isDeleted() = " + reply.isDeleted());
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.DELETE_COMMENT));
         log.info("대댓글이 성공적으로 삭제(논리적): replyId={}, commentId={}, postId={}", replyId, commentId, postId);
     }
 
@@ -248,22 +289,22 @@ public class CommentService {
      */
     @Transactional
     public void addReplyLike(Long postId, Long commentId, Long replyId, Long likerId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당 게시글을 찾을 수 없습니다.");
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 댓글을 찾을 수 없습니다."));
         Comment reply = commentRepository.findById(replyId)
                 .orElseThrow(() -> new CommentNotFoundException("해당 대댓글을 찾을 수 없습니다."));
-        Member member = memberRepository.findById(likerId)
-                .orElseThrow(() -> new UserNotFoundException("해당 사용자를 찾을 수 없습니다."));
 
-        if (!post.getComments().contains(comment) || !comment.getChild().contains(reply)) {
+        if (!comment.belongsTo(postId) || !reply.isReplyOf(comment)) {
             throw new CommentNotBelongToPostException("대댓글이 해당 게시글에 속하지 않거나, 댓글에 속하지 않습니다.");
         }
 
-        // 대댓글 좋아요
-        CommentLike commentLike = CommentLike.createCommentLike(reply, member);
-        commentLikeRepository.save(commentLike);
+        // 대댓글 좋아요 (DB 반영은 비동기)
+        if (!reactionService.like(ReactionTargetType.COMMENT, replyId, likerId)) {
+            throw new DuplicateLikeException("이미 좋아요를 눌렀습니다.");
+        }
         log.info("대댓글에 성공적으로 좋아요: replyId={}, commentId={}, postId={}, memberId={}", replyId, commentId, postId, likerId);
     }
 
@@ -272,8 +313,9 @@ public class CommentService {
      */
     @Transactional
     public Long reportReply(ReportRequest reportRequest, Long postId, Long commentId, Long replyId, Long reporterId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다.");
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new PostNotFoundException("해당하는 댓글을 찾을 수 없습니다."));
         Comment reply = commentRepository.findById(replyId)
@@ -284,7 +326,7 @@ public class CommentService {
         Member reporter = memberRepository.findById(reporterId)
                 .orElseThrow(() -> new UserNotFoundException("해당하는 신고자를 찾을 수 없습니다."));
 
-        if (!post.getComments().contains(comment) || !comment.getChild().contains(reply)) {
+        if (!comment.belongsTo(postId) || !reply.isReplyOf(comment)) {
             throw new CommentNotBelongToPostException("대댓글이 해당 게시글에 속하지 않거나, 댓글에 속하지 않습니다.");
         }
 
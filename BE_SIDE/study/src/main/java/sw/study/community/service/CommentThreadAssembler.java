@@ -0,0 +1,92 @@
+package sw.study.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sw.study.community.domain.ReactionTargetType;
+import sw.study.community.dto.*;
+import sw.study.community.repository.CommentQueryRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 한 페이지(CommentPageResponse) 조립기
+ * 댓글 조회, 대댓글 수 조회 쿼리 두 번과 좋아요 정보 조회 한 번으로 페이지 크기와 관계없이 조립한다.
+ * 좋아요 정보는 회원마다 다르므로 본문(assembleBody)과 따로 채운다(applyReactions).
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentThreadAssembler {
+    private final CommentQueryRepository commentQueryRepository;
+    private final ReactionService reactionService;
+
+    /**
+     * @param path 부모 댓글의 자식 경로 (댓글이면 "")
+     * @param memberId 조회하는 회원 (로그인하지 않은 경우 null)
+     */
+    public CommentPageResponse assemble(Long postId, int depth, String path, Long cursorId, int size, Long memberId) {
+        CommentPageResponse commentPageResponse = assembleBody(postId, depth, path, cursorId, size);
+        applyReactions(commentPageResponse.getComments(), memberId);
+        return commentPageResponse;
+    }
+
+    /**
+     * 좋아요 정보를 제외한 댓글 페이지 (회원과 무관하므로 캐시할 수 있다.)
+     */
+    public CommentPageResponse assembleBody(Long postId, int depth, String path, Long cursorId, int size) {
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<CommentQueryDto> comments = commentQueryRepository.findThread(postId, depth, path, cursorId, size + 1);
+
+        CommentPageResponse commentPageResponse = new CommentPageResponse();
+        commentPageResponse.setHasNext(comments.size() > size);
+        if (commentPageResponse.isHasNext()) {
+            comments = comments.subList(0, size);
+        }
+
+        Map<Long, CommentResponse> responses = new LinkedHashMap<>();
+        for (CommentQueryDto comment : comments) {
+            responses.put(comment.getCommentId(), toCommentResponse(comment));
+        }
+        commentQueryRepository.countReplies(responses.keySet())
+                .forEach((commentId, replyCount) -> responses.get(commentId).setReplyCount(replyCount));
+
+        commentPageResponse.getComments().addAll(responses.values());
+        if (!comments.isEmpty()) {
+            commentPageResponse.setNextCursor(comments.get(comments.size() - 1).getCommentId());
+        }
+        return commentPageResponse;
+    }
+
+    /**
+     * 댓글 좋아요 수, 좋아요 여부를 한 번의 파이프라인으로 조회해 채운다.
+     */
+    public void applyReactions(List<CommentResponse> comments, Long memberId) {
+        Map<Long, CommentResponse> responses = new LinkedHashMap<>();
+        for (CommentResponse comment : comments) {
+            responses.put(comment.getCommentId(), comment);
+        }
+
+        reactionService.getSummaries(ReactionTargetType.COMMENT, responses.keySet(), memberId)
+                .forEach((commentId, reactionSummary) -> {
+                    CommentResponse commentResponse = responses.get(commentId);
+                    commentResponse.setLikeCount(reactionSummary.getLikeCount());
+                    commentResponse.setLikedByMe(reactionSummary.isLikedByMe());
+                });
+    }
+
+    private CommentResponse toCommentResponse(CommentQueryDto comment) {
+        CommentResponse commentResponse = new CommentResponse();
+        commentResponse.setCommentId(comment.getCommentId());
+        commentResponse.setContent(comment.getContent());
+        commentResponse.setLevel(comment.getLevel());
+        commentResponse.setDeleted(comment.isDeleted());
+
+        CommentAuthorResponse commentAuthorResponse = new CommentAuthorResponse();
+        commentAuthorResponse.setNickname(comment.getAuthorNickname());
+        commentAuthorResponse.setProfile(comment.getAuthorProfile());
+        commentAuthorResponse.setDeleted(comment.isAuthorDeleted());
+        commentResponse.setCommentAuthorResponse(commentAuthorResponse);
+        return commentResponse;
+    }
+}
@@ -0,0 +1,88 @@
+package sw.study.community.service;
+
+import com.amazonaws.services.s3.model.S3Object;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import sw.study.community.domain.ImageOwnerType;
+import sw.study.community.event.ImageUploadedEvent;
+import sw.study.community.repository.PostFileRepository;
+import sw.study.user.repository.MemberRepository;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 업로드된 이미지의 썸네일 생성
+ * 원본이 저장된 트랜잭션이 커밋되면 imageExecutor 에서 원본을 스트림으로 읽어 썸네일을 만들고, S3 에 올린 뒤 URL 을 저장한다.
+ * 썸네일이 만들어지기 전이나 만들지 못한 경우에는 응답에 원본이 그대로 쓰인다.
+ * 썸네일은 내용 기준으로 중복 제거되어 저장되고, 원본이 바뀌거나 삭제될 때 함께 참조를 해제한다. (StoredFilesReleasedEvent)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeListener {
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    private final S3Service s3Service;
+    private final ImageThumbnailGenerator imageThumbnailGenerator;
+    private final PostFileRepository postFileRepository;
+    private final MemberRepository memberRepository;
+    private final PostDetailCache postDetailCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async("imageExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(ImageUploadedEvent event) {
+        if (!isImage(event.getUrl())) {
+            return;
+        }
+
+        try {
+            // 원본은 메모리에 통째로 올리지 않고 S3 에서 스트림으로 읽는다.
+            byte[] thumbnail;
+            try (S3Object original = s3Service.open(event.getUrl())) {
+                thumbnail = imageThumbnailGenerator.createThumbnail(original.getObjectContent(),
+                        original.getObjectMetadata().getContentLength(), event.getOwnerType().getThumbnailSize());
+                if (thumbnail == null) {
+                    original.getObjectContent().abort(); // 남은 내용은 받지 않는다.
+                }
+            }
+            if (thumbnail == null) {
+                return;
+            }
+
+            String location = event.getOwnerType() == ImageOwnerType.POST_FILE ? "post/thumbnail/" : "profile/thumbnail/";
+            String thumbnailUrl = s3Service.upload(thumbnail, location,
+                    ImageThumbnailGenerator.EXTENSION, ImageThumbnailGenerator.CONTENT_TYPE);
+
+            // 그사이 원본이 바뀌었다면 저장하지 않고 썸네일을 지운다.
+            Integer updated = transactionTemplate.execute(status -> event.getOwnerType() == ImageOwnerType.POST_FILE
+                    ? postFileRepository.updateThumbnailUrl(event.getOwnerId(), event.getUrl(), thumbnailUrl)
+                    : memberRepository.updateProfileThumbnail(event.getOwnerId(), event.getUrl(), thumbnailUrl));
+            if (updated == null || updated == 0) {
+                s3Service.delete(thumbnailUrl);
+                return;
+            }
+
+            if (event.getPostId() != null) {
+                postDetailCache.evict(event.getPostId());
+            }
+            log.info("썸네일 생성 완료: owner = {}, ownerId = {}, url = {}", event.getOwnerType(), event.getOwnerId(), thumbnailUrl);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: owner = {}, ownerId = {}, url = {}", event.getOwnerType(), event.getOwnerId(), event.getUrl(), e);
+        }
+    }
+
+    private static boolean isImage(String url) {
+        if (url == null) {
+            return false;
+        }
+        int dot = url.lastIndexOf('.');
+        return dot >= 0 && IMAGE_EXTENSIONS.contains(url.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+}
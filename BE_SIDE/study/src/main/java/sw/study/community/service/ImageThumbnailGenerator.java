@@ -0,0 +1,113 @@
+package sw.study.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 썸네일 생성기
+ * 긴 변이 maxSize 를 넘지 않도록 비율을 유지해 줄이고, JPEG 로 다시 인코딩한다.
+ * (JDK ImageIO 는 WebP 인코딩을 지원하지 않아 JPEG 를 사용한다.)
+ * 업로드된 이미지는 신뢰할 수 없으므로 헤더의 크기를 먼저 확인하고, 썸네일 크기에 맞춰 건너뛰며 읽는다. (작은 파일이 거대한 래스터로 풀리는 것을 막는다.)
+ */
+@Slf4j
+@Component
+public class ImageThumbnailGenerator {
+    public static final String CONTENT_TYPE = "image/jpeg";
+    public static final String EXTENSION = ".jpg";
+    public static final long MAX_PIXELS = 40_000_000L; // 이보다 큰 이미지는 썸네일을 만들지 않는다. (약 40MP)
+    private static final float JPEG_QUALITY = 0.8f;
+
+    /**
+     * @return 썸네일 (이미지가 아니거나, 너무 크거나, 썸네일이 원본보다 크면 null)
+     */
+    public byte[] createThumbnail(byte[] original, int maxSize) throws IOException {
+        return createThumbnail(new ByteArrayInputStream(original), original.length, maxSize);
+    }
+
+    /**
+     * @param original     원본 스트림 (닫지 않는다.)
+     * @param originalSize 원본 크기 (byte)
+     * @return 썸네일 (이미지가 아니거나, 너무 크거나, 썸네일이 원본보다 크면 null)
+     */
+    public byte[] createThumbnail(InputStream original, long originalSize, int maxSize) throws IOException {
+        BufferedImage source;
+        int originalWidth;
+        int originalHeight;
+        try (ImageInputStream input = ImageIO.createImageInputStream(original)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                originalWidth = reader.getWidth(0);
+                originalHeight = reader.getHeight(0);
+                if (originalWidth <= 0 || originalHeight <= 0 || (long) originalWidth * originalHeight > MAX_PIXELS) {
+                    log.info("이미지가 너무 커서 썸네일을 만들지 않음: {} x {}", originalWidth, originalHeight);
+                    return null;
+                }
+
+                // 읽은 결과의 긴 변이 maxSize 보다 작아지지 않는 만큼만 건너뛴다.
+                int subsampling = Math.max(1, Math.max(originalWidth, originalHeight) / maxSize);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                source = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        double scale = Math.min(1.0, (double) maxSize / Math.max(originalWidth, originalHeight));
+        int width = Math.max(1, (int) Math.round(originalWidth * scale));
+        int height = Math.max(1, (int) Math.round(originalHeight * scale));
+
+        // JPEG 는 투명도가 없으므로 흰 배경 위에 그린다.
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        byte[] encoded = encodeJpeg(thumbnail);
+        return encoded.length < originalSize ? encoded : null;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
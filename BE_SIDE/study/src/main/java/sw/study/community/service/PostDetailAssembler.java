@@ -0,0 +1,84 @@
+package sw.study.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sw.study.community.domain.ReactionTargetType;
+import sw.study.community.dto.*;
+import sw.study.community.repository.PostDetailQueryRepository;
+import sw.study.exception.community.PostNotFoundException;
+
+/**
+ * 게시글 상세 응답(PostDetailResponse) 조립기
+ * 게시글, 파일, 관심 분야를 각각 한 번의 프로젝션 쿼리로 가져오고, 좋아요 정보는 ReactionService 에서,
+ * 댓글 첫 페이지는 CommentThreadAssembler 에서 조회해 메모리에서 조립한다.
+ * 회원과 무관한 본문(assembleBody)은 PostDetailCache 에 캐시되고, 좋아요 정보(applyReactions)만 요청마다 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailAssembler {
+    private static final int COMMENT_PAGE_SIZE = 20;
+
+    private final PostDetailQueryRepository postDetailQueryRepository;
+    private final ReactionService reactionService;
+    private final CommentThreadAssembler commentThreadAssembler;
+
+    /**
+     * @param memberId 조회하는 회원 (로그인하지 않은 경우 null)
+     */
+    public PostDetailResponse assemble(Long postId, Long memberId) {
+        PostDetailResponse postDetailResponse = assembleBody(postId);
+        applyReactions(postDetailResponse, memberId);
+        return postDetailResponse;
+    }
+
+    /**
+     * 좋아요 정보를 제외한 게시글 상세 (회원과 무관하므로 캐시할 수 있다.)
+     */
+    public PostDetailResponse assembleBody(Long postId) {
+        PostDetailQueryDto post = postDetailQueryRepository.findPostDetail(postId)
+                .orElseThrow(() -> new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다."));
+
+        // 삭제된 게시글을 조회하려는 경우
+        if (post.isDeleted()) {
+            throw new IllegalStateException("이미 삭제된 게시글입니다.");
+        }
+
+        PostDetailResponse postDetailResponse = new PostDetailResponse();
+        postDetailResponse.setPostId(post.getPostId());
+        postDetailResponse.setTitle(post.getTitle());
+        postDetailResponse.setContent(post.getContent());
+        postDetailResponse.setCategory(post.getCategory());
+        postDetailResponse.setViewCount(post.getViewCount());
+        postDetailResponse.setReportCount(post.getReportCount());
+        postDetailResponse.setCreateTime(post.getCreatedAt());
+
+        PostAuthorResponse postAuthorResponse = new PostAuthorResponse();
+        postAuthorResponse.setNickname(post.getAuthorNickname());
+        postAuthorResponse.setProfile(post.getAuthorProfile());
+        postAuthorResponse.setDeleted(post.isAuthorDeleted());
+        postDetailResponse.setPostAuthorResponse(postAuthorResponse);
+
+        postDetailResponse.getFilesResponse().addAll(postDetailQueryRepository.findPostFiles(postId));
+        postDetailResponse.getInterestsResponse().addAll(postDetailQueryRepository.findPostAreas(postId));
+
+        // 댓글은 첫 페이지만 포함 (이후 페이지와 대댓글은 댓글 API 로 조회)
+        CommentPageResponse commentPage = commentThreadAssembler.assembleBody(postId, 0, "", null, COMMENT_PAGE_SIZE);
+        postDetailResponse.getCommentsResponse().addAll(commentPage.getComments());
+        postDetailResponse.setHasNextComments(commentPage.isHasNext());
+        postDetailResponse.setNextCommentCursor(commentPage.getNextCursor());
+
+        return postDetailResponse;
+    }
+
+    /**
+     * 게시글과 댓글 첫 페이지의 좋아요 수, 좋아요 여부를 채운다. (Redis 조회만 발생)
+     * @param memberId 조회하는 회원 (로그인하지 않은 경우 null)
+     */
+    public void applyReactions(PostDetailResponse postDetailResponse, Long memberId) {
+        ReactionSummary reactionSummary = reactionService.getSummary(ReactionTargetType.POST, postDetailResponse.getPostId(), memberId);
+        postDetailResponse.setLikeCount(reactionSummary.getLikeCount());
+        postDetailResponse.setLikedByMe(reactionSummary.isLikedByMe());
+
+        commentThreadAssembler.applyReactions(postDetailResponse.getCommentsResponse(), memberId);
+    }
+}
@@ -0,0 +1,193 @@
+package sw.study.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sw.study.community.dto.CommentResponse;
+import sw.study.community.dto.PostDetailResponse;
+import sw.study.community.event.PostActivityEvent;
+import sw.study.community.event.PostActivityType;
+import sw.study.community.event.PostChangedEvent;
+import sw.study.viewcount.ViewCountFlushedEvent;
+import sw.study.viewcount.ViewCountTarget;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세 본문 캐시 (게시글 ID -> 좋아요 정보를 제외한 PostDetailResponse)
+ * 게시글 삭제, 댓글/대댓글 작성/삭제, 신고가 커밋되면 해당 게시글만 지운다. (좋아요는 본문에 없으므로 지우지 않는다.)
+ * 캐시는 노드마다 있으므로 무효화와 조회 수 반영을 Redis pub/sub 으로 다른 노드에도 전파한다. (자신이 보낸 메시지는 무시)
+ * 회원 닉네임 변경처럼 이벤트가 없는 변경이나 유실된 메시지는 EXPIRE_AFTER_WRITE 안에 반영된다.
+ * 적중/실패 수는 cache.gets{cache="postDetail"} 메트릭으로 확인할 수 있다. (적중 한 번마다 DB 조회 5번이 줄어든다.)
+ */
+@Slf4j
+@Component
+public class PostDetailCache implements MessageListener {
+    public static final String CHANNEL = "post-detail-cache";
+    private static final long MAXIMUM_SIZE = 10000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+    // 본문(댓글 목록, 신고 수)을 바꾸는 활동
+    private static final Set<PostActivityType> BODY_CHANGES =
+            EnumSet.of(PostActivityType.COMMENT, PostActivityType.DELETE_COMMENT, PostActivityType.REPORT);
+
+    private final Cache<Long, PostDetailResponse> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public PostDetailCache(MeterRegistry meterRegistry, StringRedisTemplate stringRedisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 캐시된 본문의 복사본 조회 (없으면 loader 로 조회해 캐시)
+     * 반환값은 호출한 쪽에서 좋아요 정보 등을 채워도 캐시에 영향을 주지 않는다.
+     */
+    public PostDetailResponse get(Long postId, Function<Long, PostDetailResponse> loader) {
+        return copy(cache.get(postId, loader));
+    }
+
+    /**
+     * 모든 노드의 캐시에서 게시글 본문을 지운다.
+     */
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+        publish("E|" + postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(PostActivityEvent event) {
+        // 조회 수는 ViewCountFlushedEvent 로, 좋아요는 요청마다 Redis 에서 채우므로 본문을 지우지 않는다.
+        if (BODY_CHANGES.contains(event.getType())) {
+            evict(event.getPostId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(PostChangedEvent event) {
+        evict(event.getPostId());
+    }
+
+    /**
+     * DB 에 반영된 조회 수를 모든 노드의 캐시된 본문에 더한다.
+     * (반영된 만큼 Redis 의 미반영 조회 수가 줄어들기 때문에, 캐시를 그대로 두면 조회 수가 줄어든 것처럼 보인다.
+     * 반영은 잠금을 잡은 한 노드에서만 일어나므로 다른 노드에도 전파해야 한다.)
+     */
+    @EventListener
+    public void handle(ViewCountFlushedEvent event) {
+        if (event.getTarget() != ViewCountTarget.POST || event.getDeltas().isEmpty()) {
+            return;
+        }
+
+        addViewCounts(event.getDeltas());
+        publish("V|" + event.getDeltas().entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(",")));
+    }
+
+    // 메시지 형식: {노드 ID}|E|{게시글 ID} 또는 {노드 ID}|V|{게시글 ID}:{조회 수},...
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        try {
+            if ("E".equals(parts[1])) {
+                cache.invalidate(Long.valueOf(parts[2]));
+            } else if ("V".equals(parts[1])) {
+                addViewCounts(Arrays.stream(parts[2].split(","))
+                        .map(entry -> entry.split(":"))
+                        .collect(Collectors.toMap(entry -> Long.valueOf(entry[0]), entry -> Long.valueOf(entry[1]))));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 게시글 캐시 메시지: {}", parts[2]);
+        }
+    }
+
+    private void addViewCounts(Map<Long, Long> deltas) {
+        deltas.forEach((postId, delta) -> cache.asMap().computeIfPresent(postId, (id, cached) -> {
+            PostDetailResponse updated = copy(cached);
+            updated.setViewCount(cached.getViewCount() + delta.intValue());
+            return updated;
+        }));
+    }
+
+    // 전파 실패 시 다른 노드는 EXPIRE_AFTER_WRITE 이후 반영된다.
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + "|" + message);
+        } catch (DataAccessException e) {
+            log.warn("게시글 캐시 무효화 전파 실패: {}", message, e);
+        }
+    }
+
+    private static PostDetailResponse copy(PostDetailResponse source) {
+        PostDetailResponse target = new PostDetailResponse();
+        target.setPostId(source.getPostId());
+        target.setTitle(source.getTitle());
+        target.setContent(source.getContent());
+        target.setCategory(source.getCategory());
+        target.setViewCount(source.getViewCount());
+        target.setReportCount(source.getReportCount());
+        target.setCreateTime(source.getCreateTime());
+        target.setLikeCount(source.getLikeCount());
+        target.setLikedByMe(source.isLikedByMe());
+        target.setPostAuthorResponse(source.getPostAuthorResponse());
+        target.getFilesResponse().addAll(source.getFilesResponse());
+        target.getInterestsResponse().addAll(source.getInterestsResponse());
+        for (CommentResponse comment : source.getCommentsResponse()) {
+            target.getCommentsResponse().add(copy(comment));
+        }
+        target.setHasNextComments(source.isHasNextComments());
+        target.setNextCommentCursor(source.getNextCommentCursor());
+        return target;
+    }
+
+    private static CommentResponse copy(CommentResponse source) {
+        CommentResponse target = new CommentResponse();
+        target.setCommentId(source.getCommentId());
+        target.setContent(source.getContent());
+        target.setLevel(source.getLevel());
+        target.setDeleted(source.isDeleted());
+        target.setLikeCount(source.getLikeCount());
+        target.setLikedByMe(source.isLikedByMe());
+        target.setReplyCount(source.getReplyCount());
+        target.setCommentAuthorResponse(source.getCommentAuthorResponse());
+        return target;
+    }
+}
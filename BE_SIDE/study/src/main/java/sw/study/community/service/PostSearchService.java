@@ -0,0 +1,66 @@
+package sw.study.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sw.study.community.dto.PostSearchResponse;
+import sw.study.community.dto.PostSummaryResponse;
+import sw.study.community.repository.CategoryRepository;
+import sw.study.community.repository.PostFeedQueryRepository;
+import sw.study.community.search.PostSearchEngine;
+import sw.study.community.search.PostSearchHit;
+import sw.study.community.search.PostSearchQuery;
+import sw.study.exception.community.CategoryNotFoundException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostSearchService {
+    private final PostSearchEngine postSearchEngine;
+    private final PostFeedQueryRepository postFeedQueryRepository;
+    private final ReactionService reactionService;
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * 게시글 검색
+     */
+    public PostSearchResponse search(String keyword, String category, List<String> areas, int page, int size) {
+        if (category != null && categoryRepository.findByName(category).isEmpty()) {
+            throw new CategoryNotFoundException("해당하는 카테고리가 존재하지 않습니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<PostSearchHit> hits = postSearchEngine.search(new PostSearchQuery(keyword, category, areas, page * size, size + 1));
+
+        PostSearchResponse postSearchResponse = new PostSearchResponse();
+        postSearchResponse.setHasNext(hits.size() > size);
+        if (postSearchResponse.isHasNext()) {
+            hits = hits.subList(0, size);
+        }
+
+        Map<Long, PostSummaryResponse> summaries = postFeedQueryRepository
+                .findSummaries(hits.stream().map(PostSearchHit::getPostId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostSummaryResponse::getPostId, Function.identity()));
+
+        // 검색 점수 순서 유지 (색인 반영 전에 삭제된 게시글은 제외)
+        for (PostSearchHit hit : hits) {
+            PostSummaryResponse summary = summaries.get(hit.getPostId());
+            if (summary != null) {
+                postSearchResponse.getPosts().add(summary);
+            }
+        }
+
+        reactionService.applyLikeCounts(postSearchResponse.getPosts());
+
+        log.info("게시글 검색 완료: keyword = {}, count = {}", keyword, postSearchResponse.getPosts().size());
+        return postSearchResponse;
+    }
+}
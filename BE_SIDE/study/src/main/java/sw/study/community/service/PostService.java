@@ -2,17 +2,24 @@ package sw.study.community.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 import sw.study.admin.domain.Report;
 import sw.study.admin.dto.ReportRequest;
 import sw.study.admin.role.ReportStatus;
 import sw.study.admin.service.ReportService;
 import sw.study.community.domain.*;
 import sw.study.community.dto.*;
+import sw.study.community.event.ImageUploadedEvent;
+import sw.study.community.event.PostActivityEvent;
+import sw.study.community.event.PostActivityType;
+import sw.study.community.event.PostChangedEvent;
+import sw.study.community.event.StoredFilesReleasedEvent;
 import sw.study.community.repository.CategoryRepository;
-import sw.study.community.repository.PostLikeRepository;
+import sw.study.community.repository.PostFeedQueryRepository;
 import sw.study.community.repository.PostRepository;
 import sw.study.exception.UserNotFoundException;
 import sw.study.exception.community.*;
@@ -24,7 +31,10 @@ import sw.study.user.domain.Member;
 import sw.study.user.repository.AreaRepository;
 import sw.study.user.repository.MemberRepository;
 import sw.study.user.service.MemberService;
+import sw.study.viewcount.ViewCountService;
+import sw.study.viewcount.ViewCountTarget;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -37,16 +47,35 @@ public class PostService {
     private final CategoryRepository categoryRepository;
     private final MemberRepository memberRepository;
     private final AreaRepository areaRepository;
-    private final S3Service s3Service;
-    private final PostLikeRepository postLikeRepository;
+    private final AttachmentUploader attachmentUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ReactionService reactionService;
     private final ReportService reportService;
     private final MemberService memberService;
+    private final PostDetailAssembler postDetailAssembler;
+    private final PostDetailCache postDetailCache;
+    private final PostFeedQueryRepository postFeedQueryRepository;
+    private final ViewCountService viewCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 생성
+     * 첨부 파일은 트랜잭션 밖에서 병렬로 업로드하고, DB 저장만 짧은 트랜잭션으로 처리한다.
+     * 저장에 실패하면 업로드한 파일을 지운다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long save(PostRequest postRequest, Long memberId) {
+        List<String> urls = attachmentUploader.uploadAll(postRequest.getFiles(), "post/");
+
+        try {
+            return transactionTemplate.execute(status -> createPost(postRequest, memberId, urls));
+        } catch (RuntimeException e) {
+            attachmentUploader.deleteAll(urls);
+            throw e;
+        }
+    }
+
+    private Long createPost(PostRequest postRequest, Long memberId, List<String> urls) {
         Category category = categoryRepository.findByName(postRequest.getCategory())
                 .orElseThrow(() -> new CategoryNotFoundException("해당하는 카테고리가 존재하지 않습니다."));
         Member member = memberRepository.findById(memberId)
@@ -58,109 +87,60 @@ public class PostService {
                     .orElseThrow(() -> new AreaNotFoundException("해당하는 분야가 존재하지 않습니다.")));
         }
 
-        List<String> urls = new ArrayList<>();
-        if (postRequest.getFiles() != null) {
-            for (MultipartFile file : postRequest.getFiles()) {
-                String url = s3Service.upload(file, "post/");
-                urls.add(url);
-            }
-        }
-
-
         Post post = Post.createPost(postRequest.getTitle(), postRequest.getContent(), category, member, areas, urls);
+        postRepository.save(post);
+        reactionService.initialize(ReactionTargetType.POST, post.getId());
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId(), false));
+        for (PostFile postFile : post.getFiles()) {
+            eventPublisher.publishEvent(ImageUploadedEvent.postFile(postFile.getId(), post.getId(), postFile.getUrl()));
+        }
         log.info("게시글 생성 완료: postId = {}", post.getId());
-        return postRepository.save(post).getId();
+        return post.getId();
     }
 
     /**
      * 게시글 상세 조회
      */
-    @Transactional
-    public PostDetailResponse getPostById(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다."));
+    public PostDetailResponse getPostById(Long postId, Long memberId) {
+        // 회원과 무관한 본문은 캐시하고, 좋아요 정보만 요청마다 채운다.
+        PostDetailResponse postDetailResponse = postDetailCache.get(postId, postDetailAssembler::assembleBody);
+        postDetailAssembler.applyReactions(postDetailResponse, memberId);
 
-        // 삭제된 게시글을 조회하려는 경우
-        if (post.isDeleted()) {
-            throw new IllegalStateException("이미 삭제된 게시글입니다.");
-        }
+        // 조회 수 증가 (DB 반영은 스케줄러가 일괄 처리)
+        long pendingViewCount = viewCountService.increment(ViewCountTarget.POST, postId);
+        postDetailResponse.setViewCount(postDetailResponse.getViewCount() + (int) pendingViewCount);
 
-        PostDetailResponse postDetailResponse = new PostDetailResponse();
-        postDetailResponse.setPostId(post.getId());
-        postDetailResponse.setTitle(post.getTitle());
-        postDetailResponse.setContent(post.getContent());
-        postDetailResponse.setCategory(post.getCategory().getName());
-        post.incrementViewCount(); // 조회 수 증가
-        postDetailResponse.setViewCount(post.getViewCount());
-        postDetailResponse.setReportCount(post.getReportCount());
-        postDetailResponse.setCreateTime(post.getCreatedAt());
-
-        Member author = post.getMember();
-        PostAuthorResponse postAuthorResponse = new PostAuthorResponse();
-        postAuthorResponse.setNickname(author.getNickname());
-        postAuthorResponse.setDeleted(author.isDeleted());
-        postDetailResponse.setPostAuthorResponse(postAuthorResponse);
-
-
-        for (PostLike like : post.getLikes()) {
-            postDetailResponse.getLikerEmailsResponse().add(like.getMember().getEmail());
-        }
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.VIEW));
+        log.info("게시글 DTO 전송 완료: postId = {}", postId);
+        return postDetailResponse;
+    }
 
-        for (PostFile file : post.getFiles()) {
-            postDetailResponse.getFilesResponse().add(new PostFileResponse(file.getUrl()));
+    /**
+     * 게시글 목록 조회 (키셋 페이지네이션)
+     */
+    public PostFeedResponse getFeed(String category, List<String> areas,
+                                    LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        if (category != null && categoryRepository.findByName(category).isEmpty()) {
+            throw new CategoryNotFoundException("해당하는 카테고리가 존재하지 않습니다.");
         }
 
-        for (PostArea postArea : post.getInterests()) {
-            Area area = postArea.getArea();
-            postDetailResponse.getInterestsResponse().add(new PostAreaResponse(area.getLevel(), area.getAreaName()));
-        }
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<PostSummaryResponse> posts = postFeedQueryRepository.findFeed(category, areas, cursorCreatedAt, cursorId, size + 1);
 
-        for (Comment comment : post.getComments()) {
-            CommentResponse commentResponse = new CommentResponse(); // 댓글
-            commentResponse.setCommentId(comment.getId());
-            commentResponse.setContent(comment.getContent());
-            commentResponse.setLevel(comment.getLevel());
-            commentResponse.setDeleted(comment.isDeleted());
-
-            CommentAuthorResponse commentAuthorResponse = new CommentAuthorResponse(); // 댓글 작성자
-            Member commentAuthor = comment.getMember();
-            commentAuthorResponse.setNickname(commentAuthor.getNickname());
-            commentAuthorResponse.setProfile(commentAuthor.getProfile());
-            commentAuthorResponse.setDeleted(commentAuthor.isDeleted());
-            commentResponse.setCommentAuthorResponse(commentAuthorResponse);
-
-            for (CommentLike commentLike : comment.getCommentLikes()) {
-                commentResponse.getLikerEmailsResponse().add(commentLike.getMember().getEmail());
-            }
-
-            if (comment.hasChildComment()) {
-                for (Comment reply : comment.getChild()) {
-                    CommentResponse replyResponse = new CommentResponse(); // 대댓글
-                    replyResponse.setCommentId(reply.getId());
-                    replyResponse.setContent(reply.getContent());
-                    replyResponse.setLevel(reply.getLevel());
-                    replyResponse.setDeleted(reply.isDeleted());
-
-                    for (CommentLike commentLike : reply.getCommentLikes()) {
-                        replyResponse.getLikerEmailsResponse().add(commentLike.getMember().getEmail());
-                    }
-
-                    CommentAuthorResponse replyAuthorResponse = new CommentAuthorResponse(); // 대댓글 작성자
-                    Member replyAuthor = reply.getMember();
-                    replyAuthorResponse.setNickname(replyAuthor.getNickname());
-                    replyAuthorResponse.setProfile(replyAuthor.getProfile());
-                    replyAuthorResponse.setDeleted(replyAuthor.isDeleted());
-                    replyResponse.setCommentAuthorResponse(replyAuthorResponse);
-
-                    commentResponse.getChild().add(replyResponse);
-                }
-            }
-
-            postDetailResponse.getCommentsResponse().add(commentResponse);
+        PostFeedResponse postFeedResponse = new PostFeedResponse();
+        postFeedResponse.setHasNext(posts.size() > size);
+        if (postFeedResponse.isHasNext()) {
+            posts = posts.subList(0, size);
         }
+        reactionService.applyLikeCounts(posts); // 상세 조회와 같은 좋아요 수
+        postFeedResponse.getPosts().addAll(posts);
 
-        log.info("게시글 DTO 전송 완료: postId = {}", post.getId());
-        return postDetailResponse;
+        if (!posts.isEmpty()) {
+            PostSummaryResponse last = posts.get(posts.size() - 1);
+            postFeedResponse.setNextCursorCreatedAt(last.getCreateTime());
+            postFeedResponse.setNextCursorId(last.getPostId());
+        }
+        return postFeedResponse;
     }
 
     /**
@@ -177,6 +157,15 @@ public class PostService {
         }
 
         post.deletePost();
+        // 첨부 파일과 썸네일은 커밋된 뒤에 참조를 해제한다. (중복 제거된 파일은 마지막 참조일 때만 S3 에서 지워진다.)
+        List<String> fileUrls = new ArrayList<>();
+        for (PostFile postFile : post.getFiles()) {
+            postFile.deleteFile();
+            fileUrls.add(postFile.getUrl());
+            fileUrls.add(postFile.getThumbnailUrl());
+        }
+        eventPublisher.publishEvent(new StoredFilesReleasedEvent(fileUrls));
+        eventPublisher.publishEvent(new PostChangedEvent(postId, true));
         log.info("게시글 삭제 완료: postId = {}", postId);
     }
 
@@ -185,19 +174,15 @@ public class PostService {
      */
     @Transactional
     public void addLike(Long postId, Long likerId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다."));
-        Member liker = memberRepository.findById(likerId)
-                .orElseThrow(() -> new UserNotFoundException("해당하는 사용자를 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다.");
+        }
 
-        // 중복 좋아요 확인
-        boolean alreadyLiked = postLikeRepository.existsByPostAndMember(post, liker);
-        if (alreadyLiked) {
+        // 중복 좋아요 확인 (DB 반영은 비동기)
+        if (!reactionService.like(ReactionTargetType.POST, postId, likerId)) {
             throw new DuplicateLikeException("이미 좋아요를 눌렀습니다.");
         }
-
-        PostLike postLike = PostLike.createPostLike(post, liker);
-        postLikeRepository.save(postLike);
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.LIKE));
         log.info("게시글 좋아요 요청 완료: postId = {}, memberId = {}", postId, likerId);
     }
 
@@ -206,17 +191,15 @@ public class PostService {
      */
     @Transactional
     public void cancelLike(Long postId, Long cancelerId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다."));
-        Member canceler = memberRepository.findById(cancelerId)
-                .orElseThrow(() -> new UserNotFoundException("해당하는 사용자를 찾을 수 없습니다."));
-
-        PostLike postLike = postLikeRepository.findByPostAndMember(post, canceler)
-                .orElseThrow(() -> new LikeNotFoundException("좋아요가 존재하지 않습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("해당하는 게시글을 찾을 수 없습니다.");
+        }
 
-        // 좋아요 취소
-        post.deleteLike(postLike); // Post의 likes 리스트에서 제거 (list에서 삭제하는 것은 수동으로 해야함)
-        postLikeRepository.deleteById(postLike.getId());
+        // 좋아요 취소 (DB 반영은 비동기)
+        if (!reactionService.unlike(ReactionTargetType.POST, postId, cancelerId)) {
+            throw new LikeNotFoundException("좋아요가 존재하지 않습니다.");
+        }
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.CANCEL_LIKE));
         log.info("게시글 좋아요 취소 요청 완료: postId = {}, memberId = {}", postId, cancelerId);
     }
 
@@ -242,6 +225,7 @@ public class PostService {
         // 게시글 신고 수 증가
         findPost.incrementReportCount();
         Long reportId = reportService.save(report);
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.REPORT));
         log.info("게시글 신고 요청 완료: targetId = {}, reporterId = {}, targetMemberId = {}", postId, reportId, findTargetMember.getId());
         return reportId;
     }
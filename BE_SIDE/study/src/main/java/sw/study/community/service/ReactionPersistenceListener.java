@@ -0,0 +1,75 @@
+package sw.study.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sw.study.community.domain.CommentLike;
+import sw.study.community.domain.PostLike;
+import sw.study.community.domain.ReactionTargetType;
+import sw.study.community.event.ReactionChangedEvent;
+import sw.study.community.repository.CommentLikeRepository;
+import sw.study.community.repository.CommentRepository;
+import sw.study.community.repository.PostLikeRepository;
+import sw.study.community.repository.PostRepository;
+import sw.study.user.repository.MemberRepository;
+
+/**
+ * 좋아요 DB 반영
+ * 이벤트 순서가 뒤바뀌어도 결과가 같도록, 이벤트 내용이 아닌 Redis 의 최종 상태에 맞춰 행을 추가/삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionPersistenceListener {
+    private final ReactionService reactionService;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MemberRepository memberRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+
+    @Async("reactionExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handle(ReactionChangedEvent event) {
+        Boolean membership = reactionService.findMembership(event.getTargetType(), event.getTargetId(), event.getMemberId());
+        boolean liked = membership != null ? membership : event.isLiked();
+
+        try {
+            if (event.getTargetType() == ReactionTargetType.POST) {
+                persistPostLike(event.getTargetId(), event.getMemberId(), liked);
+            } else {
+                persistCommentLike(event.getTargetId(), event.getMemberId(), liked);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 같은 좋아요가 동시에 반영된 경우 (유니크 제약)
+            log.debug("이미 반영된 좋아요: target = {}, targetId = {}, memberId = {}",
+                    event.getTargetType(), event.getTargetId(), event.getMemberId());
+        }
+    }
+
+    private void persistPostLike(Long postId, Long memberId, boolean liked) {
+        boolean exists = postLikeRepository.existsByPost_IdAndMember_Id(postId, memberId);
+        if (liked && !exists) {
+            postLikeRepository.saveAndFlush(PostLike.createPostLike(
+                    postRepository.getReferenceById(postId), memberRepository.getReferenceById(memberId)));
+        } else if (!liked && exists) {
+            postLikeRepository.deleteByPostIdAndMemberId(postId, memberId);
+        }
+    }
+
+    private void persistCommentLike(Long commentId, Long memberId, boolean liked) {
+        boolean exists = commentLikeRepository.existsByComment_IdAndMember_Id(commentId, memberId);
+        if (liked && !exists) {
+            commentLikeRepository.saveAndFlush(CommentLike.createCommentLike(
+                    commentRepository.getReferenceById(commentId), memberRepository.getReferenceById(memberId)));
+        } else if (!liked && exists) {
+            commentLikeRepository.deleteByCommentIdAndMemberId(commentId, memberId);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package sw.study.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import sw.study.community.domain.ReactionTargetType;
+import sw.study.community.dto.PostSummaryResponse;
+import sw.study.community.dto.ReactionSummary;
+import sw.study.community.event.ReactionChangedEvent;
+import sw.study.community.repository.CommentLikeRepository;
+import sw.study.community.repository.PostLikeRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 게시글/댓글 좋아요 엔진
+ * 좋아요를 누른 회원은 Redis Set(LIKE:{대상}:{ID})에, 좋아요 수는 여러 개로 나눈 카운터(LIKE:CNT:{대상}:{ID}:{n})에 저장한다.
+ * 좋아요/취소, 좋아요 여부, 좋아요 수 조회는 모두 Redis 에서 O(1)로 처리하고, DB 반영은 이벤트로 비동기 처리한다.
+ * Set 이 없는 대상은 처음 접근할 때 DB 에서 읽어 채운다. (빈 대상도 구분할 수 있도록 sentinel 을 넣어둔다.)
+ * 모든 키는 마지막 변경/로딩으로부터 TTL_MILLIS 뒤에 만료되어, 한 번이라도 좋아요가 눌린 대상이 Redis 에 계속 쌓이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactionService {
+    private static final int COUNTER_STRIPES = 8;
+    private static final String SENTINEL = "-";
+    private static final long NOT_LOADED = -1L;
+
+    // 좋아요가 바뀌지 않은 대상은 TTL 이 지나면 지워지고, 다음 접근 때 DB 에서 다시 채운다.
+    // Set 과 나눠진 카운터가 함께 만료되도록 변경/로딩 때마다 모든 키의 TTL 을 다시 건다.
+    private static final long TTL_MILLIS = 7L * 24 * 60 * 60 * 1000;
+
+    // KEYS[1] = Set, KEYS[2] = 바꿀 카운터, KEYS[3..] = 모든 카운터, ARGV[1] = 회원 ID, ARGV[2] = TTL(ms)
+    // 반환값: 1 = 좋아요, 0 = 이미 좋아요한 상태, -1 = Set 이 로딩되지 않음
+    private static final RedisScript<Long> LIKE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "if redis.call('SADD', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+            "redis.call('INCR', KEYS[2]) " +
+            "for i = 1, #KEYS do redis.call('PEXPIRE', KEYS[i], ARGV[2]) end " +
+            "return 1", Long.class);
+
+    // 반환값: 1 = 좋아요 취소, 0 = 좋아요하지 않은 상태, -1 = Set 이 로딩되지 않음
+    private static final RedisScript<Long> UNLIKE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "if redis.call('SREM', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+            "redis.call('DECR', KEYS[2]) " +
+            "for i = 1, #KEYS do redis.call('PEXPIRE', KEYS[i], ARGV[2]) end " +
+            "return 1", Long.class);
+
+    // 반환값: 1 = 좋아요한 상태, 0 = 좋아요하지 않은 상태, -1 = Set 이 로딩되지 않음
+    private static final RedisScript<Long> MEMBERSHIP_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('SISMEMBER', KEYS[1], ARGV[1])", Long.class);
+
+    // KEYS[1] = Set, KEYS[2..] = 카운터, ARGV[1] = TTL(ms), ARGV[2] = sentinel, ARGV[3..] = 회원 ID
+    // 이미 로딩된 Set 은 덮어쓰지 않는다.
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 2, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "redis.call('SET', KEYS[2], #ARGV - 2, 'PX', ARGV[1]) " +
+            "for i = 3, #KEYS do redis.call('DEL', KEYS[i]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 새로 생성된 게시글/댓글의 좋아요 정보 초기화
+     * 같은 ID 로 남아있는 이전 데이터를 지우고, 좋아요가 없는 상태로 로딩해둔다.
+     */
+    public void initialize(ReactionTargetType targetType, Long targetId) {
+        List<String> keys = new ArrayList<>(counterKeys(targetType, targetId));
+        keys.add(setKey(targetType, targetId));
+        stringRedisTemplate.delete(keys);
+        load(targetType, targetId, List.of());
+    }
+
+    /**
+     * 좋아요
+     * @return 이미 좋아요한 상태라면 false
+     */
+    public boolean like(ReactionTargetType targetType, Long targetId, Long memberId) {
+        return change(LIKE_SCRIPT, targetType, targetId, memberId, true);
+    }
+
+    /**
+     * 좋아요 취소
+     * @return 좋아요하지 않은 상태라면 false
+     */
+    public boolean unlike(ReactionTargetType targetType, Long targetId, Long memberId) {
+        return change(UNLIKE_SCRIPT, targetType, targetId, memberId, false);
+    }
+
+    /**
+     * 좋아요 여부 (Set 이 로딩되지 않았다면 null)
+     */
+    public Boolean findMembership(ReactionTargetType targetType, Long targetId, Long memberId) {
+        Long result = stringRedisTemplate.execute(MEMBERSHIP_SCRIPT,
+                List.of(setKey(targetType, targetId)), memberId.toString());
+        if (result == null || result == NOT_LOADED) {
+            return null;
+        }
+        return result == 1L;
+    }
+
+    /**
+     * 좋아요 수, 좋아요 여부 조회
+     */
+    public ReactionSummary getSummary(ReactionTargetType targetType, Long targetId, Long memberId) {
+        return getSummaries(targetType, List.of(targetId), memberId).get(targetId);
+    }
+
+    /**
+     * 여러 대상의 좋아요 수, 좋아요 여부를 한 번의 파이프라인으로 조회
+     * @param memberId 로그인하지 않은 경우 null
+     */
+    public Map<Long, ReactionSummary> getSummaries(ReactionTargetType targetType, Collection<Long> targetIds, Long memberId) {
+        List<Long> ids = new ArrayList<>(targetIds);
+        Map<Long, ReactionSummary> summaries = new HashMap<>();
+        if (ids.isEmpty()) {
+            return summaries;
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long id : ids) {
+                readSummary(connection, targetType, id, memberId);
+            }
+            return null;
+        });
+
+        int resultsPerTarget = memberId != null ? 3 : 2;
+        List<Long> notLoadedIds = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            int offset = i * resultsPerTarget;
+            if (!Boolean.TRUE.equals(results.get(offset))) {
+                notLoadedIds.add(ids.get(i));
+                continue;
+            }
+
+            long likeCount = sumCounters((List<?>) results.get(offset + 1));
+            boolean isLikedByMe = memberId != null && Boolean.TRUE.equals(results.get(offset + 2));
+            summaries.put(ids.get(i), new ReactionSummary(likeCount, isLikedByMe));
+        }
+
+        // 로딩되지 않은 대상은 DB 에서 한 번에 읽어 채운다.
+        if (!notLoadedIds.isEmpty()) {
+            Map<Long, List<Long>> likers = loadLikers(targetType, notLoadedIds);
+            for (Long id : notLoadedIds) {
+                List<Long> memberIds = likers.getOrDefault(id, List.of());
+                load(targetType, id, memberIds);
+                summaries.put(id, new ReactionSummary(memberIds.size(), memberId != null && memberIds.contains(memberId)));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * 게시글 요약(목록/검색/인기 게시글)의 좋아요 수를 상세 조회와 같은 Redis 값으로 맞춘다.
+     * post_like 는 비동기로 반영되므로, Redis 를 사용할 수 없을 때만 DB 에서 센 값을 그대로 둔다.
+     */
+    public void applyLikeCounts(List<PostSummaryResponse> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, ReactionSummary> summaries = getSummaries(ReactionTargetType.POST,
+                    posts.stream().map(PostSummaryResponse::getPostId).toList(), null);
+            for (PostSummaryResponse post : posts) {
+                ReactionSummary summary = summaries.get(post.getPostId());
+                if (summary != null) {
+                    post.setLikeCount(summary.getLikeCount());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("좋아요 수 조회 실패, DB 값 사용: size = {}", posts.size(), e);
+        }
+    }
+
+    private boolean change(RedisScript<Long> script, ReactionTargetType targetType, Long targetId, Long memberId, boolean liked) {
+        List<String> keys = new ArrayList<>();
+        keys.add(setKey(targetType, targetId));
+        keys.add(counterKey(targetType, targetId, memberId));
+        keys.addAll(counterKeys(targetType, targetId));
+        String ttl = String.valueOf(TTL_MILLIS);
+        Long result = stringRedisTemplate.execute(script, keys, memberId.toString(), ttl);
+
+        if (result == null || result == NOT_LOADED) {
+            load(targetType, targetId, loadLikers(targetType, List.of(targetId)).getOrDefault(targetId, List.of()));
+            result = stringRedisTemplate.execute(script, keys, memberId.toString(), ttl);
+        }
+
+        if (result == null || result != 1L) {
+            return false;
+        }
+
+        eventPublisher.publishEvent(new ReactionChangedEvent(targetType, targetId, memberId, liked));
+        return true;
+    }
+
+    private void readSummary(RedisConnection connection, ReactionTargetType targetType, Long targetId, Long memberId) {
+        byte[] setKey = bytes(setKey(targetType, targetId));
+        connection.keyCommands().exists(setKey);
+        connection.stringCommands().mGet(counterKeys(targetType, targetId).stream()
+                .map(ReactionService::bytes)
+                .toArray(byte[][]::new));
+        if (memberId != null) {
+            connection.setCommands().sIsMember(setKey, bytes(memberId.toString()));
+        }
+    }
+
+    private void load(ReactionTargetType targetType, Long targetId, List<Long> memberIds) {
+        List<String> keys = new ArrayList<>();
+        keys.add(setKey(targetType, targetId));
+        keys.addAll(counterKeys(targetType, targetId));
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL_MILLIS));
+        args.add(SENTINEL);
+        memberIds.forEach(memberId -> args.add(memberId.toString()));
+
+        stringRedisTemplate.execute(LOAD_SCRIPT, keys, args.toArray());
+    }
+
+    private Map<Long, List<Long>> loadLikers(ReactionTargetType targetType, List<Long> targetIds) {
+        List<Object[]> rows = targetType == ReactionTargetType.POST
+                ? postLikeRepository.findMemberIdsByPostIds(targetIds)
+                : commentLikeRepository.findMemberIdsByCommentIds(targetIds);
+
+        Map<Long, List<Long>> likers = new HashMap<>();
+        for (Object[] row : rows) {
+            likers.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+        return likers;
+    }
+
+    private static long sumCounters(List<?> counters) {
+        long sum = 0;
+        if (counters == null) {
+            return sum;
+        }
+        for (Object counter : counters) {
+            if (counter != null) {
+                sum += Long.parseLong(counter.toString());
+            }
+        }
+        return sum;
+    }
+
+    private static String setKey(ReactionTargetType targetType, Long targetId) {
+        return "LIKE:" + targetType + ":" + targetId;
+    }
+
+    // 한 키에 쓰기가 몰리지 않도록 회원 ID 로 카운터를 나눈다.
+    private static String counterKey(ReactionTargetType targetType, Long targetId, Long memberId) {
+        return "LIKE:CNT:" + targetType + ":" + targetId + ":" + Math.floorMod(memberId, COUNTER_STRIPES);
+    }
+
+    private static List<String> counterKeys(ReactionTargetType targetType, Long targetId) {
+        List<String> keys = new ArrayList<>(COUNTER_STRIPES);
+        for (int i = 0; i < COUNTER_STRIPES; i++) {
+            keys.add("LIKE:CNT:" + targetType + ":" + targetId + ":" + i);
+        }
+        return keys;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
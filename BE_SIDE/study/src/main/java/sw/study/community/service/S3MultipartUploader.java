@@ -0,0 +1,134 @@
+package sw.study.community.service;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sw.study.exception.s3.FileUploadException;
+import sw.study.exception.s3.S3UploadException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * S3 멀티파트 업로드
+ * 입력 스트림을 고정 크기(partSize) 조각으로 나눠 s3PartExecutor 에서 병렬로 올린다.
+ * 동시에 메모리에 올라가는 조각은 maxPartsInFlight 개로 제한되므로, 업로드 하나가 쓰는 메모리는 partSize * maxPartsInFlight 이하이다.
+ * 재시도는 조각 단위로 SDK 가 처리하고, 조각 하나라도 최종 실패하면 멀티파트 업로드를 중단(abort)해 S3 에 조각이 남지 않게 한다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024; // S3 제한 (마지막 조각 제외)
+
+    private final AmazonS3 amazonS3;
+    private final Executor partExecutor;
+    private final int partSize;
+    private final int maxPartsInFlight;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Qualifier("s3PartExecutor") Executor partExecutor,
+                               @Value("${spring.cloud.aws.s3.multipart.part-size:8388608}") int partSize,
+                               @Value("${spring.cloud.aws.s3.multipart.max-parts-in-flight:4}") int maxPartsInFlight) {
+        this.amazonS3 = amazonS3;
+        this.partExecutor = partExecutor;
+        this.partSize = partSize;
+        this.maxPartsInFlight = maxPartsInFlight;
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 멀티파트로 업로드 (스트림은 호출한 쪽에서 닫는다.)
+     */
+    public void upload(String bucket, String key, InputStream inputStream, String contentType) {
+        if (partSize < MIN_PART_SIZE) {
+            log.warn("조각 크기가 S3 최소값보다 작습니다: partSize = {}", partSize);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+
+        try {
+            List<PartETag> partETags = uploadParts(bucket, key, uploadId, inputStream);
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (RuntimeException e) {
+            abort(bucket, key, uploadId);
+            throw e;
+        }
+    }
+
+    private List<PartETag> uploadParts(String bucket, String key, String uploadId, InputStream inputStream) {
+        Semaphore inFlight = new Semaphore(maxPartsInFlight);
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+
+        try {
+            for (int partNumber = 1; ; partNumber++) {
+                // 앞선 조각이 끝나야 다음 조각을 읽는다. (메모리 제한)
+                inFlight.acquire();
+                byte[] buffer = inputStream.readNBytes(partSize);
+                if (buffer.length == 0 && partNumber > 1) {
+                    inFlight.release();
+                    break;
+                }
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    inFlight.release();
+                    break;
+                }
+
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer))
+                        .withPartSize(buffer.length)
+                        .withLastPart(buffer.length < partSize);
+                parts.add(CompletableFuture
+                        .supplyAsync(() -> amazonS3.uploadPart(request).getPartETag(), partExecutor)
+                        .whenComplete((partETag, e) -> inFlight.release()));
+
+                if (buffer.length < partSize) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new FileUploadException("파일 업로드 중 오류가 발생했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileUploadException("파일 업로드가 중단되었습니다.", e);
+        } finally {
+            // 실패하더라도 진행 중인 조각이 끝난 뒤에 abort 해야 조각이 남지 않는다.
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        }
+
+        List<PartETag> partETags = new ArrayList<>();
+        for (CompletableFuture<PartETag> part : parts) {
+            try {
+                partETags.add(part.join());
+            } catch (CompletionException e) {
+                throw new S3UploadException("S3 멀티파트 업로드 중 오류가 발생했습니다.", e.getCause());
+            }
+        }
+        partETags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+        return partETags;
+    }
+
+    private void abort(String bucket, String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (AmazonClientException e) {
+            log.warn("S3 멀티파트 업로드 중단 실패: key = {}, uploadId = {}", key, uploadId, e);
+        }
+    }
+}
@@ -5,28 +5,74 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import sw.study.exception.s3.FileUploadException;
 import sw.study.exception.s3.S3UploadException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class S3Service {
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final StoredFileRegistry storedFileRegistry;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${spring.cloud.aws.s3.endpoint:}") // 로컬 S3 호환 서버 주소 (비어있으면 AWS)
+    private String endpoint;
+
+    // 이 크기 이상은 멀티파트로 업로드 (upload.attachment.max-file-size 보다 작아야 의미가 있다.)
+    @Value("${spring.cloud.aws.s3.multipart.threshold:16MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${spring.cloud.aws.s3.dedup:true}") // 내용이 같은 파일은 한 번만 저장
+    private boolean dedup;
+
     // S3에 이미지 업로드
+    // 중복 제거 모드에서는 같은 위치(location)에 내용(SHA-256)이 같은 파일이 이미 있으면 업로드하지 않고 기존 URL 을 반환한다.
+    // 다른 사용자와 공유될 수 있으므로 이때 키에는 원본 파일 이름을 넣지 않는다. (확장자만 유지)
     public String upload(MultipartFile file, String location) {
-        String fileName = location + UUID.randomUUID() + "-" + file.getOriginalFilename();
+        String fileName = dedup
+                ? location + UUID.randomUUID() + extension(file.getOriginalFilename())
+                : location + UUID.randomUUID() + "-" + file.getOriginalFilename();
         try {
+            // 큰 파일은 조각으로 나눠 스트리밍 업로드 (업로드하면서 해시 계산)
+            if (file.getSize() >= multipartThreshold.toBytes()) {
+                String digest;
+                try (DigestInputStream inputStream = new DigestInputStream(file.getInputStream(), sha256(location))) {
+                    s3MultipartUploader.upload(bucket, fileName, inputStream, file.getContentType());
+                    digest = HexFormat.of().formatHex(inputStream.getMessageDigest().digest());
+                }
+                return dedup ? register(digest, fileName) : getPublicUrl(fileName);
+            }
+
+            // 작은 파일은 먼저 해시를 계산해 같은 내용이 있으면 업로드를 건너뛴다.
+            String digest = null;
+            if (dedup) {
+                digest = digest(file, location);
+                String storedUrl = storedFileRegistry.acquire(digest);
+                if (storedUrl != null) {
+                    return storedUrl;
+                }
+            }
+
             // 메타데이터 설정
             ObjectMetadata metadata = new ObjectMetadata();
             metadata.setContentType(file.getContentType());
@@ -36,6 +82,8 @@ public class S3Service {
             PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, fileName, file.getInputStream(), metadata);
             // S3에 파일 업로드
             amazonS3.putObject(putObjectRequest);
+
+            return dedup ? register(digest, fileName) : getPublicUrl(fileName);
         } catch (IOException e) {
             throw new FileUploadException("파일 업로드 중 오류가 발생했습니다.", e);
         } catch (AmazonS3Exception e) {
@@ -43,11 +91,115 @@ public class S3Service {
             if (e.getStatusCode() == 404) throw new S3UploadException("S3 버킷 또는 객체가 존재하지 않습니다.", e);
             throw new S3UploadException("S3 요청 중 알 수 없는 오류가 발생했습니다.", e);
         }
+    }
+
+    // 서버에서 만든 파일(썸네일 등) 업로드
+    // 같은 원본에서 만든 썸네일은 내용이 같으므로 중복 제거 모드에서는 한 객체를 참조 수로 공유한다.
+    public String upload(byte[] content, String location, String extension, String contentType) {
+        String fileName = location + UUID.randomUUID() + extension;
+        String digest = null;
+        if (dedup) {
+            MessageDigest messageDigest = sha256(location);
+            messageDigest.update(content);
+            digest = HexFormat.of().formatHex(messageDigest.digest());
+            String storedUrl = storedFileRegistry.acquire(digest);
+            if (storedUrl != null) {
+                return storedUrl;
+            }
+        }
+
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(contentType);
+            metadata.setContentLength(content.length);
 
-        return getPublicUrl(fileName);
+            amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(content), metadata));
+        } catch (AmazonS3Exception e) {
+            throw new S3UploadException("S3 요청 중 알 수 없는 오류가 발생했습니다.", e);
+        }
+
+        return dedup ? register(digest, fileName) : getPublicUrl(fileName);
+    }
+
+    // S3에 업로드한 파일 열기 (upload 가 반환한 URL 기준)
+    // 내용을 메모리에 올리지 않고 스트림으로 읽으며, 호출한 쪽에서 닫아야 한다.
+    public S3Object open(String url) {
+        try {
+            return amazonS3.getObject(bucket, toKey(url));
+        } catch (AmazonS3Exception e) {
+            throw new S3UploadException("S3 파일 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // S3에 업로드한 파일 삭제 (upload 가 반환한 URL 기준)
+    // 중복 제거된 파일은 참조가 모두 사라졌을 때만 지운다.
+    public void delete(String url) {
+        if (dedup && !storedFileRegistry.release(url)) {
+            return;
+        }
+
+        try {
+            amazonS3.deleteObject(bucket, toKey(url));
+        } catch (AmazonS3Exception e) {
+            throw new S3UploadException("S3 파일 삭제 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 업로드한 파일을 등록하고, 동시에 같은 내용이 먼저 등록되었다면 방금 올린 파일은 지운다.
+    private String register(String digest, String fileName) {
+        String url = getPublicUrl(fileName);
+        String registeredUrl = storedFileRegistry.register(digest, url);
+        if (!registeredUrl.equals(url)) {
+            amazonS3.deleteObject(bucket, fileName);
+        }
+        return registeredUrl;
+    }
+
+    private static String digest(MultipartFile file, String location) throws IOException {
+        MessageDigest messageDigest = sha256(location);
+        try (InputStream inputStream = file.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    // 위치마다 따로 중복 제거되도록 위치를 먼저 해시에 넣는다. (프로필 사진과 게시글 첨부 파일은 공유하지 않는다.)
+    private static MessageDigest sha256(String location) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(location.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+            return messageDigest;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String extension(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        String extension = dot >= 0 ? originalFilename.substring(dot).toLowerCase(Locale.ROOT) : "";
+        return extension.matches("\\.[a-z0-9]{1,10}") ? extension : "";
+    }
+
+    private String toKey(String url) {
+        String prefix = getPublicUrl("");
+        if (!url.startsWith(prefix)) {
+            throw new IllegalArgumentException("이 버킷에 업로드된 파일이 아닙니다: " + url);
+        }
+        return url.substring(prefix.length());
     }
 
     private String getPublicUrl(String fileName) {
+        if (!endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint, bucket, fileName);
+        }
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, amazonS3.getRegionName(), fileName);
     }
 }
@@ -0,0 +1,74 @@
+package sw.study.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sw.study.community.domain.StoredFile;
+import sw.study.community.repository.StoredFileRepository;
+
+import java.util.Optional;
+
+/**
+ * 내용 기준 파일 참조 수 관리
+ * 업로드/삭제를 호출한 쪽의 트랜잭션이 롤백되더라도 S3 상태와 맞도록 항상 새 트랜잭션에서 처리한다.
+ * 자주 올라오는 파일은 로컬 색인(digest -> URL)으로 DB 조회 없이 참조 수만 올린다.
+ * 참조 수가 0 이 된 행은 바로 지우므로, 이후 같은 내용이 올라오면 새 URL 로 다시 저장되어 삭제 중인 객체와 겹치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoredFileRegistry {
+    private final StoredFileRepository storedFileRepository;
+
+    private final Cache<String, String> localIndex = Caffeine.newBuilder()
+            .maximumSize(10000)
+            .build();
+
+    /**
+     * 같은 내용의 파일이 있다면 참조 수를 올리고 URL 반환
+     * @return 없으면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String acquire(String digest) {
+        String url = localIndex.getIfPresent(digest);
+        if (url != null && storedFileRepository.incrementRefCount(url) == 1) {
+            return url;
+        }
+        localIndex.invalidate(digest);
+
+        Optional<StoredFile> storedFile = storedFileRepository.findByDigest(digest);
+        if (storedFile.isEmpty() || storedFileRepository.incrementRefCount(storedFile.get().getUrl()) == 0) {
+            return null;
+        }
+        localIndex.put(digest, storedFile.get().getUrl());
+        return storedFile.get().getUrl();
+    }
+
+    /**
+     * 새로 업로드한 파일 등록
+     * @return 사용할 URL (동시에 같은 내용이 먼저 등록되었다면 그 URL)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String register(String digest, String url) {
+        storedFileRepository.register(digest, url);
+        String registeredUrl = storedFileRepository.findByDigest(digest)
+                .map(StoredFile::getUrl)
+                .orElse(url);
+        localIndex.put(digest, registeredUrl);
+        return registeredUrl;
+    }
+
+    /**
+     * 참조 해제
+     * @return S3 객체를 지워도 되는지 (더 이상 참조가 없거나, 중복 제거 대상이 아닌 파일)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String url) {
+        if (storedFileRepository.decrementRefCount(url) == 0) {
+            return true;
+        }
+        return storedFileRepository.deleteUnreferenced(url) == 1;
+    }
+}
@@ -0,0 +1,25 @@
+package sw.study.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sw.study.community.event.StoredFilesReleasedEvent;
+
+/**
+ * 참조가 끝난 파일 정리
+ * 트랜잭션이 커밋되면 uploadExecutor 에서 참조를 해제하고, 마지막 참조였다면 S3 객체를 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoredFileReleaseListener {
+    private final AttachmentUploader attachmentUploader;
+
+    @Async("uploadExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(StoredFilesReleasedEvent event) {
+        if (!event.getUrls().isEmpty()) {
+            attachmentUploader.deleteAll(event.getUrls());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package sw.study.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sw.study.community.dto.PostSummaryResponse;
+import sw.study.community.event.PostActivityEvent;
+import sw.study.community.event.PostActivityType;
+import sw.study.community.event.PostChangedEvent;
+import sw.study.community.repository.PostFeedQueryRepository;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 랭킹
+ * 게시글 활동(조회, 좋아요, 댓글, 신고)마다 가중치를 Redis Sorted Set(HOT:POST)에 더한다.
+ * 점수는 지수적으로 감소하는데, 매번 전체 점수를 줄이는 대신 새 점수를 exp((지금 - 기준 시각) / TAU) 배 키워서 더한다.
+ * 주기적으로 전체 점수를 기준 시각 기준으로 다시 나누어(정규화) 값이 계속 커지지 않게 하고, 낮은 점수는 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+    private static final double DECAY_SECONDS = 86400.0; // 점수가 1/e 로 줄어드는 시간 (하루)
+    private static final double MIN_SCORE = 0.01; // 정규화 후 이 점수 미만은 랭킹에서 제거
+    private static final int MAX_RANKING_SIZE = 10000;
+
+    private static final Map<PostActivityType, Double> WEIGHTS = Map.of(
+            PostActivityType.VIEW, 1.0,
+            PostActivityType.LIKE, 5.0,
+            PostActivityType.CANCEL_LIKE, -5.0,
+            PostActivityType.COMMENT, 3.0,
+            PostActivityType.DELETE_COMMENT, -3.0,
+            PostActivityType.REPORT, -10.0);
+
+    // KEYS[1] = 랭킹, KEYS[2] = 기준 시각, ARGV[1] = 게시글 ID, ARGV[2] = 가중치, ARGV[3] = 현재 시각, ARGV[4] = DECAY_SECONDS
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[3]) " +
+            "local base = tonumber(redis.call('GET', KEYS[2])) " +
+            "if not base then base = now redis.call('SET', KEYS[2], ARGV[3]) end " +
+            "redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[2]) * math.exp((now - base) / tonumber(ARGV[4])), ARGV[1]) " +
+            "return 1", Long.class);
+
+    // KEYS[1] = 랭킹, KEYS[2] = 기준 시각, ARGV[1] = 현재 시각, ARGV[2] = DECAY_SECONDS, ARGV[3] = MIN_SCORE, ARGV[4] = MAX_RANKING_SIZE
+    // 반환값: 정리 후 랭킹 크기
+    private static final RedisScript<Long> RENORMALIZE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local base = tonumber(redis.call('GET', KEYS[2])) " +
+            "if base and base ~= now then " +
+            "  redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', math.exp((base - now) / tonumber(ARGV[2]))) " +
+            "end " +
+            "redis.call('SET', KEYS[2], ARGV[1]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) " +
+            "local size = redis.call('ZCARD', KEYS[1]) " +
+            "local max = tonumber(ARGV[4]) " +
+            "if size > max then redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - max - 1) size = max end " +
+            "return size", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostFeedQueryRepository postFeedQueryRepository;
+    private final ReactionService reactionService;
+
+    // 랭킹 키 접두어 (테스트는 운영 랭킹을 건드리지 않도록 다른 접두어를 쓴다.)
+    @Value("${trending.key-prefix:HOT:}")
+    private String keyPrefix;
+
+    /**
+     * 게시글 활동을 랭킹 점수에 반영
+     * 랭킹은 부가 기능이므로 Redis 오류가 원래 요청을 실패시키지 않도록 로그만 남긴다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(PostActivityEvent event) {
+        try {
+            stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(rankingKey(), baseTimeKey()),
+                    event.getPostId().toString(),
+                    WEIGHTS.get(event.getType()).toString(),
+                    Long.toString(Instant.now().getEpochSecond()),
+                    Double.toString(DECAY_SECONDS));
+        } catch (DataAccessException e) {
+            log.warn("인기 게시글 점수 반영 실패: postId = {}, type = {}", event.getPostId(), event.getType(), e);
+        }
+    }
+
+    /**
+     * 삭제된 게시글은 랭킹에서 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(PostChangedEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForZSet().remove(rankingKey(), event.getPostId().toString());
+        } catch (DataAccessException e) {
+            log.warn("인기 게시글 랭킹 제거 실패: postId = {}", event.getPostId(), e);
+        }
+    }
+
+    /**
+     * 랭킹 점수 정규화
+     * 기준 시각을 현재로 옮기면서 전체 점수에 감쇠를 적용하고, 낮은 점수와 상위 MAX_RANKING_SIZE 밖의 게시글을 정리한다.
+     */
+    public void renormalize() {
+        Long size = stringRedisTemplate.execute(RENORMALIZE_SCRIPT, List.of(rankingKey(), baseTimeKey()),
+                Long.toString(Instant.now().getEpochSecond()),
+                Double.toString(DECAY_SECONDS),
+                Double.toString(MIN_SCORE),
+                Integer.toString(MAX_RANKING_SIZE));
+        log.info("인기 게시글 랭킹 정규화 완료: size = {}", size);
+    }
+
+    /**
+     * 인기 게시글 조회 (점수 높은 순)
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> getHotPosts(int size) {
+        Set<String> rankedIds = stringRedisTemplate.opsForZSet().reverseRange(rankingKey(), 0, size - 1);
+        if (rankedIds == null || rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = rankedIds.stream().map(Long::valueOf).toList();
+        Map<Long, PostSummaryResponse> summaries = postFeedQueryRepository.findSummaries(postIds)
+                .stream()
+                .collect(Collectors.toMap(PostSummaryResponse::getPostId, Function.identity()));
+
+        // 랭킹 순서 유지 (랭킹 반영 전에 삭제된 게시글은 제외)
+        List<PostSummaryResponse> hotPosts = new ArrayList<>();
+        for (Long postId : postIds) {
+            PostSummaryResponse summary = summaries.get(postId);
+            if (summary != null) {
+                hotPosts.add(summary);
+            }
+        }
+        reactionService.applyLikeCounts(hotPosts);
+        return hotPosts;
+    }
+
+    public String rankingKey() {
+        return keyPrefix + "POST";
+    }
+
+    public String baseTimeKey() {
+        return keyPrefix + "BASE";
+    }
+}
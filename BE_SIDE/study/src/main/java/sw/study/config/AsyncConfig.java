@@ -0,0 +1,107 @@
+package sw.study.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 좋아요 DB 반영용 (Redis 는 이미 바뀌었으므로, 큐가 가득 차도 버리지 않고 호출한 스레드에서 반영한다.)
+    @Bean
+    public ThreadPoolTaskExecutor reactionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("reaction-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 첨부 파일 S3 업로드용 (요청 스레드는 업로드가 끝날 때까지 기다린다.)
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("upload-");
+        // 큐가 가득 차면 요청 스레드에서 직접 업로드
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // S3 멀티파트 조각 업로드용 (uploadExecutor 의 작업이 기다리므로 풀을 분리한다.)
+    @Bean
+    public ThreadPoolTaskExecutor s3PartExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("s3-part-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 썸네일 생성용 (CPU 를 많이 쓰므로 스레드 수를 작게 유지)
+    @Bean
+    public ThreadPoolTaskExecutor imageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("image-");
+        // 큐가 가득 차면 썸네일 없이 원본을 사용
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 아웃박스 메일 발송용 (큐가 가득 차면 거절하고, 잡아둔 메일은 MailDispatcher 가 돌려놓아 다음 발송 때 보낸다.)
+    // CallerRunsPolicy 를 쓰면 스케줄러/요청 스레드가 SMTP 발송에 묶이므로 쓰지 않는다.
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 알림 일괄 발송(fan-out)용 (커밋 이후 요청 스레드 대신 실행)
+    // 큐가 가득 차면 버리고 로그/지표(notification.fanout.rejected)로 남긴다.
+    // CallerRunsPolicy 를 쓰면 커밋 이후 콜백(요청 스레드)에서 실행되어 요청이 기다리게 된다.
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("notification.fanout.rejected").register(meterRegistry);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("알림 일괄 발송 거절: 대기 {}건", pool.getQueue().size());
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,119 @@
+package sw.study.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import sw.study.exception.PasswordHashBusyException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 실행되는 BCrypt 해시/비교 수를 제한하는 인코더
+ * 해시는 요청 스레드에서 그대로 실행하되, 동시에 실행할 수 있는 수(permits)를 CPU 코어 수로 제한한다.
+ * 자리가 없으면 최대 MAX_WAIT_MILLIS 만큼 기다리고, 기다리는 요청이 maxWaiting 개를 넘거나 시간이 지나면 PasswordHashBusyException(503)을 던진다.
+ * 따라서 해시를 기다리며 묶이는 요청 스레드는 maxWaiting 개, 기다리는 시간은 MAX_WAIT_MILLIS 이하이고,
+ * 시작한 해시는 호출한 스레드가 끝까지 사용하므로 버려지는 해시가 없다.
+ * 저장된 해시의 work factor 가 설정값(strength)과 다르면 upgradeEncoding 이 true 를 반환해 로그인 시 새 설정으로 다시 해시한다.
+ * 해시 시간은 password.hash{operation}, 자리를 기다린 시간은 password.hash.queue.wait 메트릭으로 확인할 수 있다.
+ */
+public class BoundedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final long MAX_WAIT_MILLIS = 1000;
+
+    private final int strength;
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedBCryptPasswordEncoder(int strength, int concurrency, int maxWaiting, MeterRegistry meterRegistry) {
+        this(strength, new Semaphore(concurrency, true), maxWaiting, meterRegistry);
+    }
+
+    // 테스트에서 자리를 직접 점유할 수 있도록 분리
+    BoundedBCryptPasswordEncoder(int strength, Semaphore permits, int maxWaiting, MeterRegistry meterRegistry) {
+        super(strength);
+        this.strength = strength;
+        this.permits = permits;
+        this.maxWaiting = maxWaiting;
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("operation", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+        meterRegistry.gauge("password.hash.queue.size", waiting);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> super.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 work factor 가 현재 설정과 다르면 다시 해시한다. ($2a$10$... 의 10)
+     * 자리가 남아 있지 않을 때는 추가 해시로 로그인을 늦추지 않도록 다음 로그인으로 미룬다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            int storedStrength = Integer.parseInt(encodedPassword.substring(4, 6));
+            return storedStrength != strength && permits.availablePermits() > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private <T> T run(Timer timer, Supplier<T> task) {
+        acquire();
+        try {
+            return timer.record(task);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        long startedAt = System.nanoTime();
+        if (permits.tryAcquire()) {
+            queueWaitTimer.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        // 이미 기다리는 요청이 많으면 기다리지 않고 거절
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            throw busy();
+        }
+
+        try {
+            boolean acquired = permits.tryAcquire(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            queueWaitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                throw busy();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트가 발생했습니다.", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private PasswordHashBusyException busy() {
+        rejectedCounter.increment();
+        return new PasswordHashBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
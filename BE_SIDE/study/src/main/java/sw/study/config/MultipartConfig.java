@@ -0,0 +1,106 @@
+package sw.study.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.util.List;
+
+/**
+ * 업로드 크기 제한
+ * 모든 multipart 요청에는 기본 제한(spring.servlet.multipart)을 적용하고, 게시글 첨부 파일(POST /api/post)만 upload.attachment 제한까지 허용한다.
+ * 서블릿 컨테이너에는 둘 중 큰 제한을 걸고(큰 파일은 디스크에 임시 저장), 요청 경로에 맞는 제한은 MultipartResolver 에서 확인한다.
+ */
+@Configuration
+public class MultipartConfig {
+    static final String ATTACHMENT_PATH = "/api/post";
+
+    @Value("${upload.attachment.max-file-size:50MB}")
+    private DataSize attachmentMaxFileSize;
+
+    @Value("${upload.attachment.max-request-size:100MB}")
+    private DataSize attachmentMaxRequestSize;
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties properties) {
+        MultipartConfigElement defaults = properties.createMultipartConfig();
+        return new MultipartConfigElement(defaults.getLocation(),
+                Math.max(defaults.getMaxFileSize(), attachmentMaxFileSize.toBytes()),
+                Math.max(defaults.getMaxRequestSize(), attachmentMaxRequestSize.toBytes()),
+                defaults.getFileSizeThreshold());
+    }
+
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public StandardServletMultipartResolver multipartResolver(MultipartProperties properties) {
+        SizeLimitMultipartResolver resolver = new SizeLimitMultipartResolver(
+                properties.getMaxFileSize().toBytes(), properties.getMaxRequestSize().toBytes(),
+                attachmentMaxFileSize.toBytes(), attachmentMaxRequestSize.toBytes());
+        resolver.setResolveLazily(properties.isResolveLazily());
+        return resolver;
+    }
+
+    /**
+     * 요청 경로에 맞는 크기 제한을 확인하는 MultipartResolver
+     * Content-Length 로 먼저 거르고, 나눠 보낸(chunked) 요청은 파싱한 뒤 파일 크기를 합해 확인한다.
+     */
+    static class SizeLimitMultipartResolver extends StandardServletMultipartResolver {
+        private final long maxFileSize;
+        private final long maxRequestSize;
+        private final long attachmentMaxFileSize;
+        private final long attachmentMaxRequestSize;
+
+        SizeLimitMultipartResolver(long maxFileSize, long maxRequestSize, long attachmentMaxFileSize, long attachmentMaxRequestSize) {
+            this.maxFileSize = maxFileSize;
+            this.maxRequestSize = maxRequestSize;
+            this.attachmentMaxFileSize = attachmentMaxFileSize;
+            this.attachmentMaxRequestSize = attachmentMaxRequestSize;
+        }
+
+        @Override
+        public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) {
+            boolean attachment = isAttachment(request);
+            long fileLimit = attachment ? attachmentMaxFileSize : maxFileSize;
+            long requestLimit = attachment ? attachmentMaxRequestSize : maxRequestSize;
+            if (requestLimit >= 0 && request.getContentLengthLong() > requestLimit) {
+                throw new MaxUploadSizeExceededException(requestLimit);
+            }
+
+            MultipartHttpServletRequest multipartRequest = super.resolveMultipart(request);
+            try {
+                long total = 0;
+                for (List<MultipartFile> files : multipartRequest.getMultiFileMap().values()) {
+                    for (MultipartFile file : files) {
+                        if (fileLimit >= 0 && file.getSize() > fileLimit) {
+                            throw new MaxUploadSizeExceededException(fileLimit);
+                        }
+                        total += file.getSize();
+                    }
+                }
+                if (requestLimit >= 0 && total > requestLimit) {
+                    throw new MaxUploadSizeExceededException(requestLimit);
+                }
+            } catch (MaxUploadSizeExceededException e) {
+                cleanupMultipart(multipartRequest); // 임시 저장된 파일 삭제
+                throw e;
+            }
+            return multipartRequest;
+        }
+
+        private static boolean isAttachment(HttpServletRequest request) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            return "POST".equals(request.getMethod()) && ATTACHMENT_PATH.equals(path);
+        }
+    }
+}
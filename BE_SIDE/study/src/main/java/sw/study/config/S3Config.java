@@ -2,6 +2,7 @@ package sw.study.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,14 +21,25 @@ public class S3Config {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    @Value("${spring.cloud.aws.s3.endpoint:}") // 로컬 S3 호환 서버(MinIO, LocalStack 등) 주소
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3() {
         // AWS 자격 증명 객체 생성
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
 
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCreds)) // AWS 자격 증명을 클라이언트에 설정
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCreds)); // AWS 자격 증명을 클라이언트에 설정
+
+        if (endpoint.isBlank()) {
+            return builder.withRegion(region).build();
+        }
+
+        // 로컬 S3 호환 서버는 버킷을 경로로 지정
+        return builder
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                .withPathStyleAccessEnabled(true)
                 .build();
     }
 }
@@ -5,11 +5,18 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import sw.study.config.jwt.LoginMember;
 
 @Configuration
 public class SwaggerConfig {
+    static {
+        // @LoginMember 는 요청 파라미터가 아니므로 문서에서 제외 (인증은 JWT 보안 스키마로 표시)
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(LoginMember.class);
+    }
+
     @Bean
     public OpenAPI openAPI() {
         String jwt = "JWT";
@@ -1,6 +1,9 @@
 package sw.study.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,11 +19,12 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import sw.study.config.jwt.JWTService;
 import sw.study.config.jwt.JwtFilter;
+import sw.study.config.jwt.TokenRevocationCache;
 import sw.study.config.jwt.TokenProvider;
+import sw.study.config.ratelimit.RateLimitFilter;
+import sw.study.config.ratelimit.RateLimiter;
 import sw.study.user.service.MemberDetailsServiceImpl;
-import sw.study.user.util.RedisUtil;
 import java.util.List;
 
 import static org.springframework.security.config.Customizer.withDefaults;
@@ -31,8 +35,9 @@ import static org.springframework.security.config.Customizer.withDefaults;
 public class WebConfig {
     private final MemberDetailsServiceImpl memberDetailsService;
     private final TokenProvider tokenProvider;
-    private final RedisUtil redisUtil;
-    private final JWTService jwtService;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
@@ -52,6 +57,10 @@ public class WebConfig {
                         .requestMatchers("/api/auth/**", "/api/member/**").permitAll()
                         // 인증이 필요한 API 경로
                         .requestMatchers("/api/studyGroup/**").authenticated()
+                        // 상태 확인은 로드 밸런서/오케스트레이터 프로브가 인증 없이 호출한다.
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        // 운영 지표 (캐시 적중률 등)
+                        .requestMatchers("/actuator/**").authenticated()
                         // 나머지 모든 요청을 허용 (이 부분은 필요에 따라 수정 가능)
                         .anyRequest().permitAll()
                 )
@@ -67,21 +76,31 @@ public class WebConfig {
         //         .invalidateHttpSession(true) // 세션 무효화
         // );
 
+        // 인증/메일 API 요청 제한 (토큰 검증보다 먼저)
+        http.addFilterBefore(new RateLimitFilter(rateLimiter, objectMapper), UsernamePasswordAuthenticationFilter.class);
+
         // JwtFilter를 UsernamePasswordAuthenticationFilter 앞에 추가
-        http.addFilterBefore(new JwtFilter(tokenProvider, redisUtil, jwtService), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtFilter(tokenProvider, tokenRevocationCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build(); // 보안 필터 체인을 빌드하여 반환
     }
 
+    // 동시에 실행되는 해시 수를 CPU 코어 수로 제한 (BoundedBCryptPasswordEncoder 참고)
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                                       @Value("${security.password.hash-threads:0}") int threads,
+                                                       @Value("${security.password.hash-queue-capacity:64}") int queueCapacity,
+                                                       MeterRegistry meterRegistry) {
+        int concurrency = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedBCryptPasswordEncoder(strength, concurrency, queueCapacity, meterRegistry);
     }
 
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http, BCryptPasswordEncoder bCryptPasswordEncoder) throws Exception {
         AuthenticationManagerBuilder authenticationManagerBuilder = http.getSharedObject(AuthenticationManagerBuilder.class);
-        authenticationManagerBuilder.userDetailsService(memberDetailsService).passwordEncoder(bCryptPasswordEncoder);
+        // 로그인 성공 시 work factor 가 바뀐 해시는 memberDetailsService.updatePassword 로 다시 저장
+        authenticationManagerBuilder.userDetailsService(memberDetailsService).passwordEncoder(bCryptPasswordEncoder)
+                .userDetailsPasswordManager(memberDetailsService);
         return authenticationManagerBuilder.build();
     }
 
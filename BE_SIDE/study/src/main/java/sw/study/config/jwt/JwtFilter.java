@@ -1,5 +1,6 @@
 package sw.study.config.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,10 +8,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import sw.study.user.util.RedisUtil;
 
 import java.io.IOException;
 
@@ -21,8 +20,7 @@ public class JwtFilter extends OncePerRequestFilter {
     public static final String BEARER_PREFIX = "Bearer "; // Bearer 토큰의 접두사
 
     private final TokenProvider tokenProvider; // JWT 토큰을 처리하는 TokenProvider 인스턴스
-    private final RedisUtil redisUtil; // RedisTemplate 인스턴스 추가
-    private final JWTService jwtService;
+    private final TokenRevocationCache tokenRevocationCache; // 세션 epoch/비밀번호 재설정 목록의 로컬 사본
 
     // JWT 토큰의 인증 정보를 현재 쓰레드의 SecurityContext에 저장하는 역할 수행
     @Override
@@ -31,18 +29,20 @@ public class JwtFilter extends OncePerRequestFilter {
         // 1. Request Header에서 토큰을 꺼냄
         String jwt = resolveToken(request);
 
-        // 2. validateToken 으로 토큰 유효성 검사
+        // 2. 토큰을 한 번만 파싱해 검증 (검증된 클레임은 요청 속성에 저장되어 이후 서비스에서 재사용)
+        Claims claims = StringUtils.hasText(jwt) ? tokenProvider.verify(jwt) : null;
+
         // 정상 토큰이면 해당 토큰으로 Authentication을 가져와서 SecurityContext에 저장
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Object isLogoutObj = redisUtil.getBlackList("BlackList_" + jwt);
-            String email = jwtService.extractEmail(jwt);
-            String isReset = redisUtil.getData("PT:" + email);
-            boolean isLogout = (isLogoutObj != null && isLogoutObj instanceof Boolean) ? (Boolean) isLogoutObj : false;
+        if (claims != null) {
+            // 로그아웃(세션 epoch 가 올라갔는지) 여부와 비밀번호 재설정 여부를 로컬 사본으로 확인 (준비되지 않았다면 Redis 조회)
+            boolean[] revoked = tokenRevocationCache.check(claims.getSubject(), TokenProvider.getEpoch(claims));
+            boolean isLogout = revoked[0];
+            boolean isReset = revoked[1];
 
-            if(isReset == null){
+            if (!isReset) {
                 // 로그아웃되지 않은 경우
                 if (!isLogout) {
-                    Authentication authentication = tokenProvider.getAuthentication(jwt); // 토큰에서 인증 정보를 가져옴
+                    Authentication authentication = tokenProvider.getAuthentication(claims); // 토큰에서 인증 정보를 가져옴
                     SecurityContextHolder.getContext().setAuthentication(authentication); // SecurityContext에 인증 정보를 저장
                 } else {
                     // 로그아웃된 경우 적절한 처리 (예: 오류 응답 반환)
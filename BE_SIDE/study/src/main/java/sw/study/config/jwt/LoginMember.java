@@ -0,0 +1,20 @@
+package sw.study.config.jwt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 로그인한 회원의 ID(Long)를 주입한다.
+ * JwtFilter 가 검증한 토큰의 "mid" 클레임을 그대로 사용하므로 DB 조회가 없다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginMember {
+
+    /**
+     * false 면 로그인하지 않은 요청에 null 을 주입한다.
+     */
+    boolean required() default true;
+}
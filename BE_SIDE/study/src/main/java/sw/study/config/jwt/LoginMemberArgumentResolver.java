@@ -0,0 +1,38 @@
+package sw.study.config.jwt;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import sw.study.exception.BaseException;
+import sw.study.exception.ErrorCode;
+
+/**
+ * @LoginMember Long 파라미터 처리
+ * JwtFilter 가 SecurityContext 에 저장한 인증 정보의 details(회원 ID)를 꺼낸다.
+ */
+public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginMember.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof Long memberId) {
+            return memberId;
+        }
+
+        if (parameter.getParameterAnnotation(LoginMember.class).required()) {
+            throw new BaseException(ErrorCode.LOGIN_REQUIRED);
+        }
+        return null;
+    }
+}
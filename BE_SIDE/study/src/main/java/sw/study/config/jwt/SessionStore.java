@@ -0,0 +1,112 @@
+package sw.study.config.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 세션 상태(회원별 epoch, 비밀번호 재설정 토큰) 변경
+ * 로그인/로그아웃/강제 로그아웃/비밀번호 재설정의 Redis 변경과 다른 노드로의 전파(PUBLISH)를 Lua 스크립트 하나로 묶어
+ * 한 번의 왕복으로 원자적으로 처리한다. 조회는 TokenRevocationCache 의 로컬 사본을 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionStore {
+    static final String EPOCH_KEY = "SESSION:EPOCH"; // 해시 (field = 이메일, value = epoch)
+    static final String RESET_PREFIX = "PT:";
+    // 노드 재시작/메시지 유실 시 다시 읽어올 목록 (member = 이메일, score = 만료 시각)
+    static final String RESET_INDEX = "REVOKED:RESET";
+
+    // epoch 는 올릴 때의 시각(ms)과 이전 값 + 1 중 큰 값이다.
+    // 그래서 값만 보고 언제 올렸는지 알 수 있어, TokenRevocationCache 가 오래된 항목을 정리해도 이후 로그아웃이 기존 토큰을 무효화한다.
+    // KEYS[1] = epoch 해시, ARGV[1] = 이메일, ARGV[2] = 채널, ARGV[3] = 현재 시각(ms)
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "local epoch = string.format('%d', math.max(current + 1, tonumber(ARGV[3]))) " +
+            "redis.call('HSET', KEYS[1], ARGV[1], epoch) " +
+            "redis.call('PUBLISH', ARGV[2], 'E|' .. ARGV[1] .. '|' .. epoch) " +
+            "return tonumber(epoch)", Long.class);
+
+    // KEYS[1] = epoch 해시, ARGV[1] = 이메일, ARGV[2] = 채널, ARGV[3] = 토큰의 epoch, ARGV[4] = 현재 시각(ms)
+    // 토큰이 현재 세션의 것일 때만 epoch 를 올린다. (이미 지난 세션의 토큰이면 -1)
+    private static final RedisScript<Long> END_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if tonumber(ARGV[3]) < current then return -1 end " +
+            "local epoch = string.format('%d', math.max(current + 1, tonumber(ARGV[4]))) " +
+            "redis.call('HSET', KEYS[1], ARGV[1], epoch) " +
+            "redis.call('PUBLISH', ARGV[2], 'E|' .. ARGV[1] .. '|' .. epoch) " +
+            "return tonumber(epoch)", Long.class);
+
+    // KEYS[1] = PT:{이메일}, KEYS[2] = 재설정 목록, ARGV = 이메일, 토큰, 유효 시간(ms), 만료 시각, 채널
+    private static final RedisScript<Long> START_RESET_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1]) " +
+            "redis.call('PUBLISH', ARGV[5], 'R|' .. ARGV[1] .. '|' .. ARGV[4]) " +
+            "return 1", Long.class);
+
+    // KEYS[1] = PT:{이메일}, KEYS[2] = 재설정 목록, ARGV = 이메일, 채널
+    private static final RedisScript<Long> FINISH_RESET_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "redis.call('PUBLISH', ARGV[2], 'C|' .. ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenRevocationCache tokenRevocationCache;
+
+    /**
+     * epoch 를 올려 회원의 기존 토큰을 모두 무효화한다. (로그인, 강제 로그아웃)
+     * @return 새 epoch
+     */
+    public long bump(String email) {
+        Long epoch = stringRedisTemplate.execute(BUMP_SCRIPT, List.of(EPOCH_KEY),
+                email, TokenRevocationCache.CHANNEL, String.valueOf(System.currentTimeMillis()));
+        tokenRevocationCache.apply("E|" + email + "|" + epoch);
+        return epoch;
+    }
+
+    /**
+     * 현재 세션의 토큰인 경우에만 epoch 를 올려 로그아웃한다.
+     * 확인과 변경이 한 스크립트에서 실행되므로, 이전 세션의 토큰으로 로그아웃하는 요청이 동시에 진행된 새 로그인을 끊지 않는다.
+     * @return 로그아웃했으면 true, 이미 지난 세션의 토큰이면 false
+     */
+    public boolean endSession(String email, long tokenEpoch) {
+        Long epoch = stringRedisTemplate.execute(END_SESSION_SCRIPT, List.of(EPOCH_KEY),
+                email, TokenRevocationCache.CHANNEL, String.valueOf(tokenEpoch), String.valueOf(System.currentTimeMillis()));
+        if (epoch == null || epoch < 0) {
+            return false;
+        }
+        tokenRevocationCache.apply("E|" + email + "|" + epoch);
+        return true;
+    }
+
+    /**
+     * 비밀번호 재설정 토큰을 저장하고 모든 노드에 알린다.
+     */
+    public void startPasswordReset(String email, String token, long expirationMillis) {
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+        stringRedisTemplate.execute(START_RESET_SCRIPT, List.of(RESET_PREFIX + email, RESET_INDEX),
+                email, token, String.valueOf(expirationMillis), String.valueOf(expiresAt), TokenRevocationCache.CHANNEL);
+        tokenRevocationCache.apply("R|" + email + "|" + expiresAt);
+    }
+
+    /**
+     * 비밀번호 재설정 토큰을 삭제하고 모든 노드에 알린다.
+     */
+    public void finishPasswordReset(String email) {
+        stringRedisTemplate.execute(FINISH_RESET_SCRIPT, List.of(RESET_PREFIX + email, RESET_INDEX),
+                email, TokenRevocationCache.CHANNEL);
+        tokenRevocationCache.apply("C|" + email);
+    }
+
+    /**
+     * 저장된 비밀번호 재설정 토큰 (없거나 만료되었으면 null)
+     */
+    public String getPasswordResetToken(String email) {
+        return stringRedisTemplate.opsForValue().get(RESET_PREFIX + email);
+    }
+}
@@ -9,32 +9,38 @@ import org.springframework.security.core.*;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import java.security.Key;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import sw.study.user.util.RedisUtil;
 
 @Slf4j
 @Component
 public class TokenProvider {
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String EPOCH_KEY = "ver"; // 발급 시점의 세션 epoch (TokenRevocationCache)
+    private static final String MEMBER_ID_KEY = "mid"; // 회원 ID (@LoginMember)
     private static final String BEARER_TYPE = "Bearer";
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24;            // 1일
-    private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7;  // 7일
+    static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7;  // 7일 (TokenRevocationCache 의 epoch 보관 기간)
     private static final long PASSWORD_RESET_TOKEN_EXPIRE_TIME = 1000 * 60 * 10;// 10분
 
     private final Key key;
-    private final RedisUtil redisUtil;
+    private final JwtParser jwtParser; // 불변이므로 한 번 만들어 재사용
 
-    public TokenProvider(@Value("${jwt.secret}") String secretKey, RedisUtil redisUtil) {
+    public TokenProvider(@Value("${jwt.secret}") String secretKey) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
-        this.redisUtil = redisUtil;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
-    public TokenDTO generateTokenDTO(Authentication authentication) {
+    /**
+     * @param memberId 토큰에 담을 회원 ID (요청마다 이메일로 회원을 조회하지 않도록)
+     * @param epoch    회원의 현재 세션 epoch (이후 epoch 가 올라가면 이 토큰들은 무효가 된다.)
+     */
+    public TokenDTO generateTokenDTO(Authentication authentication, Long memberId, long epoch) {
         // 권한들 가져오기
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -50,6 +56,8 @@ public class TokenProvider {
         String accessToken = Jwts.builder()
                 .setSubject(authentication.getName())       // payload "sub": "name"
                 .claim(AUTHORITIES_KEY, authorities)        // payload "auth": "ROLE_USER"
+                .claim(MEMBER_ID_KEY, memberId)             // payload "mid": 1
+                .claim(EPOCH_KEY, epoch)                    // payload "ver": 0
                 .setExpiration(accessTokenExpiresIn)        // payload "exp": 1516239022 (예시)
                 .signWith(key, SignatureAlgorithm.HS512)    // header "alg": "HS512"
                 .compact();
@@ -58,6 +66,8 @@ public class TokenProvider {
         String refreshToken = Jwts.builder().
                 setSubject(authentication.getName())       // payload "sub": "name"
                 .claim(AUTHORITIES_KEY, authorities)
+                .claim(MEMBER_ID_KEY, memberId)
+                .claim(EPOCH_KEY, epoch)
                 .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
                 .claim("isRefreshToken", true)
                 .signWith(key, SignatureAlgorithm.HS512)
@@ -82,23 +92,11 @@ public class TokenProvider {
 
         String email = claims.getSubject();
         String authorities = claims.get(AUTHORITIES_KEY).toString();
+        Long memberId = getMemberId(claims);
+        long epoch = getEpoch(claims); // 같은 세션이므로 epoch 유지
 
-        String newAccessToken = generateAccessToken(email, authorities);
-        String newRefreshToken = generateRefreshToken(email, authorities);
-
-        String refreshTokenKey = "RT:" + email;
-        String accessTokenKey = "AT:" + email;
-
-        // 기존의 accessToken을 Redis에서 삭제
-        redisUtil.delete(accessTokenKey);
-
-        // 기존의 refreshToken 삭제
-        redisUtil.delete(refreshTokenKey);
-
-        redisUtil.setData(refreshTokenKey, newRefreshToken, REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
-
-        // Access Token도 Redis에 저장
-        redisUtil.setData(accessTokenKey, newAccessToken, ACCESS_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+        String newAccessToken = generateAccessToken(email, authorities, memberId, epoch);
+        String newRefreshToken = generateRefreshToken(email, authorities, memberId, epoch);
 
         return TokenDTO.builder()
                 .grantType(BEARER_TYPE)
@@ -108,36 +106,34 @@ public class TokenProvider {
                 .build();
     }
 
-    private String generateAccessToken(String email, String authorities) {
+    private String generateAccessToken(String email, String authorities, Long memberId, long epoch) {
         long now = (new Date()).getTime();
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
         return Jwts.builder()
                 .setSubject(email)
                 .claim(AUTHORITIES_KEY, authorities)
+                .claim(MEMBER_ID_KEY, memberId)
+                .claim(EPOCH_KEY, epoch)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    private String generateRefreshToken(String email, String authorities) {
+    private String generateRefreshToken(String email, String authorities, Long memberId, long epoch) {
         long now = (new Date()).getTime();
         return Jwts.builder()
                 .setSubject(email)
                 .claim(AUTHORITIES_KEY, authorities)
+                .claim(MEMBER_ID_KEY, memberId)
+                .claim(EPOCH_KEY, epoch)
                 .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
                 .claim("isRefreshToken", true) // refreshToken 임을 나타내는 클레임 추가
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public Authentication getAuthentication(String accessToken) {
-        if (isTokenBlacklisted(accessToken)) {
-            throw new RuntimeException("블랙리스트에 등록된 토큰입니다.");
-        }
-
-        // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
-
+    // 이미 검증된 클레임으로 인증 정보 생성 (JwtFilter 에서 세션 epoch 확인 후 호출)
+    public Authentication getAuthentication(Claims claims) {
         // 권한 정보가 없을 경우 예외 처리
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
@@ -164,16 +160,29 @@ public class TokenProvider {
         // UserDetails 객체를 만들어서 Authentication 리턴
         UserDetails principal = new User(claims.getSubject(), "", authorities);
 
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        authentication.setDetails(getMemberId(claims)); // @LoginMember 로 주입할 회원 ID
+        return authentication;
     }
 
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * 서명/만료를 검증하고 클레임 반환 (유효하지 않으면 null)
+     * 같은 요청 안에서 이미 검증한 토큰은 다시 파싱하지 않는다.
+     */
+    public Claims verify(String token) {
+        Claims verifiedClaims = findVerifiedClaims(token);
+        if (verifiedClaims != null) {
+            return verifiedClaims;
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            rememberVerifiedClaims(token, claims);
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -183,12 +192,17 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
     public Claims parseClaims(String accessToken) {
+        Claims verifiedClaims = findVerifiedClaims(accessToken);
+        if (verifiedClaims != null) {
+            return verifiedClaims;
+        }
+
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -196,15 +210,48 @@ public class TokenProvider {
 
     public Long getExpiration(String accessToken) {
         // accessToken 남은 유효시간
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody().getExpiration();
+        Claims verifiedClaims = findVerifiedClaims(accessToken);
+        Date expiration = (verifiedClaims != null ? verifiedClaims : jwtParser.parseClaimsJws(accessToken).getBody()).getExpiration();
         // 현재 시간
         Long now = new Date().getTime();
         return (expiration.getTime() - now);
     }
 
-    public boolean isTokenBlacklisted(String accessToken) {
-        String blacklistKey = "BlackList_" + accessToken;
-        return redisUtil.hasKeyBlackList(blacklistKey); // 블랙리스트에 존재하는지 체크
+    private static Claims findVerifiedClaims(String token) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Object verifiedToken = attributes.getAttribute(VerifiedToken.ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (verifiedToken instanceof VerifiedToken verified && verified.getToken().equals(token)
+                && (verified.getClaims().getExpiration() == null || verified.getClaims().getExpiration().after(new Date()))) {
+            return verified.getClaims();
+        }
+        return null;
+    }
+
+    private static void rememberVerifiedClaims(String token, Claims claims) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(VerifiedToken.ATTRIBUTE_NAME, new VerifiedToken(token, claims), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 토큰에 담긴 회원 ID ("mid" 클레임이 없으면 null)
+     */
+    public static Long getMemberId(Claims claims) {
+        Number memberId = claims.get(MEMBER_ID_KEY, Number.class);
+        return memberId != null ? memberId.longValue() : null;
+    }
+
+    /**
+     * 토큰이 발급된 세션 epoch ("ver" 클레임이 없는 이전 토큰은 -1 로 항상 무효)
+     */
+    public static long getEpoch(Claims claims) {
+        Number epoch = claims.get(EPOCH_KEY, Number.class);
+        return epoch != null ? epoch.longValue() : -1L;
     }
 
     public String generatePasswordResetToken(String email) {
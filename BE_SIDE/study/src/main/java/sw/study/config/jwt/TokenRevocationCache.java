@@ -0,0 +1,277 @@
+package sw.study.config.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 세션 버전(epoch)과 비밀번호 재설정 중인 회원(PT:)의 로컬 사본
+ * 토큰에는 발급 시점의 epoch 가 "ver" 클레임으로 들어가고, 로그아웃/강제 로그아웃/비밀번호 변경/탈퇴 시 epoch 를 1 올려
+ * 그 이전에 발급된 토큰을 한 번에 무효화한다. (Redis 에는 토큰 문자열 대신 SESSION:EPOCH 해시에 회원당 숫자 하나만 남는다.)
+ * 변경은 SessionStore 가 담당하고, 각 노드는 두 목록 전체를 메모리에 들고 JwtFilter 는 로컬에서만 확인하며, 변경은 Redis pub/sub 으로 즉시 전파하고
+ * 놓친 메시지는 주기적인 재적재(reload)로 맞춘다. 재적재 전이거나 상한을 넘었거나 Redis 오류가 난 경우에는 Redis 를 직접 조회한다.
+ * epoch 는 올린 시각(ms)이므로, Refresh Token 유효 기간보다 오래전에 올린 epoch 는 재적재할 때 Redis 와 로컬에서 지운다.
+ * (그 epoch 로 무효화된 토큰은 이미 모두 만료되었고, 이후 로그아웃하면 현재 시각으로 다시 올라가 남은 토큰도 무효가 된다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationCache implements MessageListener {
+    public static final String CHANNEL = "token-revocation";
+    private static final String EPOCH_KEY = SessionStore.EPOCH_KEY;
+    private static final String RESET_PREFIX = SessionStore.RESET_PREFIX;
+    private static final String RESET_INDEX = SessionStore.RESET_INDEX;
+    private static final int MAX_ENTRIES = 100_000;
+    // 시각 기준으로 바뀌기 전의 epoch(1, 2, ...)는 올린 시각을 알 수 없으므로 지우지 않는다. (다음 로그아웃 때 시각으로 바뀐다.)
+    private static final long MIN_TIMESTAMP_EPOCH = 1_000_000_000_000L;
+    // 재적재 주기 동안 다른 노드가 늦게 발급한 토큰까지 고려한 여유
+    private static final long PRUNE_MARGIN_MILLIS = 1000 * 60 * 60;
+    private static final int PRUNE_BATCH_SIZE = 500;
+
+    // KEYS[1] = epoch 해시, ARGV[1] = 기준 epoch, ARGV[2..] = 이메일
+    // 그사이 epoch 가 다시 올라간 회원은 지우지 않는다.
+    private static final RedisScript<Long> PRUNE_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 " +
+            "for i = 2, #ARGV do " +
+            "  local epoch = tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0') " +
+            "  if epoch >= " + MIN_TIMESTAMP_EPOCH + " and epoch < tonumber(ARGV[1]) then " +
+            "    redis.call('HDEL', KEYS[1], ARGV[i]) " +
+            "    removed = removed + 1 " +
+            "  end " +
+            "end " +
+            "return removed", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Map<String, Long> epochs = new ConcurrentHashMap<>(); // 이메일 -> epoch (0 인 회원은 없음)
+    private final Map<String, Long> resettingEmails = new ConcurrentHashMap<>(); // 이메일 -> 만료 시각(ms)
+    // 재설정 목록을 마지막으로 바꾼 전파 메시지의 순번 (재적재 중에 도착한 메시지를 스냅샷이 덮어쓰지 않도록)
+    private final Map<String, Long> resetChanges = new HashMap<>();
+    private long resetSequence;
+    private volatile boolean ready;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 현재 세션 epoch (새로 발급하는 토큰의 "ver" 클레임)
+     */
+    public long currentEpoch(String email) {
+        if (ready) {
+            return epochs.getOrDefault(email, 0L);
+        }
+        Object epoch = stringRedisTemplate.opsForHash().get(EPOCH_KEY, email);
+        return epoch != null ? Long.parseLong(epoch.toString()) : 0L;
+    }
+
+    /**
+     * @param email      토큰의 subject
+     * @param tokenEpoch 토큰의 "ver" 클레임 (없으면 -1)
+     * @return [0] 로그아웃 등으로 무효화된 토큰인지, [1] 비밀번호 재설정 중인지
+     */
+    public boolean[] check(String email, long tokenEpoch) {
+        if (!ready) {
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hGet(bytes(EPOCH_KEY), bytes(email));
+                connection.keyCommands().exists(bytes(RESET_PREFIX + email));
+                return null;
+            });
+            long epoch = results.get(0) != null ? Long.parseLong(results.get(0).toString()) : 0L;
+            return new boolean[]{tokenEpoch < epoch, Boolean.TRUE.equals(results.get(1))};
+        }
+
+        Long expiresAt = resettingEmails.get(email);
+        return new boolean[]{
+                tokenEpoch < epochs.getOrDefault(email, 0L),
+                expiresAt != null && expiresAt > System.currentTimeMillis()
+        };
+    }
+
+    /**
+     * Redis 의 목록으로 로컬 사본을 다시 맞추고 만료된 항목을 정리한다. (시작 시, 그리고 주기적으로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        try {
+            long now = System.currentTimeMillis();
+            long pruneBefore = now - TokenProvider.REFRESH_TOKEN_EXPIRE_TIME - PRUNE_MARGIN_MILLIS;
+            long sequence = startResetSnapshot();
+            Map<String, Long> emails = read(RESET_INDEX, now);
+            Map<String, Long> currentEpochs = readEpochs(pruneBefore);
+            pruneEpochs(pruneBefore);
+            if (currentEpochs.size() > MAX_ENTRIES || emails.size() > MAX_ENTRIES) {
+                ready = false;
+                epochs.clear();
+                resettingEmails.clear();
+                return;
+            }
+
+            // epoch 는 줄어들지 않으므로 큰 값을 남긴다.
+            currentEpochs.forEach((email, epoch) -> epochs.merge(email, epoch, Math::max));
+            mergeResets(emails, sequence);
+
+            ready = withinLimit();
+        } catch (RuntimeException e) {
+            ready = false;
+            log.warn("세션 epoch 로컬 사본 재적재 실패, Redis 직접 조회로 전환", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        apply(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 전파 메시지 반영
+     * E|{이메일}|{epoch}, R|{이메일}|{만료 시각}, C|{이메일}
+     */
+    void apply(String message) {
+        char type = message.charAt(0);
+        String body = message.substring(2);
+        if (type == 'C') {
+            synchronized (resetChanges) {
+                resettingEmails.remove(body);
+                resetChanges.put(body, ++resetSequence);
+            }
+            return;
+        }
+
+        int separator = body.lastIndexOf('|');
+        String key = body.substring(0, separator);
+        long value = Long.parseLong(body.substring(separator + 1));
+        Map<String, Long> entries = type == 'E' ? epochs : resettingEmails;
+        if (entries.size() >= MAX_ENTRIES && !entries.containsKey(key)) {
+            ready = false;
+            return;
+        }
+        if (type == 'E') {
+            epochs.merge(key, value, Math::max); // 다른 노드의 메시지가 순서 없이 도착해도 큰 값 유지
+        } else {
+            synchronized (resetChanges) {
+                resettingEmails.put(key, value);
+                resetChanges.put(key, ++resetSequence);
+            }
+        }
+    }
+
+    /**
+     * 재설정 목록 스냅샷을 읽기 전에 호출 (이후 도착하는 전파 메시지는 스냅샷보다 우선한다.)
+     * @return 스냅샷 순번
+     */
+    long startResetSnapshot() {
+        synchronized (resetChanges) {
+            return ++resetSequence;
+        }
+    }
+
+    /**
+     * Redis 스냅샷을 로컬 재설정 목록에 합친다.
+     * 스냅샷을 읽기 시작한 뒤 전파 메시지로 바뀐 회원은 로컬 값을 그대로 두고, 나머지는 스냅샷에 맞춘다.
+     * (재설정 완료(삭제)는 Redis 목록에 없는 것으로 반영)
+     */
+    void mergeResets(Map<String, Long> snapshot, long sequence) {
+        synchronized (resetChanges) {
+            resettingEmails.keySet().removeIf(email -> !snapshot.containsKey(email) && !changedSince(email, sequence));
+            snapshot.forEach((email, expiresAt) -> {
+                if (!changedSince(email, sequence)) {
+                    resettingEmails.put(email, expiresAt);
+                }
+            });
+            resetChanges.values().removeIf(changedAt -> changedAt < sequence);
+        }
+    }
+
+    /**
+     * 기준 시각보다 전에 올린 epoch 를 로컬 사본에서 지운다. (그사이 다시 올라간 값은 남는다.)
+     */
+    void pruneEpochs(long pruneBefore) {
+        epochs.values().removeIf(epoch -> isPrunable(epoch, pruneBefore));
+    }
+
+    // 테스트용
+    void markReady() {
+        ready = withinLimit();
+    }
+
+    private Map<String, Long> read(String indexKey, long now) {
+        stringRedisTemplate.opsForZSet().removeRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now);
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet().rangeWithScores(indexKey, 0, -1);
+
+        Map<String, Long> entries = new HashMap<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                entries.put(tuple.getValue(), tuple.getScore().longValue());
+            }
+        }
+        return entries;
+    }
+
+    // epoch 해시를 나눠 읽으면서(HSCAN) 오래된 항목은 Redis 에서 지우고, 남은 항목만 반환한다.
+    private Map<String, Long> readEpochs(long pruneBefore) {
+        Map<String, Long> entries = new HashMap<>();
+        List<String> prunable = new ArrayList<>();
+        try (Cursor<Map.Entry<Object, Object>> cursor = stringRedisTemplate.opsForHash()
+                .scan(EPOCH_KEY, ScanOptions.scanOptions().count(1000).build())) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                long epoch = Long.parseLong(entry.getValue().toString());
+                if (isPrunable(epoch, pruneBefore)) {
+                    prunable.add(entry.getKey().toString());
+                } else if (entries.size() <= MAX_ENTRIES) { // 상한을 넘었는지만 알면 되므로 더 담지 않는다.
+                    entries.put(entry.getKey().toString(), epoch);
+                }
+            }
+        }
+
+        for (int from = 0; from < prunable.size(); from += PRUNE_BATCH_SIZE) {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(pruneBefore));
+            args.addAll(prunable.subList(from, Math.min(from + PRUNE_BATCH_SIZE, prunable.size())));
+            stringRedisTemplate.execute(PRUNE_SCRIPT, List.of(EPOCH_KEY), args.toArray());
+        }
+        if (!prunable.isEmpty()) {
+            log.info("오래된 세션 epoch 정리: {}건", prunable.size());
+        }
+        return entries;
+    }
+
+    private static boolean isPrunable(long epoch, long pruneBefore) {
+        return epoch >= MIN_TIMESTAMP_EPOCH && epoch < pruneBefore;
+    }
+
+    private boolean changedSince(String email, long sequence) {
+        Long changedAt = resetChanges.get(email);
+        return changedAt != null && changedAt > sequence;
+    }
+
+    // 상한을 넘으면 (대량 로그아웃 등) 메모리를 보호하기 위해 Redis 직접 조회로 전환
+    private boolean withinLimit() {
+        return epochs.size() <= MAX_ENTRIES && resettingEmails.size() <= MAX_ENTRIES;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
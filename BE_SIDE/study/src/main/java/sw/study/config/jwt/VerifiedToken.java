@@ -0,0 +1,17 @@
+package sw.study.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 현재 요청에서 이미 서명/만료 검증을 마친 토큰과 클레임 (요청 속성에 저장)
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+    public static final String ATTRIBUTE_NAME = VerifiedToken.class.getName();
+
+    private final String token;
+    private final Claims claims;
+}
@@ -0,0 +1,146 @@
+package sw.study.config.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 인증/메일 API 요청 제한 필터 (RateLimiter 의 규칙에 해당하는 POST 요청만)
+ * 본문의 이메일을 읽어 IP 버킷과 (IP, 이메일) 버킷을 함께 확인하고, 한도를 넘으면 429 와 Retry-After 로 응답한다.
+ * 본문은 한 번 읽어 두고 컨트롤러가 다시 읽을 수 있도록 감싸서 넘긴다.
+ * 이메일 버킷을 피하지 못하도록 길이를 알 수 없는(chunked) 본문도 MAX_BODY_BYTES 까지 읽고, 그보다 큰 본문은 413 으로 거절한다.
+ * (프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 실제 클라이언트 IP 로 제한된다.)
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRule rule = "POST".equals(request.getMethod()) ? rateLimiter.findRule(request.getRequestURI()) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = readBody(request);
+        if (body.length > MAX_BODY_BYTES) {
+            response.setStatus(413); // Payload Too Large
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("요청 본문이 너무 큽니다.");
+            return;
+        }
+        HttpServletRequest wrapped = new CachedBodyRequest(request, body);
+
+        long waitMillis = rateLimiter.tryAcquire(rule.buckets(request.getRemoteAddr(), extractEmail(body)));
+        if (waitMillis > 0) {
+            response.setStatus(429); // Too Many Requests
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        filterChain.doFilter(wrapped, response);
+    }
+
+    // 최대 MAX_BODY_BYTES + 1 바이트까지만 읽는다. (길이가 더 길면 큰 본문으로 판단)
+    private static byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+            return new byte[MAX_BODY_BYTES + 1];
+        }
+        return request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+    }
+
+    // {"email": "..."} 또는 "..." (send-reset-token 은 문자열 본문)
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        String email;
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            email = node.isTextual() ? node.asText() : node.path("email").asText(null);
+        } catch (IOException e) {
+            email = new String(body, StandardCharsets.UTF_8);
+        }
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.replace("\"", "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽을 수 있다고 알린다.
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
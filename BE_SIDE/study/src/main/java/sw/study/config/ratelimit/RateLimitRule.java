@@ -0,0 +1,45 @@
+package sw.study.config.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔드포인트별 요청 제한 (IP 당 버킷 + (IP, 이메일) 당 버킷)
+ * rate-limit.{name}.ip-capacity 처럼 설정으로 바꿀 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RateLimitRule {
+    private final String name;
+    private final String path;
+    private final long ipCapacity;
+    private final long ipRefillMillis;
+    private final long emailCapacity;
+    private final long emailRefillMillis;
+
+    public static RateLimitRule of(Environment environment, String name, String path,
+                                   long ipCapacity, long ipRefillSeconds, long emailCapacity, long emailRefillSeconds) {
+        String prefix = "rate-limit." + name + ".";
+        return new RateLimitRule(name, path,
+                environment.getProperty(prefix + "ip-capacity", Long.class, ipCapacity),
+                environment.getProperty(prefix + "ip-refill-seconds", Long.class, ipRefillSeconds) * 1000,
+                environment.getProperty(prefix + "email-capacity", Long.class, emailCapacity),
+                environment.getProperty(prefix + "email-refill-seconds", Long.class, emailRefillSeconds) * 1000);
+    }
+
+    /**
+     * @param email 요청 본문의 이메일 (없으면 IP 버킷만 사용)
+     */
+    public List<TokenBucket> buckets(String ip, String email) {
+        List<TokenBucket> buckets = new ArrayList<>(2);
+        buckets.add(new TokenBucket("RATE:" + name + ":" + ip, ipCapacity, ipRefillMillis));
+        if (email != null) {
+            buckets.add(new TokenBucket("RATE:" + name + ":" + ip + ":" + email, emailCapacity, emailRefillMillis));
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,160 @@
+package sw.study.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 인증/메일 API 요청 제한 (토큰 버킷)
+ * 버킷은 Redis 해시(t = 남은 토큰, ts = 마지막 갱신 시각)에 두고 Lua 스크립트로 여러 버킷을 한 번에 확인/차감해 모든 노드가 같은 한도를 공유한다.
+ * Redis 가 느리거나(SLOW_THRESHOLD) 오류가 나면 FALLBACK 동안 Redis 를 호출하지 않고 노드별 로컬 버킷으로 제한한다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    private static final long SLOW_THRESHOLD_MILLIS = 50;
+    private static final long FALLBACK_MILLIS = 10_000;
+
+    // KEYS = 버킷, ARGV[2i-1] = 용량, ARGV[2i] = 토큰 1개가 채워지는 시간(ms)
+    // 모든 버킷에 토큰이 있을 때만 하나씩 차감한다. 반환값: 0 = 허용, 그 외 = 다시 시도할 수 있을 때까지 남은 시간(ms)
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local tokens = {} " +
+            "local wait = 0 " +
+            "for i = 1, #KEYS do " +
+            "  local capacity = tonumber(ARGV[i * 2 - 1]) " +
+            "  local refill = tonumber(ARGV[i * 2]) " +
+            "  local bucket = redis.call('HMGET', KEYS[i], 't', 'ts') " +
+            "  local t = tonumber(bucket[1]) or capacity " +
+            "  local ts = tonumber(bucket[2]) or now " +
+            "  t = math.min(capacity, t + math.max(0, now - ts) / refill) " +
+            "  tokens[i] = t " +
+            "  if t < 1 then wait = math.max(wait, math.ceil((1 - t) * refill)) end " +
+            "end " +
+            "for i = 1, #KEYS do " +
+            "  local t = tokens[i] " +
+            "  if wait == 0 then t = t - 1 end " +
+            "  redis.call('HSET', KEYS[i], 't', tostring(t), 'ts', now) " +
+            "  redis.call('PEXPIRE', KEYS[i], math.ceil(tonumber(ARGV[i * 2 - 1]) * tonumber(ARGV[i * 2]))) " +
+            "end " +
+            "return wait", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, RateLimitRule> rules; // 경로 -> 규칙
+    private final Cache<String, LocalBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+    private volatile long fallbackUntil;
+
+    public RateLimiter(StringRedisTemplate stringRedisTemplate, Environment environment) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rules = Stream.of(
+                RateLimitRule.of(environment, "send-verification-email", "/api/auth/send-verification-email", 10, 30, 3, 60),
+                RateLimitRule.of(environment, "send-reset-token", "/api/auth/send-reset-token", 10, 30, 3, 60),
+                RateLimitRule.of(environment, "login", "/api/auth/login", 30, 2, 10, 30),
+                RateLimitRule.of(environment, "verify-email", "/api/auth/verify-email", 30, 2, 10, 30)
+        ).collect(Collectors.toMap(RateLimitRule::getPath, Function.identity()));
+    }
+
+    /**
+     * 요청 경로에 해당하는 규칙 (제한하지 않는 경로면 null)
+     */
+    public RateLimitRule findRule(String path) {
+        return rules.get(path);
+    }
+
+    /**
+     * 모든 버킷에서 토큰을 하나씩 꺼낸다.
+     * @return 0 이면 허용, 그 외에는 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(List<TokenBucket> buckets) {
+        if (System.currentTimeMillis() < fallbackUntil) {
+            return tryAcquireLocal(buckets);
+        }
+
+        List<String> keys = new ArrayList<>(buckets.size());
+        List<String> args = new ArrayList<>(buckets.size() * 2);
+        for (TokenBucket bucket : buckets) {
+            keys.add(bucket.getKey());
+            args.add(String.valueOf(bucket.getCapacity()));
+            args.add(String.valueOf(bucket.getRefillMillis()));
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Long wait = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys, args.toArray());
+            if (System.currentTimeMillis() - start > SLOW_THRESHOLD_MILLIS) {
+                startFallback("응답 지연");
+            }
+            return wait != null ? wait : 0L;
+        } catch (RuntimeException e) {
+            startFallback(e.getMessage());
+            return tryAcquireLocal(buckets);
+        }
+    }
+
+    private void startFallback(String reason) {
+        if (System.currentTimeMillis() >= fallbackUntil) {
+            log.warn("요청 제한 Redis 사용 불가({}), {}ms 동안 로컬 버킷으로 전환", reason, FALLBACK_MILLIS);
+        }
+        fallbackUntil = System.currentTimeMillis() + FALLBACK_MILLIS;
+    }
+
+    private long tryAcquireLocal(List<TokenBucket> buckets) {
+        List<LocalBucket> locals = buckets.stream()
+                .map(bucket -> localBuckets.get(bucket.getKey(), key -> new LocalBucket(bucket.getCapacity(), bucket.getRefillMillis())))
+                .toList();
+        long now = System.currentTimeMillis();
+
+        // 버킷마다 잠그면 교착 위험이 있으므로 목록 전체를 한 번에 처리
+        synchronized (localBuckets) {
+            long wait = 0;
+            for (LocalBucket local : locals) {
+                wait = Math.max(wait, local.waitMillis(now));
+            }
+            if (wait == 0) {
+                locals.forEach(LocalBucket::take);
+            }
+            return wait;
+        }
+    }
+
+    private static class LocalBucket {
+        private final long capacity;
+        private final long refillMillis;
+        private double tokens;
+        private long updatedAt;
+
+        LocalBucket(long capacity, long refillMillis) {
+            this.capacity = capacity;
+            this.refillMillis = refillMillis;
+            this.tokens = capacity;
+            this.updatedAt = System.currentTimeMillis();
+        }
+
+        long waitMillis(long now) {
+            tokens = Math.min(capacity, tokens + Math.max(0, now - updatedAt) / (double) refillMillis);
+            updatedAt = now;
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * refillMillis);
+        }
+
+        void take() {
+            tokens -= 1;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package sw.study.config.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 버킷 하나 (capacity 개까지 쌓이고, refillMillis 마다 1개씩 채워진다.)
+ */
+@Getter
+@RequiredArgsConstructor
+public class TokenBucket {
+    private final String key;
+    private final long capacity;
+    private final long refillMillis;
+}
@@ -0,0 +1,74 @@
+package sw.study.config.websocket;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.util.StringUtils;
+import sw.study.config.jwt.JwtFilter;
+import sw.study.config.jwt.TokenProvider;
+import sw.study.config.jwt.TokenRevocationCache;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더로 인증 (JwtFilter 와 같은 토큰 검증/세션 epoch 확인)
+ * 브라우저 WebSocket 은 핸드셰이크에 헤더를 넣을 수 없으므로 HTTP 필터 대신 CONNECT 에서 확인하고,
+ * 구독은 자신의 개인 큐(/user/queue/**)만 허용한다.
+ * 구독할 때마다 토큰의 만료 시각과 세션 epoch 를 다시 확인하고, 구독 없이 연결만 유지하는 세션은 StompSessionRegistry 가 닫는다.
+ */
+@RequiredArgsConstructor
+public class StompAuthInterceptor implements ChannelInterceptor {
+    public static final String USER_QUEUE_PREFIX = "/user/queue/";
+
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final StompSessionRegistry stompSessionRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            StompMemberPrincipal user = authenticate(accessor.getFirstNativeHeader(JwtFilter.AUTHORIZATION_HEADER));
+            accessor.setUser(user);
+            stompSessionRegistry.authenticated(accessor.getSessionId(), user);
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            if (!(accessor.getUser() instanceof StompMemberPrincipal user) || !stompSessionRegistry.isActive(user)) {
+                throw new MessageDeliveryException("인증이 만료되었습니다.");
+            }
+            String destination = accessor.getDestination();
+            if (destination == null || !destination.startsWith(USER_QUEUE_PREFIX)) {
+                throw new MessageDeliveryException("구독할 수 없는 경로입니다.");
+            }
+        } else if (accessor.getCommand() == StompCommand.SEND) {
+            throw new MessageDeliveryException("알림 채널은 수신 전용입니다.");
+        }
+        return message;
+    }
+
+    private StompMemberPrincipal authenticate(String bearerToken) {
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith(JwtFilter.BEARER_PREFIX)) {
+            throw new MessageDeliveryException("인증 토큰이 없습니다.");
+        }
+
+        Claims claims = tokenProvider.verify(bearerToken.substring(JwtFilter.BEARER_PREFIX.length()));
+        Long memberId = claims != null ? TokenProvider.getMemberId(claims) : null;
+        if (memberId == null) {
+            throw new MessageDeliveryException("유효하지 않은 토큰입니다.");
+        }
+
+        boolean[] revoked = tokenRevocationCache.check(claims.getSubject(), TokenProvider.getEpoch(claims));
+        if (revoked[0] || revoked[1]) {
+            throw new MessageDeliveryException("로그아웃된 사용자입니다.");
+        }
+        return new StompMemberPrincipal(memberId, claims.getSubject(),
+                TokenProvider.getEpoch(claims), claims.getExpiration().getTime());
+    }
+}
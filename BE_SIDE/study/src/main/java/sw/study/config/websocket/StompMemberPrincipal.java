@@ -0,0 +1,25 @@
+package sw.study.config.websocket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션의 사용자
+ * 이름을 회원 ID 로 두어 /user/{회원 ID}/queue/** 로 보낸 메시지가 그 회원의 모든 세션에 전달되도록 한다.
+ * 연결 이후에도 토큰이 유효한지 다시 확인할 수 있도록 토큰의 세션 epoch 와 만료 시각을 함께 둔다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StompMemberPrincipal implements Principal {
+    private final Long memberId;
+    private final String email;
+    private final long epoch;     // 토큰의 "ver" 클레임
+    private final long expiresAt; // 토큰의 만료 시각(ms)
+
+    @Override
+    public String getName() {
+        return String.valueOf(memberId);
+    }
+}
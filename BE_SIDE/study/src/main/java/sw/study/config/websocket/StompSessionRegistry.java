@@ -0,0 +1,90 @@
+package sw.study.config.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import sw.study.config.jwt.TokenRevocationCache;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 연결된 STOMP 세션과 인증된 사용자
+ * CONNECT 이후에도 토큰이 만료되거나 로그아웃/비밀번호 변경 등으로 세션 epoch 가 올라가면
+ * BatchScheduler 가 주기적으로 closeInvalidSessions 를 호출해 그 세션을 닫는다. (닫힌 세션에는 알림이 전달되지 않는다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompSessionRegistry implements WebSocketHandlerDecoratorFactory {
+    private final TokenRevocationCache tokenRevocationCache;
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, StompMemberPrincipal> users = new ConcurrentHashMap<>();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                users.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * CONNECT 로 인증된 사용자 등록 (STOMP 세션 ID 는 WebSocket 세션 ID 와 같다.)
+     */
+    public void authenticated(String sessionId, StompMemberPrincipal user) {
+        if (sessionId != null) {
+            users.put(sessionId, user);
+        }
+    }
+
+    /**
+     * 토큰이 만료되지 않았고, 이후 로그아웃 등으로 무효화되지 않았는지
+     */
+    public boolean isActive(StompMemberPrincipal user) {
+        if (System.currentTimeMillis() >= user.getExpiresAt()) {
+            return false;
+        }
+        boolean[] revoked = tokenRevocationCache.check(user.getEmail(), user.getEpoch());
+        return !revoked[0] && !revoked[1];
+    }
+
+    /**
+     * 토큰이 만료되었거나 무효화된 세션을 닫는다.
+     */
+    public void closeInvalidSessions() {
+        users.forEach((sessionId, user) -> {
+            if (isActive(user)) {
+                return;
+            }
+            users.remove(sessionId);
+            WebSocketSession session = sessions.get(sessionId);
+            if (session == null) {
+                return;
+            }
+            try {
+                session.close(CloseStatus.POLICY_VIOLATION.withReason("인증이 만료되었습니다."));
+                log.info("인증이 만료된 STOMP 세션 종료: memberId = {}, sessionId = {}", user.getMemberId(), sessionId);
+            } catch (IOException e) {
+                log.warn("STOMP 세션 종료 실패: sessionId = {}", sessionId, e);
+            }
+        });
+    }
+}
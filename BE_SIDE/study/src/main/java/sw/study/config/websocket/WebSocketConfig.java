@@ -0,0 +1,49 @@
+package sw.study.config.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import sw.study.config.jwt.TokenProvider;
+import sw.study.config.jwt.TokenRevocationCache;
+
+/**
+ * 알림 푸시용 STOMP 엔드포인트 (/ws)
+ * 각 노드는 자신에게 연결된 세션만 들고 있는 simple broker 를 쓰고, 노드 간 전달은 Redis pub/sub 으로 한다. (NotificationPushRelay)
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final StompSessionRegistry stompSessionRegistry;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // CORS 설정(WebConfig)과 같은 출처만 허용
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins("http://localhost:3000", "http://localhost:8080");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/queue");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new StompAuthInterceptor(tokenProvider, tokenRevocationCache, stompSessionRegistry));
+    }
+
+    // 인증이 만료된 세션을 닫을 수 있도록 세션 추적
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(stompSessionRegistry);
+    }
+}
@@ -25,6 +25,7 @@ public enum ErrorCode {
     STUDYGROUP_FULL(HttpStatus.BAD_REQUEST,"STUDYGROUP_FULL","해당 스터디그룹은 이미 가득 찬 상태입니다."),
 
     // 그 외
+    LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "LOGIN_REQUIRED", "로그인이 필요합니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "서버 에러가 발생했습니다."),
     DUPLICATE_NICKNAME(HttpStatus.CONFLICT,"DUPLICATE_NICKNAME","이미 사용중인 닉네임입니다."),
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND,"MEMBER_NOT_FOUND","해당 사용자가 존재하지 않습니다.");
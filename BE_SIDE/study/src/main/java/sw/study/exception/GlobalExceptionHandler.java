@@ -2,10 +2,12 @@ package sw.study.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -20,6 +22,21 @@ public class GlobalExceptionHandler {
                 .body(errorCode.getMessage());
     }
 
+    // 비밀번호 해시 대기열이 가득 찬 경우 (503 에러)
+    @ExceptionHandler(PasswordHashBusyException.class)
+    public ResponseEntity<?> handlePasswordHashBusyException(PasswordHashBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    // 업로드 크기 제한을 넘은 경우 (413 에러)
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<?> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body("업로드할 수 있는 크기를 넘었습니다.");
+    }
+
     // 모든 기타 예외 처리 (500 에러)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleUnexpectedException(Exception ex) {
@@ -0,0 +1,7 @@
+package sw.study.exception;
+
+public class PasswordHashBusyException extends RuntimeException {
+    public PasswordHashBusyException(String message) {
+        super(message);
+    }
+}
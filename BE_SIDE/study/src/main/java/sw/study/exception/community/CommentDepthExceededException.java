@@ -0,0 +1,7 @@
+package sw.study.exception.community;
+
+public class CommentDepthExceededException extends RuntimeException {
+    public CommentDepthExceededException(String message) {
+        super(message);
+    }
+}
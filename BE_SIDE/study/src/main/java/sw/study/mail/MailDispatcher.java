@@ -0,0 +1,127 @@
+package sw.study.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 아웃박스(MailOutbox)의 메일 발송
+ * 메일이 저장된 트랜잭션이 커밋되면 바로, 그리고 BatchScheduler 에서 주기적으로 발송할 메일을 잡아(claim) mailExecutor 에서 보낸다.
+ * JavaMailSender 는 send 호출마다 SMTP 연결을 새로 맺으므로, CHUNK_SIZE 개씩 묶어 한 연결로 보낸다.
+ * mailExecutor 가 가득 차면 호출한 스레드(요청/스케줄러)에서 보내지 않고, 잡아둔 메일을 돌려놓아 다음 발송 때 보낸다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+    private static final int BATCH_SIZE = 100;
+    private static final int CHUNK_SIZE = 20;
+
+    private final MailOutboxService mailOutboxService;
+    private final JavaMailSender emailSender;
+    private final Executor mailExecutor;
+
+    public MailDispatcher(MailOutboxService mailOutboxService, JavaMailSender emailSender,
+                          @Qualifier("mailExecutor") Executor mailExecutor) {
+        this.mailOutboxService = mailOutboxService;
+        this.emailSender = emailSender;
+        this.mailExecutor = mailExecutor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(MailQueuedEvent event) {
+        try {
+            mailExecutor.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            log.debug("메일 실행기가 가득 차 스케줄러 발송으로 넘김: mailId = {}", event.getMailId());
+        }
+    }
+
+    /**
+     * 발송할 메일이 없을 때까지 잡아서 보낸다.
+     * 잡은 메일은 다른 스레드/노드가 가져가지 않으므로 동시에 여러 번 호출되어도 같은 메일을 두 번 보내지 않는다.
+     */
+    public void dispatch() {
+        try {
+            List<MailOutbox> mails;
+            do {
+                mails = mailOutboxService.claim(BATCH_SIZE);
+                for (int i = 0; i < mails.size(); i += CHUNK_SIZE) {
+                    List<MailOutbox> chunk = mails.subList(i, Math.min(i + CHUNK_SIZE, mails.size()));
+                    try {
+                        mailExecutor.execute(() -> send(chunk));
+                    } catch (RejectedExecutionException e) {
+                        // 남은 메일은 돌려놓고 다음 발송 때 보낸다.
+                        mailOutboxService.release(mails.subList(i, mails.size()).stream().map(MailOutbox::getId).toList());
+                        log.warn("메일 실행기가 가득 차 {}건을 다음 발송으로 미룸", mails.size() - i);
+                        return;
+                    }
+                }
+            } while (mails.size() == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("메일 발송 대상 조회 실패", e);
+        }
+    }
+
+    /**
+     * 한 SMTP 연결로 묶어서 보내고, 메일별로 성공/실패를 기록한다.
+     */
+    void send(List<MailOutbox> mails) {
+        Map<MimeMessage, MailOutbox> messages = new LinkedHashMap<>(); // 잡아온 순서대로 발송
+        Map<Long, String> failures = new HashMap<>();
+        for (MailOutbox mail : mails) {
+            try {
+                messages.put(createMessage(mail), mail);
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), e.getMessage());
+            }
+        }
+
+        try {
+            if (!messages.isEmpty()) {
+                emailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            }
+        } catch (MailSendException e) {
+            // 실패한 메일만 failedMessages 에 담긴다. (연결 실패 시에는 전부)
+            e.getFailedMessages().forEach((message, cause) -> {
+                MailOutbox mail = messages.get(message);
+                if (mail != null) {
+                    failures.put(mail.getId(), cause.getMessage());
+                }
+            });
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+            }
+        } catch (MailException e) {
+            messages.values().forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (MailOutbox mail : mails) {
+            if (!failures.containsKey(mail.getId())) {
+                sentIds.add(mail.getId());
+            }
+        }
+        mailOutboxService.markSent(sentIds);
+        failures.forEach(mailOutboxService::markFailed);
+    }
+
+    private MimeMessage createMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = emailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, mail.isHtml(), "UTF-8");
+        helper.setTo(mail.getToEmail());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), mail.isHtml());
+        return message;
+    }
+}
@@ -0,0 +1,118 @@
+package sw.study.mail;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.*;
+
+/**
+ * 발송할 메일 (트랜잭션 아웃박스)
+ * 요청 스레드는 이 테이블에 저장만 하고, MailDispatcher 가 커밋 이후 SMTP 로 보낸다.
+ * 발송에 실패하면 nextAttemptAt 을 지수적으로 늦춰 재시도하고, MAX_ATTEMPTS 를 넘으면 DEAD 로 남긴다.
+ * 유효 시간(expiresAt)이 있는 메일은 그 안에 보내지 못하면 EXPIRED 로 바꿔, 만료된 인증 코드가 뒤늦게 도착하지 않게 한다.
+ * 보낸(SENT) 메일과 만료된(EXPIRED) 메일은 본문을 지우고, MailOutboxService.purge 가 보관 기간이 지나면 행을 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_due", columnList = "status, next_attempt_at"))
+public class MailOutbox {
+    public static final int MAX_ATTEMPTS = 6;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String toEmail;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body; // 발송/만료 후에는 null
+
+    private boolean html;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MailStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+    private LocalDateTime expiresAt; // 이 시각 이후에는 보내지 않는다. (null 이면 제한 없음)
+
+    //== 생성 메서드 ==//
+    public static MailOutbox createMail(String toEmail, String subject, String body, boolean html) {
+        return createMail(toEmail, subject, body, html, null);
+    }
+
+    /**
+     * @param validity 본문의 유효 시간 (인증 코드, 비밀번호 재설정 링크 등, null 이면 제한 없음)
+     */
+    public static MailOutbox createMail(String toEmail, String subject, String body, boolean html, Duration validity) {
+        MailOutbox mail = new MailOutbox();
+        mail.toEmail = toEmail;
+        mail.subject = subject;
+        mail.body = body;
+        mail.html = html;
+        mail.status = MailStatus.PENDING;
+        mail.createdAt = LocalDateTime.now();
+        mail.nextAttemptAt = mail.createdAt;
+        mail.expiresAt = validity != null ? mail.createdAt.plus(validity) : null;
+        return mail;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    // 유효 시간이 지나 보내지 않는다.
+    public void expire() {
+        this.status = MailStatus.EXPIRED;
+        this.body = null;
+    }
+
+    // 발송을 맡은 노드가 중간에 죽어도 leaseUntil 이후 다시 발송된다.
+    public void lease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 발송 실패 기록
+     * @return 더 이상 재시도하지 않으면 (DEAD 또는 EXPIRED) true
+     */
+    public boolean fail(String error, LocalDateTime now) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= MAX_ATTEMPTS) {
+            this.status = MailStatus.DEAD;
+            return true;
+        }
+
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << (attempts - 1));
+        this.nextAttemptAt = now.plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+        // 다음 재시도가 유효 시간을 넘으면 재시도하지 않는다.
+        if (isExpired(nextAttemptAt)) {
+            expire();
+            return true;
+        }
+        return false;
+    }
+}
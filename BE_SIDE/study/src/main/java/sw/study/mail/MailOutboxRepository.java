@@ -0,0 +1,35 @@
+package sw.study.mail;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송할 메일 (다른 노드가 잡고 있는 행은 건너뛴다: FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from MailOutbox m where m.status = sw.study.mail.MailStatus.PENDING and m.nextAttemptAt <= :now order by m.nextAttemptAt")
+    List<MailOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 보낸 메일의 본문(인증 코드 등)은 남기지 않는다.
+    @Modifying
+    @Query("update MailOutbox m set m.status = sw.study.mail.MailStatus.SENT, m.sentAt = :now, m.body = null where m.id in :ids")
+    int markSent(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // 실행기가 가득 차 보내지 못한 메일은 다음 발송 때 바로 다시 잡는다.
+    @Modifying
+    @Query("update MailOutbox m set m.nextAttemptAt = :now where m.id in :ids and m.status = sw.study.mail.MailStatus.PENDING")
+    int release(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 발송 완료/만료 메일 삭제 (DEAD 는 수동 확인을 위해 남긴다.)
+    @Modifying
+    @Query("delete from MailOutbox m where m.status in (sw.study.mail.MailStatus.SENT, sw.study.mail.MailStatus.EXPIRED)" +
+            " and m.createdAt < :before")
+    int deleteCompletedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,104 @@
+package sw.study.mail;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Long enqueue(String toEmail, String subject, String body, boolean html) {
+        return enqueue(toEmail, subject, body, html, null);
+    }
+
+    /**
+     * @param validity 본문의 유효 시간 (이 시간 안에 보내지 못하면 보내지 않는다, null 이면 제한 없음)
+     */
+    @Transactional
+    public Long enqueue(String toEmail, String subject, String body, boolean html, Duration validity) {
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.createMail(toEmail, subject, body, html, validity));
+        eventPublisher.publishEvent(new MailQueuedEvent(mail.getId()));
+        return mail.getId();
+    }
+
+    /**
+     * 발송 시각이 된 메일을 최대 limit 개 가져와 LEASE 동안 다른 노드/스레드가 가져가지 않도록 잡아둔다.
+     * 유효 시간이 지난 메일은 보내지 않고 EXPIRED 로 바꾼다. (반환 목록에서 제외)
+     */
+    @Transactional
+    public List<MailOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> mails = mailOutboxRepository.findDue(now, PageRequest.of(0, limit));
+        List<MailOutbox> claimed = new ArrayList<>();
+        for (MailOutbox mail : mails) {
+            if (mail.isExpired(now)) {
+                mail.expire();
+                log.warn("유효 시간이 지나 메일을 보내지 않음: mailId = {}", mail.getId());
+                continue;
+            }
+            mail.lease(now.plus(LEASE));
+            claimed.add(mail);
+        }
+        return claimed;
+    }
+
+    /**
+     * 잡아두었지만 보내지 못한 메일을 바로 다시 발송 대상으로 돌린다.
+     */
+    @Transactional
+    public void release(List<Long> mailIds) {
+        if (!mailIds.isEmpty()) {
+            mailOutboxRepository.release(mailIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 보관 기간(RETENTION)이 지난 발송 완료/만료 메일 삭제
+     */
+    @Transactional
+    public int purge() {
+        int deleted = mailOutboxRepository.deleteCompletedBefore(LocalDateTime.now().minus(RETENTION));
+        if (deleted > 0) {
+            log.info("발송 완료 메일 정리: {}건", deleted);
+        }
+        return deleted;
+    }
+
+    @Transactional
+    public void markSent(List<Long> mailIds) {
+        if (!mailIds.isEmpty()) {
+            mailOutboxRepository.markSent(mailIds, LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    public void markFailed(Long mailId, String error) {
+        mailOutboxRepository.findById(mailId).ifPresent(mail -> {
+            if (mail.fail(error, LocalDateTime.now())) {
+                if (mail.getStatus() == MailStatus.EXPIRED) {
+                    log.warn("메일 유효 시간 안에 재시도할 수 없어 발송 중단: mailId = {}, error = {}", mailId, error);
+                } else {
+                    log.error("메일 발송 재시도 횟수 초과: mailId = {}, to = {}, error = {}", mailId, mail.getToEmail(), error);
+                }
+            } else {
+                log.warn("메일 발송 실패, {} 에 재시도: mailId = {}, error = {}", mail.getNextAttemptAt(), mailId, error);
+            }
+        });
+    }
+}
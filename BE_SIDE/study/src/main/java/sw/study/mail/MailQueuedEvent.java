@@ -0,0 +1,13 @@
+package sw.study.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스에 메일이 저장되었을 때 발행되는 이벤트 (커밋 후 바로 발송을 시작)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MailQueuedEvent {
+    private final Long mailId;
+}
@@ -0,0 +1,8 @@
+package sw.study.mail;
+
+public enum MailStatus {
+    PENDING, // 발송 대기 (재시도 포함)
+    SENT,    // 발송 완료 (본문은 지운다)
+    EXPIRED, // 유효 시간(인증 코드 등)이 지나 보내지 않음 (본문은 지운다)
+    DEAD     // 재시도 횟수 초과 (수동 확인 필요)
+}
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sw.study.config.jwt.LoginMember;
 import sw.study.studyGroup.dto.DailyLogRequest;
 
 public interface DailyLogApiDocumentation {
@@ -22,13 +23,12 @@ public interface DailyLogApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "title", description = "데일리 로그 제목", example = "제목 예시"),
             @Parameter(name = "content", description = "데일리 로그 본문", example = "본문 예시입니다. 본문 내용이니까..")
     })
     ResponseEntity<?> createDailyLog(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody DailyLogRequest requestDto);
     
@@ -41,14 +41,13 @@ public interface DailyLogApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "page", description = "현재 페이지 (주의! 첫 페이지는 1부터가 아닌 0부터 시작)", example = "0"),
             @Parameter(name = "size", description = "페이지 당 보여질 항목의 수", example = "5"),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "date", description = "로그를 조회하려는 날짜 입력 (YYYYMMDD)", example = "20241122")
     })
     ResponseEntity<?> listOfDailyLog(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @RequestParam int page,
             @RequestParam int size,
             @PathVariable("groupId") Long groupId,
@@ -65,14 +64,13 @@ public interface DailyLogApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "logId", description = "데일리 로그 ID", example = "1"),
             @Parameter(name = "title", description = "로그 제목", example = "제목 예시"),
             @Parameter(name = "content", description = "로그 본문", example = "본문 예시입니다. 본문 내용이니까..")
     })
     ResponseEntity<?> updateDailyLog(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("logId") Long logId,
             @RequestBody DailyLogRequest requestDto);
@@ -88,12 +86,11 @@ public interface DailyLogApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "logId", description = "데일리 로그 ID", example = "1")
     })
     ResponseEntity<?> deleteDailyLog(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("logId") Long logId);
 }
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sw.study.config.jwt.LoginMember;
 import sw.study.studyGroup.dto.NoticeRequest;
 
 
@@ -22,13 +23,12 @@ public interface NoticeApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "title", description = "게시글 제목", example = "공지사항 제목 예시"),
             @Parameter(name = "content", description = "게시글 본문", example = "본문 예시입니다. 본문 내용이니까..")
     })
     ResponseEntity<?> createNotice(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody NoticeRequest requestDto);
 
@@ -41,13 +41,12 @@ public interface NoticeApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "page", description = "현재 페이지 ( 0 부터 시작하는것 주의 ) ", example = "0"),
             @Parameter(name = "size", description = "페이지당 보여질 항목 수", example = "5")
     })
     ResponseEntity<?> listOfNotices(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestParam int page,
             @RequestParam int size);
@@ -62,12 +61,11 @@ public interface NoticeApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "noticeId", description = "게시글 ID", example = "1")
     })
     ResponseEntity<?> noticeDetail(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("noticeId") Long noticeId);
 
@@ -82,14 +80,13 @@ public interface NoticeApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "noticeId", description = "게시글 ID", example = "1"),
             @Parameter(name = "title", description = "게시글 제목", example = "공지사항 제목 예시"),
             @Parameter(name = "content", description = "게시글 본문", example = "본문 예시입니다. 본문 내용이니까..")
     })
     ResponseEntity<?> updateNotice(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId")Long groupId,
             @PathVariable("noticeId") Long noticeId,
             @RequestBody NoticeRequest noticeRequest);
@@ -104,12 +101,11 @@ public interface NoticeApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "noticeId", description = "게시글 ID", example = "1")
     })
     ResponseEntity<?> deleteNotice(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("noticeId") Long noticeId);
 
@@ -123,12 +119,11 @@ public interface NoticeApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "noticeId", description = "게시글 ID", example = "1")
     })
     ResponseEntity<?> checkToggle(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("noticeId") Long noticeId);
 
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sw.study.config.jwt.LoginMember;
 import sw.study.studyGroup.dto.ScheduleRequest;
 
 public interface ScheduleApiDocumentation {
@@ -21,7 +22,6 @@ public interface ScheduleApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 ID", example = "1"),
             @Parameter(name = "title", description = "제목", example = "리액트 공부하자"),
             @Parameter(name = "description", description = "설명", example = "오늘은 useEffect 공부해보자고"),
@@ -29,7 +29,7 @@ public interface ScheduleApiDocumentation {
             @Parameter(name = "endDate", description = "종료일", example = "2024-12-10"),
     })
     public ResponseEntity<?> createSchedule(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody ScheduleRequest requestDto);
 
@@ -43,13 +43,12 @@ public interface ScheduleApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 ID", example = "1"),
             @Parameter(name = "year", description = "연", example = "2024"),
             @Parameter(name = "month", description = "월", example = "12"),
     })
     public ResponseEntity<?> listOfSchedules(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestParam(name = "year") int year,
             @RequestParam(name = "month") int month);
@@ -64,12 +63,11 @@ public interface ScheduleApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 ID", example = "1"),
             @Parameter(name = "scheduleId", description = "스케줄 ID", example = "1"),
     })
     public ResponseEntity<?> scheduleDetail(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("scheduleId") Long scheduleId);
 
@@ -83,7 +81,6 @@ public interface ScheduleApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 ID", example = "1"),
             @Parameter(name = "scheduleId", description = "스케줄 ID", example = "1"),
             @Parameter(name = "title", description = "제목", example = "리액트 공부하자"),
@@ -92,7 +89,7 @@ public interface ScheduleApiDocumentation {
             @Parameter(name = "endDate", description = "종료일 (yyyy-MM-DD)", example = "2024-12-10"),
     })
     public ResponseEntity<?> updateSchedule(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("scheduleId") Long scheduleId,
             @RequestBody ScheduleRequest scheduleRequest);
@@ -107,12 +104,11 @@ public interface ScheduleApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 ID", example = "1"),
             @Parameter(name = "scheduleId", description = "스케줄 ID", example = "1"),
     })
     public ResponseEntity<?> deleteSchedule(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("scheduleId") Long scheduleId);
 }
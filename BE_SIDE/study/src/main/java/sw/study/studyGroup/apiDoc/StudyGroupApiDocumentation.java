@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sw.study.config.jwt.LoginMember;
 import sw.study.studyGroup.dto.*;
 
 import java.util.List;
@@ -25,7 +26,6 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "nickname", description = "검색할 닉네임", example = "코난123"),
             @Parameter(name = "page", description = "현재 페이지 (주의! 첫 페이지는 1부터가 아닌 0부터 시작)", example = "0"),
             @Parameter(name = "size", description = "페이지 당 보여질 항목의 수", example = "5"),
@@ -35,7 +35,7 @@ public interface StudyGroupApiDocumentation {
                     example = "1"
             )
     })
-    ResponseEntity<?> searchMembers(@RequestHeader("Authorization") String accessToken,
+    ResponseEntity<?> searchMembers(@LoginMember Long memberId,
                                     @RequestParam String nickname,
                                     @RequestParam int page,
                                     @RequestParam int size,
@@ -48,14 +48,13 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupName", description = "그룹 이름", example = "리액트 초보방"),
             @Parameter(name = "description", description = "그룹 소개", example = "진짜 처음 하시는 분들만 오시면 좋겠어요. 고수 사절.."),
             @Parameter(name = "selectedNicknames", description = "검색 이후 선택한 닉네임들 (배열의 형태)", example = "[\"스폰지밥\", \"뚱이\", \"집게사장\"]"),
             @Parameter(name = "leaderNickname", description = "그룹 내 사용할 방장의 닉네임", example = "코난123")
     })
     ResponseEntity<Map<String,Object>> createStudyGroup(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @RequestBody StudyGroupRequest requestDto);
     
     // 받은 초대 확인
@@ -65,10 +64,7 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "404", description = "초대를 받은 내역이 존재하지 않습니다."),
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
-    @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
-    })
-    ResponseEntity<?> checkInvitedList(@RequestHeader("Authorization") String accessToken);
+    ResponseEntity<?> checkInvitedList(@LoginMember Long memberId);
 
     // 참가 중인 그룹 확인
     @Operation(summary = "참가중인 그룹 내역 확인", description = "참가중인 그룹 리스트 반환 ( 나의 그룹 )")
@@ -77,10 +73,7 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "404", description = "참여중인 그룹이 존재하지 않습니다."),
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
-    @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
-    })
-    ResponseEntity<?> checkJoinedList(@RequestHeader("Authorization") String accessToken);
+    ResponseEntity<?> checkJoinedList(@LoginMember Long memberId);
 
     // 초대 수락
     @Operation(summary = "받은 초대 수락", description = "받은 초대를 수락할 때 사용")
@@ -92,12 +85,11 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1"),
             @Parameter(name = "nickname", description = "그룹 내 사용할 닉네임", example = "코난123")
     })
     ResponseEntity<?> acceptInvitation(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId,
             @RequestBody NicknameRequest nicknameRequest);
 
@@ -109,11 +101,10 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생하였습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1")
     })
     ResponseEntity<?> rejectInvitation(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId);
 
     // 그룹 내 모든 참가자 확인
@@ -124,11 +115,10 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1")
     })
     ResponseEntity<?> listOfAll(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId);
 
     // 그룹 내 운영진 확인
@@ -139,11 +129,10 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류 발생")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1")
     })
     ResponseEntity<?> listOfManagers(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId);
 
     // 그룹 내 참가자 확인
@@ -154,11 +143,10 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1")
     })
     ResponseEntity<?> listOfMembers(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId);
 
     // 그룹 내 특정 참가자 신분 변경
@@ -169,12 +157,11 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1"),
             @Parameter(name = "nickname", description = "닉네임", example = "코난123"),
     })
     ResponseEntity<?> changeRole(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId,
             @PathVariable String nickname);
 
@@ -186,11 +173,10 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1"),
     })
     ResponseEntity<?> checkWaiting(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId);
 
     // 기존에 발송된 초대 취소
@@ -202,12 +188,11 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1"),
             @Parameter(name = "nickname", description = "닉네임", example = "코난123"),
     })
     ResponseEntity<?> rejectInvitation(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId,
             @PathVariable String nickname);
 
@@ -220,12 +205,11 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "그룹 Id", example = "1"),
             @Parameter(name = "nickname", description = "닉네임", example = "코난123"),
     })
     ResponseEntity<?> changeNickname(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId,
             @RequestBody NicknameRequest nicknameRequest);
 
@@ -239,13 +223,12 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "nicknames", description = "초대할 사용자들의 닉네임 리스트",
                     example = "[\"스폰지밥\", \"뚱이\", \"집게사장\"]")
     })
     ResponseEntity<?> inviteNewMember(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId,
             @RequestBody List<NicknameRequest> nicknameRequest);
 
@@ -260,12 +243,11 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", example = "1"),
             @Parameter(name = "nickname", description = "추방할 사용자의 닉네임", example = "코난123")
     })
     ResponseEntity<?> kickParticipant(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId,
             @PathVariable String nickname);
 
@@ -277,11 +259,10 @@ public interface StudyGroupApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @Parameters(value = {
-            @Parameter(name = "Authorization", description = "사용자 인증 토큰", required = true, example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."),
             @Parameter(name = "groupId", description = "스터디 그룹의 ID", required = true, example = "1")
     })
     ResponseEntity<?> quitStudyGroup(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable Long groupId);
 
 }
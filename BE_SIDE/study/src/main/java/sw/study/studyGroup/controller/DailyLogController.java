@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sw.study.config.jwt.LoginMember;
 import sw.study.studyGroup.apiDoc.DailyLogApiDocumentation;
 import sw.study.studyGroup.dto.DailyLogRequest;
 import sw.study.studyGroup.dto.DailyLogResponse;
@@ -24,11 +25,11 @@ public class DailyLogController implements DailyLogApiDocumentation {
     @Override
     @PostMapping("/create")
     public ResponseEntity<?> createDailyLog(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody DailyLogRequest requestDto) {
 
-        dailyLogService.createDailyLog(accessToken, groupId, requestDto.getTitle(), requestDto.getContent());
+        dailyLogService.createDailyLog(memberId, groupId, requestDto.getTitle(), requestDto.getContent());
         return ResponseEntity.status(HttpStatus.CREATED).body("데일리 로그가 성공적으로 작성되었습니다.");
     }
 
@@ -36,13 +37,13 @@ public class DailyLogController implements DailyLogApiDocumentation {
     @Override
     @GetMapping("/list")
     public ResponseEntity<?> listOfDailyLog(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @RequestParam(name = "page") int page,
             @RequestParam(name = "size") int size,
             @PathVariable("groupId") Long groupId,
             @RequestParam(name = "date") String date) {
 
-        List<DailyLogResponse> logs = dailyLogService.listOfDailyLog(accessToken, page, size, groupId, date);
+        List<DailyLogResponse> logs = dailyLogService.listOfDailyLog(memberId, page, size, groupId, date);
         return ResponseEntity.ok().body(logs); // 리스트 반환
     }
 
@@ -50,12 +51,12 @@ public class DailyLogController implements DailyLogApiDocumentation {
     @Override
     @PutMapping("/update/{logId}")
     public ResponseEntity<?> updateDailyLog(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("logId") Long logId,
             @RequestBody DailyLogRequest requestDto) {
 
-        dailyLogService.updateDailyLog(accessToken, groupId, logId, requestDto.getTitle(), requestDto.getContent());
+        dailyLogService.updateDailyLog(memberId, groupId, logId, requestDto.getTitle(), requestDto.getContent());
         return ResponseEntity.status(HttpStatus.OK).body("데일리 로그가 성공적으로 수정되었습니다.");
 
     }
@@ -64,11 +65,11 @@ public class DailyLogController implements DailyLogApiDocumentation {
     @Override
     @DeleteMapping("/delete/{logId}")
     public ResponseEntity<?> deleteDailyLog(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("logId") Long logId) {
 
-        dailyLogService.deleteDailyLog(accessToken,groupId, logId);
+        dailyLogService.deleteDailyLog(memberId,groupId, logId);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body("데일리 로그가 성공적으로 삭제되었습니다.");
     }
 }
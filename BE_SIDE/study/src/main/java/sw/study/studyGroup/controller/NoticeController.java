@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sw.study.config.jwt.LoginMember;
 import sw.study.studyGroup.apiDoc.NoticeApiDocumentation;
 import sw.study.studyGroup.dto.NoticeListResponse;
 import sw.study.studyGroup.dto.NoticeRequest;
@@ -29,11 +30,11 @@ public class NoticeController implements NoticeApiDocumentation {
     @Override
     @PostMapping("/create")
     public ResponseEntity<?> createNotice(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody NoticeRequest requestDto) {
 
-        noticeService.createNotice(accessToken, groupId, requestDto.getTitle(), requestDto.getContent());
+        noticeService.createNotice(memberId, groupId, requestDto.getTitle(), requestDto.getContent());
         return ResponseEntity.status(HttpStatus.CREATED).body("공지사항이 성공적으로 작성되었습니다.");
     }
 
@@ -41,12 +42,12 @@ public class NoticeController implements NoticeApiDocumentation {
     @Override
     @GetMapping("/list")
     public ResponseEntity<?> listOfNotices(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestParam(name = "page") int page,
             @RequestParam(name = "size") int size) {
 
-        List<NoticeListResponse> notices = noticeService.listOfNotice(accessToken, groupId, page, size);
+        List<NoticeListResponse> notices = noticeService.listOfNotice(memberId, groupId, page, size);
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "조회에 성공하였습니다.");
@@ -59,11 +60,11 @@ public class NoticeController implements NoticeApiDocumentation {
     @Override
     @GetMapping("/{noticeId}")
     public ResponseEntity<?> noticeDetail(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("noticeId") Long noticeId) {
 
-        NoticeDetailResponse notice = noticeService.noticeDetail(accessToken, groupId, noticeId);
+        NoticeDetailResponse notice = noticeService.noticeDetail(memberId, groupId, noticeId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "조회에 성공하였습니다.");
@@ -76,12 +77,12 @@ public class NoticeController implements NoticeApiDocumentation {
     @Override
     @PutMapping("/update/{noticeId}")
     public ResponseEntity<?> updateNotice(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("noticeId") Long noticeId,
             @RequestBody NoticeRequest noticeRequest) {
 
-        noticeService.updateNotice(accessToken,groupId, noticeId, noticeRequest.getTitle(), noticeRequest.getContent());
+        noticeService.updateNotice(memberId,groupId, noticeId, noticeRequest.getTitle(), noticeRequest.getContent());
         return ResponseEntity.status(HttpStatus.OK).body("공지사항이 성공적으로 수정되었습니다.");
     }
 
@@ -89,11 +90,11 @@ public class NoticeController implements NoticeApiDocumentation {
     @Override
     @DeleteMapping("/delete/{noticeId}")
     public ResponseEntity<?> deleteNotice(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("noticeId") Long noticeId) {
 
-        noticeService.deleteNotice(accessToken, groupId, noticeId);
+        noticeService.deleteNotice(memberId, groupId, noticeId);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body("공지사항이 성공적으로 삭제되었습니다.");
     }
 
@@ -101,11 +102,11 @@ public class NoticeController implements NoticeApiDocumentation {
     @Override
     @PostMapping("/{noticeId}/checkToggle")
     public ResponseEntity<?> checkToggle(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("noticeId") Long noticeId){
 
-        noticeCheckService.toggleCheck(accessToken, groupId, noticeId);
+        noticeCheckService.toggleCheck(memberId, groupId, noticeId);
         return ResponseEntity.status(HttpStatus.OK).body("공지 사항에 대한 확인 상태가 변경되었습니다.");
     }
 }
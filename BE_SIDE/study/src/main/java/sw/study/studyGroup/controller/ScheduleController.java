@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sw.study.config.jwt.LoginMember;
 import sw.study.studyGroup.apiDoc.ScheduleApiDocumentation;
 import sw.study.studyGroup.dto.*;
 import sw.study.studyGroup.service.ScheduleService;
@@ -25,12 +26,12 @@ public class ScheduleController implements ScheduleApiDocumentation {
     @Override
     @PostMapping("/create")
     public ResponseEntity<?> createSchedule(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody ScheduleRequest requestDto) {
 
         scheduleService.createSchedule(
-                accessToken,
+                memberId,
                 groupId,
                 requestDto.getTitle(),
                 requestDto.getDescription(),
@@ -44,12 +45,12 @@ public class ScheduleController implements ScheduleApiDocumentation {
     @Override
     @GetMapping("/list")
     public ResponseEntity<?> listOfSchedules(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestParam(name = "year") int year,
             @RequestParam(name = "month") int month) {
 
-        List<ScheduleListResponse> schedules = scheduleService.getScheduleList(accessToken, groupId, year, month);
+        List<ScheduleListResponse> schedules = scheduleService.getScheduleList(memberId, groupId, year, month);
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "조회에 성공하였습니다.");
@@ -62,11 +63,11 @@ public class ScheduleController implements ScheduleApiDocumentation {
     @Override
     @GetMapping("/{scheduleId}")
     public ResponseEntity<?> scheduleDetail(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("scheduleId") Long scheduleId) {
 
-        ScheduleDetailResponse schedule =scheduleService.getScheduleDetails(accessToken,groupId,scheduleId);
+        ScheduleDetailResponse schedule =scheduleService.getScheduleDetails(memberId,groupId,scheduleId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "조회에 성공하였습니다.");
@@ -79,13 +80,13 @@ public class ScheduleController implements ScheduleApiDocumentation {
     @Override
     @PutMapping("/update/{scheduleId}")
     public ResponseEntity<?> updateSchedule(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("scheduleId") Long scheduleId,
             @RequestBody ScheduleRequest scheduleRequest) {
 
         scheduleService.updateSchedule(
-                accessToken,
+                memberId,
                 scheduleId,
                 scheduleRequest.getTitle(),
                 scheduleRequest.getDescription(),
@@ -99,11 +100,11 @@ public class ScheduleController implements ScheduleApiDocumentation {
     @Override
     @DeleteMapping("/delete/{scheduleId}")
     public ResponseEntity<?> deleteSchedule(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("scheduleId") Long scheduleId) {
 
-        scheduleService.deleteSchedule(accessToken, scheduleId);
+        scheduleService.deleteSchedule(memberId, scheduleId);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body("일정이 성공적으로 삭제되었습니다.");
     }
 }
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sw.study.config.jwt.LoginMember;
 import sw.study.studyGroup.apiDoc.StudyGroupApiDocumentation;
 import sw.study.studyGroup.domain.StudyGroup;
 import sw.study.studyGroup.dto.*;
@@ -25,12 +26,12 @@ public class StudyGroupController implements StudyGroupApiDocumentation{
     @Override
     @GetMapping("/searchMembers")
     public ResponseEntity<?> searchMembers(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @RequestParam(name = "nickname") String nickname,
             @RequestParam(name = "page") int page,
             @RequestParam(name = "size") int size,
             @RequestParam(name = "groupId", required = false) Long groupId) {
-        List<String> results = studyGroupService.searchByNickname(accessToken,nickname,page,size,groupId);
+        List<String> results = studyGroupService.searchByNickname(memberId,nickname,page,size,groupId);
 
         if(results.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("조회된 결과가 없습니다.");
@@ -41,11 +42,11 @@ public class StudyGroupController implements StudyGroupApiDocumentation{
     @Override
     @PostMapping("/create")
     public ResponseEntity<Map<String,Object>> createStudyGroup(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @RequestBody StudyGroupRequest requestDto) {
 
         StudyGroup createdGroup = studyGroupService.createStudyGroup(
-                accessToken,
+                memberId,
                 requestDto.getGroupName(),
                 requestDto.getDescription(),
                 requestDto.getSelectedNicknames(),
@@ -61,8 +62,8 @@ public class StudyGroupController implements StudyGroupApiDocumentation{
 
     @Override
     @GetMapping("/invitedList")
-    public ResponseEntity<?> checkInvitedList(@RequestHeader("Authorization") String accessToken) {
-        List<StudyGroupResponse> invitedResponses = studyGroupService.checkInvited(accessToken);
+    public ResponseEntity<?> checkInvitedList(@LoginMember Long memberId) {
+        List<StudyGroupResponse> invitedResponses = studyGroupService.checkInvited(memberId);
 
         if (invitedResponses.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -73,8 +74,8 @@ public class StudyGroupController implements StudyGroupApiDocumentation{
 
     @Override
     @GetMapping("/joinedList")
-    public ResponseEntity<?> checkJoinedList(@RequestHeader("Authorization") String accessToken) {
-        List<StudyGroupResponse> joinedResponses = studyGroupService.checkJoined(accessToken);
+    public ResponseEntity<?> checkJoinedList(@LoginMember Long memberId) {
+        List<StudyGroupResponse> joinedResponses = studyGroupService.checkJoined(memberId);
 
         if (joinedResponses.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -86,21 +87,21 @@ public class StudyGroupController implements StudyGroupApiDocumentation{
     @Override
     @PostMapping("/{groupId}/accept")
     public ResponseEntity<?> acceptInvitation(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody NicknameRequest nicknameRequest) {
 
-        studyGroupService.acceptInvitation(accessToken,groupId, nicknameRequest.getNickname());
+        studyGroupService.acceptInvitation(memberId,groupId, nicknameRequest.getNickname());
         return ResponseEntity.ok("초대를 수락하였습니다.");
     }
 
     @Override
     @PostMapping("/{groupId}/reject")
     public ResponseEntity<?> rejectInvitation(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId){
 
-        studyGroupService.rejectInvitation(accessToken,groupId);
+        studyGroupService.rejectInvitation(memberId,groupId);
         return ResponseEntity.ok("초대를 거절하였습니다.");
     }
 
@@ -108,62 +109,62 @@ public class StudyGroupController implements StudyGroupApiDocumentation{
     @Override
     @GetMapping("/{groupId}/list/all")
     public ResponseEntity<?> listOfAll(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId) {
 
-        List<ParticipantsResponse> participants = studyGroupService.listOfEveryone(accessToken,groupId);
+        List<ParticipantsResponse> participants = studyGroupService.listOfEveryone(memberId,groupId);
         return ResponseEntity.ok(participants);
     }
 
     @Override
     @GetMapping("/{groupId}/list/managers")
     public ResponseEntity<?> listOfManagers(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId) {
 
-        List<ParticipantsResponse> managers = studyGroupService.listOfManagers(accessToken,groupId);
+        List<ParticipantsResponse> managers = studyGroupService.listOfManagers(memberId,groupId);
         return ResponseEntity.ok(managers);
     }
 
     @Override
     @GetMapping("/{groupId}/list/members")
     public ResponseEntity<?> listOfMembers(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId) {
 
-        List<ParticipantsResponse> members = studyGroupService.listOfMembers(accessToken,groupId);
+        List<ParticipantsResponse> members = studyGroupService.listOfMembers(memberId,groupId);
         return ResponseEntity.ok(members);
     }
 
     @Override
     @PatchMapping("/{groupId}/participants/changeRole/{nickname}")
     public ResponseEntity<?> changeRole(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("nickname") String nickname) {
 
-        studyGroupService.changeRole(accessToken,groupId, nickname);
+        studyGroupService.changeRole(memberId,groupId, nickname);
         return ResponseEntity.ok("성공적으로 권한이 수정되었습니다.");
     }
 
     @Override
     @GetMapping("/{groupId}/list/waiting")
     public ResponseEntity<?> checkWaiting(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId){
 
-        List<String> nicknames = studyGroupService.listOfWaiting(accessToken,groupId);
+        List<String> nicknames = studyGroupService.listOfWaiting(memberId,groupId);
         return ResponseEntity.ok(nicknames);
     }
 
     @Override
     @DeleteMapping("/{groupId}/waiting/cancel/{nickname}")
     public ResponseEntity<?> rejectInvitation(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("nickname") String nickname) {
 
-        boolean isCancelled = studyGroupService.cancelInvitation(accessToken,groupId, nickname);
+        boolean isCancelled = studyGroupService.cancelInvitation(memberId,groupId, nickname);
         if (isCancelled) {
             return ResponseEntity.ok("초대를 취소 하였습니다.");
         } else {
@@ -174,43 +175,43 @@ public class StudyGroupController implements StudyGroupApiDocumentation{
     @Override
     @PatchMapping("/{groupId}/participants/changeNickname")
     public ResponseEntity<?> changeNickname(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody NicknameRequest nicknameRequest){
 
-        studyGroupService.changeParticipantNickname(accessToken,groupId, nicknameRequest.getNickname());
+        studyGroupService.changeParticipantNickname(memberId,groupId, nicknameRequest.getNickname());
         return ResponseEntity.ok("닉네임 변경에 성공하였습니다.");
     }
 
     @Override
     @PostMapping("/{groupId}/participants/invite")
     public ResponseEntity<?> inviteNewMember(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @RequestBody List<NicknameRequest> nicknames){
 
-        studyGroupService.inviteNewMember(accessToken,groupId, nicknames);
+        studyGroupService.inviteNewMember(memberId,groupId, nicknames);
         return ResponseEntity.ok(String.format("총 %d 명에게 초대가 전송되었습니다.", nicknames.size()));
     }
 
     @Override
     @DeleteMapping("/{groupId}/participants/kick/{nickname}")
     public ResponseEntity<?> kickParticipant(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId,
             @PathVariable("nickname") String nickname){
 
-        studyGroupService.userKick(accessToken,groupId, nickname);
+        studyGroupService.userKick(memberId,groupId, nickname);
         return ResponseEntity.ok(String.format("%s 님을 추방하였습니다.", nickname));
     }
 
     @Override
     @DeleteMapping("/{groupId}/quit")
     public ResponseEntity<?> quitStudyGroup(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @PathVariable("groupId") Long groupId){
 
-        studyGroupService.quitGroup(accessToken, groupId);
+        studyGroupService.quitGroup(memberId, groupId);
         return ResponseEntity.ok("해당 스터디그룹을 탈퇴하였습니다.");
     }
 }
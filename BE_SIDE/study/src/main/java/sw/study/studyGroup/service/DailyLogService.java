@@ -7,10 +7,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import sw.study.config.jwt.JWTService;
 import sw.study.exception.BaseException;
 import sw.study.exception.ErrorCode;
-import sw.study.exception.UserNotFoundException;
 import sw.study.studyGroup.domain.DailyLog;
 import sw.study.studyGroup.domain.Participant;
 import sw.study.studyGroup.domain.StudyGroup;
@@ -18,8 +16,6 @@ import sw.study.studyGroup.dto.DailyLogResponse;
 import sw.study.studyGroup.repository.DailyLogRepository;
 import sw.study.studyGroup.repository.ParticipantRepository;
 import sw.study.studyGroup.repository.StudyGroupRepository;
-import sw.study.user.domain.Member;
-import sw.study.user.repository.MemberRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,29 +28,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DailyLogService {
 
-    private final MemberRepository memberRepository;
     private final ParticipantRepository participantRepository;
     private final StudyGroupRepository studyGroupRepository;
     private final DailyLogRepository dailyLogRepository;
 
-    private final JWTService jwtService;
-
-    // 토큰에서 사용자 이메일 정보 얻어서 Member 객체 가져오기
-    private Member currentLogginedInfo(String accessToken) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 조회할 수 없습니다."));
-    }
 
     // 데일리 로그 작성
     @Transactional
-    public void createDailyLog(String accessToken, long groupId, String title, String content){
-
-        Member member = currentLogginedInfo(accessToken);
+    public void createDailyLog(Long memberId, long groupId, String title, String content){
 
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         StudyGroup studyGroup = studyGroupRepository.findById(groupId)
@@ -66,13 +49,11 @@ public class DailyLogService {
 
     // 데일리 로그 조회
     @Transactional(readOnly = true)
-    public List<DailyLogResponse> listOfDailyLog(String accessToken, int page, int size, long groupId, String dateStr){
+    public List<DailyLogResponse> listOfDailyLog(Long memberId, int page, int size, long groupId, String dateStr){
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Member member = currentLogginedInfo(accessToken);
-
-        participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
@@ -87,10 +68,8 @@ public class DailyLogService {
 
     // 데일리 로그 수정
     @Transactional
-    public void updateDailyLog(String accessToken, long groupId, long logId, String title,String content){
-        Member member = currentLogginedInfo(accessToken);
-
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+    public void updateDailyLog(Long memberId, long groupId, long logId, String title,String content){
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         DailyLog dailyLog =dailyLogRepository.findById(logId)
@@ -104,10 +83,8 @@ public class DailyLogService {
 
     // 데일리 로그 삭제
     @Transactional
-    public void deleteDailyLog(String accessToken, long groupId, long logId){
-        Member member = currentLogginedInfo(accessToken);
-
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+    public void deleteDailyLog(Long memberId, long groupId, long logId){
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         DailyLog dailyLog =dailyLogRepository.findById(logId)
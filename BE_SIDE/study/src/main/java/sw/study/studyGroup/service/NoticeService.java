@@ -7,10 +7,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import sw.study.config.jwt.JWTService;
 import sw.study.exception.BaseException;
 import sw.study.exception.ErrorCode;
-import sw.study.exception.UserNotFoundException;
 import sw.study.studyGroup.domain.Notice;
 import sw.study.studyGroup.domain.Participant;
 import sw.study.studyGroup.domain.StudyGroup;
@@ -20,8 +18,8 @@ import sw.study.studyGroup.repository.NoticeCheckRepository;
 import sw.study.studyGroup.repository.NoticeRepository;
 import sw.study.studyGroup.repository.ParticipantRepository;
 import sw.study.studyGroup.repository.StudyGroupRepository;
-import sw.study.user.domain.Member;
-import sw.study.user.repository.MemberRepository;
+import sw.study.viewcount.ViewCountService;
+import sw.study.viewcount.ViewCountTarget;
 
 import java.util.List;
 
@@ -30,36 +28,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NoticeService {
 
-    private final MemberRepository memberRepository;
     private final ParticipantRepository participantRepository;
     private final StudyGroupRepository studyGroupRepository;
     private final NoticeRepository noticeRepository;
     private final NoticeCheckRepository noticeCheckRepository;
 
-    private final JWTService jwtService;
-
-    // 토큰에서 사용자 이메일 정보 얻어서 Member 객체 가져오기
-    private Member currentLogginedInfo(String accessToken) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 조회할 수 없습니다."));
-    }
+    private final ViewCountService viewCountService;
 
     // 그룹에 참가중인지 확인
-    private Participant checkGroupParticipant(long groupId, Member member) {
-        return participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+    private Participant checkGroupParticipant(long groupId, Long memberId) {
+        return participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
     }
 
     // 공지사항 작성
     @Transactional
-    public void createNotice(String accessToken, long groupId, String title, String content){
-
-        Member member = currentLogginedInfo(accessToken);
+    public void createNotice(Long memberId, long groupId, String title, String content){
 
-        Participant participant = checkGroupParticipant(groupId, member);
+        Participant participant = checkGroupParticipant(groupId, memberId);
 
         StudyGroup studyGroup = studyGroupRepository.findById(groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.STUDYGROUP_NOT_FOUND));
@@ -75,11 +61,9 @@ public class NoticeService {
 
     // 공지사항 조회 ( 목록 )
     @Transactional(readOnly = true)
-    public List<NoticeListResponse> listOfNotice(String accessToken, long groupId, int page, int size){
+    public List<NoticeListResponse> listOfNotice(Long memberId, long groupId, int page, int size){
 
-        Member member = currentLogginedInfo(accessToken);
-
-        checkGroupParticipant(groupId, member);
+        checkGroupParticipant(groupId, memberId);
 
         Pageable pageable = PageRequest.of(page, size);
 
@@ -92,32 +76,30 @@ public class NoticeService {
     }
 
     // 공지사항 조회 ( 상세 )
-    @Transactional
-    public NoticeDetailResponse noticeDetail(String accessToken, long groupId, long noticeId){
-
-        Member member = currentLogginedInfo(accessToken);
+    @Transactional(readOnly = true)
+    public NoticeDetailResponse noticeDetail(Long memberId, long groupId, long noticeId){
 
-        Participant participant = checkGroupParticipant(groupId, member);
+        Participant participant = checkGroupParticipant(groupId, memberId);
 
         Notice notice = noticeRepository.findByIdAndStudyGroup_Id(noticeId, groupId)
                 .orElseThrow(()-> new BaseException(ErrorCode.NOTICE_NOT_FOUND));
 
-        notice.IncreaseViewCount();
-        noticeRepository.save(notice);
-
         boolean isChecked = noticeCheckRepository.existsByNoticeIdAndParticipantId(noticeId, participant.getId());
         int numOfChecks = noticeCheckRepository.countByNoticeId(noticeId);
 
-        return NoticeDetailResponse.createNoticeDetail(notice, isChecked, numOfChecks);
+        NoticeDetailResponse response = NoticeDetailResponse.createNoticeDetail(notice, isChecked, numOfChecks);
+
+        // 조회 수 증가 (DB 반영은 스케줄러가 일괄 처리)
+        long pendingViewCount = viewCountService.increment(ViewCountTarget.NOTICE, noticeId);
+        response.setViewCount(response.getViewCount() + (int) pendingViewCount);
+        return response;
     }
 
     // 공지사항 수정
     @Transactional
-    public void updateNotice(String accessToken, long groupId, long noticeId, String title, String content){
-
-        Member member = currentLogginedInfo(accessToken);
+    public void updateNotice(Long memberId, long groupId, long noticeId, String title, String content){
 
-        Participant participant = checkGroupParticipant(groupId, member);
+        Participant participant = checkGroupParticipant(groupId, memberId);
 
         Notice notice = noticeRepository.findByIdAndStudyGroup_Id(noticeId, groupId)
                 .orElseThrow(()-> new BaseException(ErrorCode.NOTICE_NOT_FOUND));
@@ -132,10 +114,8 @@ public class NoticeService {
 
     // 공지사항 삭제
     @Transactional
-    public void deleteNotice(String accessToken, long groupId, long noticeId){
-        Member member = currentLogginedInfo(accessToken);
-
-        Participant participant = checkGroupParticipant(groupId, member);
+    public void deleteNotice(Long memberId, long groupId, long noticeId){
+        Participant participant = checkGroupParticipant(groupId, memberId);
 
         Notice notice = noticeRepository.findByIdAndStudyGroup_Id(noticeId, groupId)
                 .orElseThrow(()->new BaseException(ErrorCode.NOTICE_NOT_FOUND));
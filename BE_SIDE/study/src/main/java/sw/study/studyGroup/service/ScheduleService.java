@@ -4,10 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import sw.study.config.jwt.JWTService;
 import sw.study.exception.BaseException;
 import sw.study.exception.ErrorCode;
-import sw.study.exception.UserNotFoundException;
 import sw.study.studyGroup.domain.Participant;
 import sw.study.studyGroup.domain.Schedule;
 import sw.study.studyGroup.domain.StudyGroup;
@@ -16,8 +14,6 @@ import sw.study.studyGroup.dto.ScheduleListResponse;
 import sw.study.studyGroup.repository.ParticipantRepository;
 import sw.study.studyGroup.repository.ScheduleRepository;
 import sw.study.studyGroup.repository.StudyGroupRepository;
-import sw.study.user.domain.Member;
-import sw.study.user.repository.MemberRepository;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -29,33 +25,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ScheduleService {
 
-    private final MemberRepository memberRepository;
     private final ParticipantRepository participantRepository;
     private final StudyGroupRepository studyGroupRepository;
     private final ScheduleRepository scheduleRepository;
-    private final JWTService jwtService;
-
-    private Member currentLogginedInfo(String accessToken) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 조회할 수 없습니다."));
-    }
 
     // 일정 생성
     @Transactional
-    public void createSchedule(String accessToken, Long groupId, String title, String description, LocalDate startDate, LocalDate endDate) {
+    public void createSchedule(Long memberId, Long groupId, String title, String description, LocalDate startDate, LocalDate endDate) {
 
         try{
-            Member member = currentLogginedInfo(accessToken);
-
             // 그룹 존재 여부
             StudyGroup studygroup = studyGroupRepository.findById(groupId)
                     .orElseThrow(()->new BaseException(ErrorCode.STUDYGROUP_NOT_FOUND));
 
             // 그룹 참가 여부
-            Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(),groupId)
+            Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId,groupId)
                     .orElseThrow(()->new BaseException(ErrorCode.UNAUTHORIZED));
 
             // 신분 확인
@@ -72,12 +56,10 @@ public class ScheduleService {
 
     // 1달 간의 전체 일정 조회
     @Transactional(readOnly = true)
-    public List<ScheduleListResponse> getScheduleList(String accessToken, Long groupId, int year, int month){
-
-        Member member = currentLogginedInfo(accessToken);
+    public List<ScheduleListResponse> getScheduleList(Long memberId, Long groupId, int year, int month){
 
         // 그룹에 참가중이지 않음
-        participantRepository.findByMemberIdAndStudyGroupId(member.getId(),groupId)
+        participantRepository.findByMemberIdAndStudyGroupId(memberId,groupId)
                 .orElseThrow(()->new BaseException(ErrorCode.UNAUTHORIZED));
 
         // 그룹이 존재하지 않음
@@ -99,12 +81,10 @@ public class ScheduleService {
 
     // 특정한 일정 상세 조회
     @Transactional(readOnly = true)
-    public ScheduleDetailResponse getScheduleDetails(String accessToken, Long groupId, Long scheduleId){
-
-        Member member = currentLogginedInfo(accessToken);
+    public ScheduleDetailResponse getScheduleDetails(Long memberId, Long groupId, Long scheduleId){
 
         // 그룹에 참가중이지 않음
-        participantRepository.findByMemberIdAndStudyGroupId(member.getId(),groupId)
+        participantRepository.findByMemberIdAndStudyGroupId(memberId,groupId)
                 .orElseThrow(()-> new BaseException(ErrorCode.UNAUTHORIZED));
 
         // 일정이 존재하지 않음
@@ -125,9 +105,7 @@ public class ScheduleService {
 
     // 일정 수정
     @Transactional
-    public void updateSchedule(String accessToken, Long scheduleId, String title, String description, LocalDate startDate, LocalDate endDate){
-
-        Member member = currentLogginedInfo(accessToken);
+    public void updateSchedule(Long memberId, Long scheduleId, String title, String description, LocalDate startDate, LocalDate endDate){
 
         // 해당 일정 존재 여부
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -136,7 +114,7 @@ public class ScheduleService {
         StudyGroup studyGroup = schedule.getStudyGroup();
 
         // 그룹 참가 여부
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), studyGroup.getId())
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, studyGroup.getId())
                 .orElseThrow(()->new BaseException(ErrorCode.UNAUTHORIZED));
 
         // 그룹 내 권한 여부
@@ -149,9 +127,7 @@ public class ScheduleService {
 
     // 일정 삭제
     @Transactional
-    public void deleteSchedule(String accessToken,Long scheduleId) {
-
-        Member member = currentLogginedInfo(accessToken);
+    public void deleteSchedule(Long memberId,Long scheduleId) {
 
         // 일정 존재 여부
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -160,7 +136,7 @@ public class ScheduleService {
         StudyGroup studygroup =  schedule.getStudyGroup();
 
         // 그룹 참가 여부
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), studygroup.getId())
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, studygroup.getId())
                 .orElseThrow(()->new BaseException(ErrorCode.UNAUTHORIZED));
 
         // 신분 확인
@@ -9,7 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import sw.study.config.jwt.JWTService;
 import sw.study.exception.*;
 import sw.study.studyGroup.domain.Participant;
 import sw.study.studyGroup.domain.Participant.Role;
@@ -36,27 +35,14 @@ public class StudyGroupService {
     private final StudyGroupRepository studyGroupRepository;
     private final ParticipantRepository participantRepository;
     private final WaitingPeopleRepository waitingPeopleRepository;
-    private final JWTService jwtService;
-
-    // 토큰에서 사용자 이메일 정보 얻어서 Member 객체 가져오기
-    private Member currentLogginedInfo(String accessToken) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 조회할 수 없습니다."));
-    }
 
     // 닉네임을 통한 사용자 검색 ( 그룹 생성 시 / 생성 이후 신규 초대 모두 핸들링 )
-    public List<String> searchByNickname(String accessToken, String nickname, int page, int size, Long groupId) {
+    public List<String> searchByNickname(Long memberId, String nickname, int page, int size, Long groupId) {
         Pageable pageable = PageRequest.of(page, size);
 
         Page<Member> members = memberRepository.findMembersByNicknameStartingWith(nickname, pageable);
         List<String> nicknames = new ArrayList<>();
 
-        Member loggedUser = currentLogginedInfo(accessToken);
-        String loggedUserNickname = loggedUser.getNickname();
-
         List<String> participants = new ArrayList<>(); // 방 생성 이후 (groupId 존재)
 
         if (groupId != null) {
@@ -72,7 +58,7 @@ public class StudyGroupService {
         }
         for (Member member : members) {
             // 로그인된 사용자  / 기존 참가자는 제외
-            if (!loggedUserNickname.equals(member.getNickname())
+            if (!memberId.equals(member.getId())
                     && !participants.contains(member.getNickname()))
                 nicknames.add(member.getNickname());
         }
@@ -82,14 +68,14 @@ public class StudyGroupService {
     // 스터디 그룹 생성 ( + 사용자 초대 )
     @Transactional
     public StudyGroup createStudyGroup(
-            String accessToken, String groupName, String description, List<String> selectedNicknames, String leaderNickname) {
+            Long memberId, String groupName, String description, List<String> selectedNicknames, String leaderNickname) {
 
         // 스터디 그룹 생성 
         StudyGroup studyGroup = StudyGroup.createStudyGroup(groupName, description);
         studyGroupRepository.save(studyGroup);
 
-        // 로그인 되어있는 사용자 정보를 가져오기
-        Member leader = currentLogginedInfo(accessToken);
+        // 로그인 되어있는 사용자 (연관관계 설정에만 쓰므로 조회 없이 프록시 사용)
+        Member leader = memberRepository.getReferenceById(memberId);
 
         // 방장은 바로 Participant에 추가해준다.
         Participant leaderParticipant = Participant.createParticipant(leaderNickname, leader, Role.LEADER, studyGroup);
@@ -112,12 +98,10 @@ public class StudyGroupService {
     }
 
     // 초대를 받은 스터디그룹 확인하기
-    public List<StudyGroupResponse> checkInvited(String accessToken) {
-
-        Member user = currentLogginedInfo(accessToken);
+    public List<StudyGroupResponse> checkInvited(Long memberId) {
 
         // 대기 명단에서 로그인된 사용자의 정보만 따로 뺀 후에
-        List<WaitingPeople> waitingPeople = waitingPeopleRepository.findByMemberId(user.getId());
+        List<WaitingPeople> waitingPeople = waitingPeopleRepository.findByMemberId(memberId);
 
         List<StudyGroupResponse> studyGroups = new ArrayList<>();
 
@@ -137,12 +121,10 @@ public class StudyGroupService {
     }
 
     // 참여중인 스터디 그룹 확인
-    public List<StudyGroupResponse> checkJoined(String accessToken) {
-
-        Member user = currentLogginedInfo(accessToken);
+    public List<StudyGroupResponse> checkJoined(Long memberId) {
 
         // 얻은 user 객체로 Participant 테이블 확인
-        List<Participant> Participants = participantRepository.findByMemberId(user.getId());
+        List<Participant> Participants = participantRepository.findByMemberId(memberId);
 
         List<StudyGroupResponse> studyGroups = new ArrayList<>();
 
@@ -164,10 +146,9 @@ public class StudyGroupService {
 
     //초대 수락
     @Transactional
-    public void acceptInvitation(String accessToken, Long groupId, String nickname) {
+    public void acceptInvitation(Long memberId, Long groupId, String nickname) {
 
-        Member member = currentLogginedInfo(accessToken);
-        waitingPeopleRepository.deleteByMemberId(member.getId());
+        waitingPeopleRepository.deleteByMemberId(memberId);
 
         // 중복 확인
         if (participantRepository.findByNickname(nickname).isPresent()) {
@@ -184,22 +165,20 @@ public class StudyGroupService {
         }
 
         // 사용자가 이미 허용된 수 만큼의 그룹에 참가중이라면
-        if (participantRepository.countByMemberId(member.getId()) == 20) {
+        if (participantRepository.countByMemberId(memberId) == 20) {
             throw new BaseException(ErrorCode.MAX_STUDYGROUP);
         }
 
-        Participant participant = Participant.createParticipant(nickname, member, Role.MEMBER, studyGroup);
+        Participant participant = Participant.createParticipant(nickname, memberRepository.getReferenceById(memberId), Role.MEMBER, studyGroup);
         studyGroup.whoEverAccepted(participant);
         studyGroupRepository.save(studyGroup);
     }
 
     //초대 거절
     @Transactional
-    public void rejectInvitation(String accessToken, Long groupId) {
-
-        Member member = currentLogginedInfo(accessToken);
+    public void rejectInvitation(Long memberId, Long groupId) {
 
-        WaitingPeople targetMember = waitingPeopleRepository.findByMemberIdAndStudyGroup_Id(member.getId(), groupId)
+        WaitingPeople targetMember = waitingPeopleRepository.findByMemberIdAndStudyGroup_Id(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.WAITING_NOT_FOUND));
 
         StudyGroup studyGroup = studyGroupRepository.findById(groupId)
@@ -210,11 +189,9 @@ public class StudyGroupService {
     }
 
     //참가자 전체 리스트 확인
-    public List<ParticipantsResponse> listOfEveryone(String accessToken, Long groupId) {
+    public List<ParticipantsResponse> listOfEveryone(Long memberId, Long groupId) {
 
-        Member member = currentLogginedInfo(accessToken);
-
-        participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         List<Participant> participants = participantRepository.findAllByStudyGroupId(groupId);
@@ -230,11 +207,9 @@ public class StudyGroupService {
     }
 
     // 운영진 리스트 확인 (방장 포함)
-    public List<ParticipantsResponse> listOfManagers(String accessToken, Long groupId) {
-
-        Member member = currentLogginedInfo(accessToken);
+    public List<ParticipantsResponse> listOfManagers(Long memberId, Long groupId) {
 
-        participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         List<Participant> participants = participantRepository.findAllByStudyGroupIdAndRole(groupId, Role.MANAGER);
@@ -248,11 +223,9 @@ public class StudyGroupService {
     }
 
     // 팀원 리스트 확인
-    public List<ParticipantsResponse> listOfMembers(String accessToken, Long groupId) {
+    public List<ParticipantsResponse> listOfMembers(Long memberId, Long groupId) {
 
-        Member member = currentLogginedInfo(accessToken);
-
-        participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         List<Participant> participants = participantRepository.findAllByStudyGroupIdAndRole(groupId, Role.MEMBER);
@@ -266,11 +239,9 @@ public class StudyGroupService {
     }
 
     // 그룹 내에서 초대된 리스트 확인
-    public List<String> listOfWaiting(String accessToken, Long groupId) {
-
-        Member member = currentLogginedInfo(accessToken);
+    public List<String> listOfWaiting(Long memberId, Long groupId) {
 
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         Role role = participant.getRole();
@@ -291,11 +262,9 @@ public class StudyGroupService {
 
     // 특정 사용자 초대 취소
     @Transactional
-    public boolean cancelInvitation(String accessToken, Long groupId, String nickname) {
+    public boolean cancelInvitation(Long memberId, Long groupId, String nickname) {
 
-        Member member = currentLogginedInfo(accessToken);
-
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         Role role = participant.getRole();
@@ -316,11 +285,9 @@ public class StudyGroupService {
 
     // 그룹 내 권한 변경
     @Transactional
-    public void changeRole(String accessToken, Long groupId, String nickname) {
-
-        Member member = currentLogginedInfo(accessToken);
+    public void changeRole(Long memberId, Long groupId, String nickname) {
 
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         Role role = participant.getRole();
@@ -340,11 +307,9 @@ public class StudyGroupService {
 
     // 그룹 내 닉네임 변경
     @Transactional
-    public void changeParticipantNickname(String accessToken, Long groupId, String nickname) {
+    public void changeParticipantNickname(Long memberId, Long groupId, String nickname) {
 
-        Member member = currentLogginedInfo(accessToken);
-
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         participantRepository.findByStudyGroupIdAndNickname(groupId, nickname)
@@ -356,14 +321,12 @@ public class StudyGroupService {
 
     // 그룹 내 신규 초대
     @Transactional
-    public void inviteNewMember(String accessToken, Long groupId, List<NicknameRequest> nicknameRequest) {
-
-        Member member = currentLogginedInfo(accessToken);
+    public void inviteNewMember(Long memberId, Long groupId, List<NicknameRequest> nicknameRequest) {
 
         StudyGroup studyGroup = studyGroupRepository.findById(groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.STUDYGROUP_NOT_FOUND));
 
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         if (participant.getRole() == Role.MEMBER) {
@@ -390,11 +353,9 @@ public class StudyGroupService {
 
     // 그룹 탈퇴
     @Transactional
-    public void quitGroup(String accessToken, Long groupId) {
+    public void quitGroup(Long memberId, Long groupId) {
 
-        Member member = currentLogginedInfo(accessToken);
-
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         if (participant.getRole() == Role.LEADER) {
@@ -411,11 +372,9 @@ public class StudyGroupService {
 
     // 그룹 내 특정 사용자 추방
     @Transactional
-    public void userKick(String accessToken, Long groupId, String nickname) {
-
-        Member member = currentLogginedInfo(accessToken);
+    public void userKick(Long memberId, Long groupId, String nickname) {
 
-        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(member.getId(), groupId)
+        Participant participant = participantRepository.findByMemberIdAndStudyGroupId(memberId, groupId)
                 .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
 
         if (participant.getRole() != Role.LEADER) {
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
+import sw.study.config.jwt.LoginMember;
 import sw.study.user.dto.*;
 
 import java.io.IOException;
@@ -25,8 +26,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생")
     })
     ResponseEntity<?> getMemberInfo(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token")
-            @RequestHeader("Authorization") String accessToken);
+            @LoginMember Long memberId);
 
     @Operation(summary = "멤버 프로필 업데이트", description = "멤버의 닉네임, 자기소개, 프로필 사진을 업데이트합니다.")
     @ApiResponses(value = {
@@ -37,8 +37,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "파일 업로드 실패 또는 기타 서버 에러")
     })
     ResponseEntity<?> updateMemberProfile(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token")
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
 
             @Parameter(name = "nickname", description = "변경할 닉네임", required = false, example = "코난")
             @RequestParam(value = "nickname", required = false) String nickname,
@@ -59,8 +58,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "파일 업로드 실패 또는 기타 서버 에러")
     })
     ResponseEntity<?> resetMemberProfile(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token")
-            @RequestHeader("Authorization") String accessToken
+            @LoginMember Long memberId
     ) throws IOException;
 
 
@@ -71,8 +69,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생")
     })
     ResponseEntity<?> changePassword(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token")
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
                                      @RequestBody PasswordChangeRequest request);
 
 
@@ -85,8 +82,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러가 발생")
     })
     ResponseEntity<?> updateNotification(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token")
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
                                          @RequestBody SettingRequest dto);
 
     @Operation(summary = "전체 관심 분야 목록", description = "관심 분야 리스트를 받는다.")
@@ -106,8 +102,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러 발생")
     })
     ResponseEntity<?> initInterest(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token")
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @Parameter(description = "초기화할 관심사 요청 데이터", required = true)
             @RequestBody AreaRequest areaRequest);
 
@@ -121,8 +116,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러 발생")
     })
     ResponseEntity<?> updateInterest(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token", required = true)
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @Parameter(description = "업데이트할 관심사 요청 데이터", required = true)
             @RequestBody AreaRequest areaRequest);
 
@@ -137,8 +131,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러 발생")
     })
     ResponseEntity<?> deleteInterest(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token", required = true)
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @Parameter(description = "삭제할 관심사 요청 데이터", required = true)
             @RequestBody AreaRequest areaRequest);
 
@@ -151,8 +144,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러 발생")
     })
     ResponseEntity<?> updateRead(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token", required = true)
-            @RequestHeader("Authorization") String accessToken);
+            @LoginMember Long memberId);
 
 
     @Operation(summary = "알림 리스트", description = "알림 리스트를 보낸다.")
@@ -163,8 +155,7 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러 발생")
     })
     public ResponseEntity<?> getNotificationList(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token", required = true)
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
 
             @Parameter(name = "page", description = "요청 페이지 번호", example = "0", required = false)
             @RequestParam(defaultValue = "0") int page,  // 페이지 번호
@@ -182,6 +173,5 @@ public interface MemberApiDocumentation {
             @ApiResponse(responseCode = "500", description = "서버 에러 발생")
     })
     ResponseEntity<?> unReadNotification(
-            @Parameter(name = "Authorization", description = "엑세스 토큰", example = "Bearer your_access_token", required = true)
-            @RequestHeader("Authorization") String accessToken);
+            @LoginMember Long memberId);
 }
@@ -14,7 +14,6 @@ import sw.study.user.service.EmailVerificationService;
 import sw.study.user.service.MailService;
 import sw.study.user.service.MemberService;
 import sw.study.config.jwt.TokenDTO;
-import sw.study.config.jwt.TokenProvider;
 import sw.study.user.service.AuthService;
 
 @RestController
@@ -23,7 +22,6 @@ import sw.study.user.service.AuthService;
 @Tag(name = "Auth", description = "계정 인증 관련 API")
 public class AuthController implements AuthApiDocumentation {
     private final AuthService authService;
-    private final TokenProvider tokenProvider;
 
     private final EmailVerificationService emailVerificationService;
     private final MailService mailService;
@@ -130,6 +128,8 @@ public class AuthController implements AuthApiDocumentation {
         } catch (MemberCreationException e) {
             // 회원가입 중 발생한 예외
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage()); // 500
+        } catch (PasswordHashBusyException e) {
+            throw e; // 503 응답은 GlobalExceptionHandler 에서 처리 (아래 Exception 에 잡히지 않도록 그대로 전달)
         } catch (Exception e) {
             // 기타 예외 발생
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage()); // 500
@@ -154,6 +154,8 @@ public class AuthController implements AuthApiDocumentation {
             // 계정이 비활성화된 경우
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body("계정이 비활성화되어 로그인할 수 없습니다."); // 403 Forbidden
+        } catch (PasswordHashBusyException e) {
+            throw e; // 503 응답은 GlobalExceptionHandler 에서 처리 (아래 Exception 에 잡히지 않도록 그대로 전달)
         }catch (Exception e) {
             // 기타 예외 처리
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -179,7 +181,7 @@ public class AuthController implements AuthApiDocumentation {
     public ResponseEntity<?> reissue(@RequestBody TokenRequest tokenRequest) {
         try {
             // 토큰 재발행 로직 수행
-            TokenDTO newToken = tokenProvider.reissueAccessToken(tokenRequest.getRefreshToken());
+            TokenDTO newToken = authService.reissue(tokenRequest.getRefreshToken());
             return ResponseEntity.ok(newToken);
         } catch (RuntimeException e) {
             // 토큰 재발행 실패 시 발생한 예외 처리
@@ -302,6 +304,8 @@ public class AuthController implements AuthApiDocumentation {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400
 
 
+        } catch (PasswordHashBusyException e) {
+            throw e; // 503 응답은 GlobalExceptionHandler 에서 처리 (아래 Exception 에 잡히지 않도록 그대로 전달)
         } catch (Exception e) {
             // 기타 예외 발생
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage()); // 500
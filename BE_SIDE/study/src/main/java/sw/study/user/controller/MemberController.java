@@ -13,6 +13,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import sw.study.config.jwt.LoginMember;
 import sw.study.exception.*;
 import sw.study.exception.s3.S3UploadException;
 import sw.study.user.apiDoc.MemberApiDocumentation;
@@ -29,9 +30,9 @@ public class MemberController implements MemberApiDocumentation {
 
     @Override
     @GetMapping("/info")
-    public ResponseEntity<?> getMemberInfo(@RequestHeader("Authorization") String accessToken) {
+    public ResponseEntity<?> getMemberInfo(@LoginMember Long memberId) {
         try {
-            MemberDto memberDTO = memberService.getMemberByToken(accessToken);
+            MemberDto memberDTO = memberService.getMemberInfo(memberId);
             return ResponseEntity.ok(memberDTO);
 
 
@@ -48,12 +49,12 @@ public class MemberController implements MemberApiDocumentation {
     @Override
     @PatchMapping(value = "/update/profile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> updateMemberProfile(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @RequestParam(value = "nickname", required = false) String nickname,
             @RequestParam(value = "introduction", required = false) String introduction,
             @RequestParam(value = "profilePicture", required = false) MultipartFile profilePicture) {
         try {
-            UpdateProfileResponse response = memberService.updateMemberProfile(accessToken, nickname, introduction, profilePicture);
+            UpdateProfileResponse response = memberService.updateMemberProfile(memberId, nickname, introduction, profilePicture);
 
             // 성공적으로 업데이트되면 200 OK 응답
             return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -84,9 +85,9 @@ public class MemberController implements MemberApiDocumentation {
     @Override
     @PatchMapping(value = "/reset-profile")
     public ResponseEntity<?> resetMemberProfile(
-            @RequestHeader("Authorization") String accessToken) {
+            @LoginMember Long memberId) {
         try {
-            String url = memberService.resetMemberProfile(accessToken);
+            String url = memberService.resetMemberProfile(memberId);
             return ResponseEntity.status(HttpStatus.OK).body(url);
 
 
@@ -106,10 +107,10 @@ public class MemberController implements MemberApiDocumentation {
 
     @Override
     @PatchMapping("/change/password")
-    public ResponseEntity<?> changePassword(@RequestHeader("Authorization") String accessToken,
+    public ResponseEntity<?> changePassword(@LoginMember Long memberId,
                                             @RequestBody PasswordChangeRequest request){
         try {
-            memberService.changePassword(accessToken, request.getOldPassword(), request.getNewPassword());
+            memberService.changePassword(memberId, request.getOldPassword(), request.getNewPassword());
             return ResponseEntity.status(HttpStatus.OK).body("비밀번호가 변경되었습니다.");
 
 
@@ -121,6 +122,8 @@ public class MemberController implements MemberApiDocumentation {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }  catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (PasswordHashBusyException e) {
+            throw e; // 503 응답은 GlobalExceptionHandler 에서 처리 (아래 Exception 에 잡히지 않도록 그대로 전달)
         } catch (Exception e) {
             // 그 외 기타 예외 처리
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
@@ -129,7 +132,7 @@ public class MemberController implements MemberApiDocumentation {
 
     @Override
     @PatchMapping("/update/notification")
-    public ResponseEntity<?> updateNotification(@RequestHeader("Authorization") String accessToken,
+    public ResponseEntity<?> updateNotification(@LoginMember Long memberId,
                                             @RequestBody SettingRequest dto){
         try {
             memberService.updateNotification(dto);
@@ -161,10 +164,10 @@ public class MemberController implements MemberApiDocumentation {
 
     @Override
     @PostMapping("/init/interest")
-    public ResponseEntity<?> initInterest(@RequestHeader("Authorization") String accessToken,
+    public ResponseEntity<?> initInterest(@LoginMember Long memberId,
                                             @RequestBody AreaRequest areaRequest){
         try {
-            List<MemberAreaDTO> dtos = memberService.initInterest(accessToken, areaRequest);
+            List<MemberAreaDTO> dtos = memberService.initInterest(memberId, areaRequest);
             return ResponseEntity.status(HttpStatus.OK).body(dtos);
 
 
@@ -179,10 +182,10 @@ public class MemberController implements MemberApiDocumentation {
 
     @Override
     @PutMapping("/update/interest")
-    public ResponseEntity<?> updateInterest(@RequestHeader("Authorization") String accessToken,
+    public ResponseEntity<?> updateInterest(@LoginMember Long memberId,
                                             @RequestBody AreaRequest areaRequest){
         try {
-            List<MemberAreaDTO> dtos = memberService.updateInterest(accessToken, areaRequest);
+            List<MemberAreaDTO> dtos = memberService.updateInterest(memberId, areaRequest);
             return ResponseEntity.status(HttpStatus.OK).body(dtos);
 
 
@@ -197,9 +200,9 @@ public class MemberController implements MemberApiDocumentation {
 
     @Override
     @PatchMapping("/update/notification/read")
-    public ResponseEntity<?> updateRead(@RequestHeader("Authorization") String accessToken) {
+    public ResponseEntity<?> updateRead(@LoginMember Long memberId) {
         try {
-            memberService.updateNotificationRead(accessToken); // 철자 수정
+            memberService.updateNotificationRead(memberId); // 철자 수정
             return ResponseEntity.noContent().build(); // 204 No Content
 
 
@@ -215,7 +218,7 @@ public class MemberController implements MemberApiDocumentation {
     @Override
     @GetMapping("/notificationList")
     public ResponseEntity<?> getNotificationList(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginMember Long memberId,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "10") int size) { // 기본값 0, 10 설정
         try {
@@ -224,7 +227,7 @@ public class MemberController implements MemberApiDocumentation {
                     size,
                     Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")) // 다중 정렬 기준 추가
             ); // createdAt 기준 내림차순 정렬
-            Page<NotificationDTO> dtos = memberService.getNotifications(accessToken, pageable);
+            Page<NotificationDTO> dtos = memberService.getNotifications(memberId, pageable);
             return ResponseEntity.ok(dtos); // 페이지네이션 정보 포함하여 반환
 
 
@@ -239,9 +242,9 @@ public class MemberController implements MemberApiDocumentation {
 
     @Override
     @GetMapping("/notification/unread")
-    public ResponseEntity<?> unReadNotification(@RequestHeader("Authorization") String accessToken) {
+    public ResponseEntity<?> unReadNotification(@LoginMember Long memberId) {
         try {
-            long cnt = memberService.unReadNotification(accessToken);
+            long cnt = memberService.unReadNotification(memberId);
             return ResponseEntity.ok(cnt);
 
 
@@ -255,10 +258,10 @@ public class MemberController implements MemberApiDocumentation {
     }
 
     @DeleteMapping("/delete/interest")
-    public ResponseEntity<?> deleteInterest(@RequestHeader("Authorization") String accessToken,
+    public ResponseEntity<?> deleteInterest(@LoginMember Long memberId,
                                             @RequestBody AreaRequest areaRequest){
         try {
-            memberService.deleteInterest(accessToken, areaRequest);
+            memberService.deleteInterest(memberId, areaRequest);
             return ResponseEntity.status(HttpStatus.OK).body("삭제 성공");
 
 
@@ -30,6 +30,7 @@ public class Member {
 
     private String nickname;
     private String profile;
+    private String profileThumbnail; // 썸네일이 만들어지기 전에는 null
     private String introduce;
 
     private boolean isDeleted = false; // 삭제 여부를 확인
@@ -61,9 +62,9 @@ public class Member {
     private List<Report> reports = new ArrayList<>();
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Punishment> punishments = new ArrayList<>();
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true) // member_area.member_id 로 관리 (일괄 추가/삭제)
     private List<MemberArea> memberAreas = new ArrayList<>();
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true) // notification.member_id 로 관리 (알림 추가 시 목록을 읽지 않음)
     private List<Notification> notifications = new ArrayList<>();
 
 
@@ -131,6 +132,7 @@ public class Member {
 
     public void updateProfilePicture(String profile) {
         this.profile = profile;
+        this.profileThumbnail = null; // 새 사진의 썸네일은 비동기로 다시 생성
     }
 
     public void updateIntroduction(String introduce ) {
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
-@Table(name = "Notification")
+@Table(name = "Notification",
+        indexes = @Index(name = "idx_notification_member_read", columnList = "member_id, is_read"))
 @Getter
 @RequiredArgsConstructor(access = PROTECTED)
 public class Notification {
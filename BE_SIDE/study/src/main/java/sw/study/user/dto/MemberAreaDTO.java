@@ -1,8 +1,12 @@
 package sw.study.user.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class MemberAreaDTO {
     private Long id;
     private Long interestId;
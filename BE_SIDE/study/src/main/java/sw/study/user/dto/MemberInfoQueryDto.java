@@ -0,0 +1,31 @@
+package sw.study.user.dto;
+
+import lombok.Data;
+import sw.study.user.role.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 정보 조회용 프로젝션 (프로필)
+ */
+@Data
+public class MemberInfoQueryDto {
+    private String email;
+    private String nickname;
+    private String profile;
+    private String introduce;
+    private Role role;
+    private boolean isDeleted;
+    private LocalDateTime deletedAt;
+
+    public MemberInfoQueryDto(String email, String nickname, String profile, String introduce,
+                              Role role, boolean isDeleted, LocalDateTime deletedAt) {
+        this.email = email;
+        this.nickname = nickname;
+        this.profile = profile;
+        this.introduce = introduce;
+        this.role = role;
+        this.isDeleted = isDeleted;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,35 @@
+package sw.study.user.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * /user/queue/notifications 로 보내는 메시지
+ * UNREAD: 구독 직후/모두 읽음 시 읽지 않은 알림 수(unreadCount), NOTIFICATION: 새 알림과 읽지 않은 알림 수 증가분(unreadDelta)
+ */
+@Data
+@NoArgsConstructor
+public class NotificationPushDTO {
+    public static final String UNREAD = "UNREAD";
+    public static final String NOTIFICATION = "NOTIFICATION";
+
+    private String type;
+    private Long unreadCount;
+    private Integer unreadDelta;
+    private NotificationDTO notification;
+
+    public static NotificationPushDTO unread(long unreadCount) {
+        NotificationPushDTO dto = new NotificationPushDTO();
+        dto.type = UNREAD;
+        dto.unreadCount = unreadCount;
+        return dto;
+    }
+
+    public static NotificationPushDTO notification(NotificationDTO notification) {
+        NotificationPushDTO dto = new NotificationPushDTO();
+        dto.type = NOTIFICATION;
+        dto.unreadDelta = 1;
+        dto.notification = notification;
+        return dto;
+    }
+}
@@ -1,10 +1,21 @@
 package sw.study.user.dto;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class NotificationSettingDTO {
     Long settingId; // 알림 설정 ID
     boolean isEnabled;
     NotificationCategoryDTO categoryDTO;
+
+    // 조회 프로젝션용 (MemberInfoQueryRepository)
+    public NotificationSettingDTO(Long settingId, boolean isEnabled, Long categoryId, String categoryName) {
+        this.settingId = settingId;
+        this.isEnabled = isEnabled;
+        this.categoryDTO = new NotificationCategoryDTO();
+        this.categoryDTO.setId(categoryId);
+        this.categoryDTO.setName(categoryName);
+    }
 }
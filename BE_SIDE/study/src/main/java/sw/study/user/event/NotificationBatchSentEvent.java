@@ -0,0 +1,15 @@
+package sw.study.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 알림 일괄 발송(fan-out)으로 저장된 알림들 (읽지 않은 알림 수/푸시를 파이프라인으로 한 번에 반영)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationBatchSentEvent {
+    private final List<NotificationSentEvent> notifications;
+}
@@ -0,0 +1,19 @@
+package sw.study.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 여러 회원에게 같은 알림을 보내달라는 이벤트 (스터디 그룹 공지/일정 등)
+ * 요청한 트랜잭션이 커밋된 뒤 NotificationFanoutListener 가 비동기로 처리한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationFanoutEvent {
+    private final Set<Long> memberIds;
+    private final String type;
+    private final String content;
+    private final Long targetId;
+}
@@ -0,0 +1,15 @@
+package sw.study.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import sw.study.user.dto.NotificationDTO;
+
+/**
+ * 회원에게 새 알림이 저장되었을 때 발행되는 이벤트 (읽지 않은 알림 수 +1, 실시간 푸시)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationSentEvent {
+    private final Long memberId;
+    private final NotificationDTO notification;
+}
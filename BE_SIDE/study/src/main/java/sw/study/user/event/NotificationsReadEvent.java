@@ -0,0 +1,13 @@
+package sw.study.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원의 알림을 모두 읽음 처리했을 때 발행되는 이벤트 (읽지 않은 알림 수 초기화)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationsReadEvent {
+    private final Long memberId;
+}
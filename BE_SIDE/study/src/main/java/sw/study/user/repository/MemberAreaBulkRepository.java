@@ -0,0 +1,48 @@
+package sw.study.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberAreaBulkRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 관심 분야를 배치로 추가
+     * @return 생성된 member_interest_id (areaIds 순서)
+     */
+    public List<Long> insertAll(Long memberId, List<Long> areaIds) {
+        if (areaIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "insert into member_area (member_id, interest_area_id) values (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (Long areaId : areaIds) {
+                    statement.setLong(1, memberId);
+                    statement.setLong(2, areaId);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> ids = new ArrayList<>(areaIds.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+}
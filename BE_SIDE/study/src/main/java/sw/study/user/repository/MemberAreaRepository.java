@@ -1,8 +1,12 @@
 package sw.study.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sw.study.user.domain.MemberArea;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +14,9 @@ public interface MemberAreaRepository extends JpaRepository<MemberArea, Integer>
     List<MemberArea> findByMemberId(Long memberId);
 
     Optional<MemberArea> findByMemberIdAndAreaId(Long memberId, Long interestAreaId);
+
+    // 관심 분야 일괄 삭제 (한 번의 delete)
+    @Modifying
+    @Query("delete from MemberArea ma where ma.member.id = :memberId and ma.area.id in :areaIds")
+    int deleteByMemberIdAndAreaIds(@Param("memberId") Long memberId, @Param("areaIds") Collection<Long> areaIds);
 }
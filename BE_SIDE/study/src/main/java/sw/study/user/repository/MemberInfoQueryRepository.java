@@ -0,0 +1,57 @@
+package sw.study.user.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import sw.study.user.dto.MemberAreaDTO;
+import sw.study.user.dto.MemberInfoQueryDto;
+import sw.study.user.dto.NotificationSettingDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원 정보(/api/member/info) 조회 전용 리포지토리
+ * 회원 엔티티의 설정/관심 분야 컬렉션과 카테고리/분야 프록시를 하나씩 초기화하지 않고, 필요한 컬럼만 DTO 로 바로 조회한다. (쿼리 3번)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberInfoQueryRepository {
+    private final EntityManager em;
+
+    // 프로필
+    public Optional<MemberInfoQueryDto> findMemberInfo(Long memberId) {
+        return em.createQuery(
+                        "select new sw.study.user.dto.MemberInfoQueryDto(" +
+                                " m.email, m.nickname, m.profile, m.introduce, m.role, m.isDeleted, m.deletedAt)" +
+                                " from Member m" +
+                                " where m.id = :memberId", MemberInfoQueryDto.class)
+                .setParameter("memberId", memberId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    // 알림 설정 + 카테고리
+    public List<NotificationSettingDTO> findSettings(Long memberId) {
+        return em.createQuery(
+                        "select new sw.study.user.dto.NotificationSettingDTO(s.id, s.isEnabled, c.id, c.categoryName)" +
+                                " from NotificationSetting s" +
+                                " join s.category c" +
+                                " where s.member.id = :memberId" +
+                                " order by s.id", NotificationSettingDTO.class)
+                .setParameter("memberId", memberId)
+                .getResultList();
+    }
+
+    // 관심 분야
+    public List<MemberAreaDTO> findInterests(Long memberId) {
+        return em.createQuery(
+                        "select new sw.study.user.dto.MemberAreaDTO(ma.id, a.id, a.areaName)" +
+                                " from MemberArea ma" +
+                                " join ma.area a" +
+                                " where ma.member.id = :memberId" +
+                                " order by ma.id", MemberAreaDTO.class)
+                .setParameter("memberId", memberId)
+                .getResultList();
+    }
+}
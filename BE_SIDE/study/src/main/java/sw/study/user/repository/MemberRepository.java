@@ -3,6 +3,9 @@ package sw.study.user.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sw.study.user.domain.Member;
 
 import java.time.LocalDateTime;
@@ -19,6 +22,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     List<Member> findAllByDeletedAtBefore(LocalDateTime dateTime);
 
+    // 프로필 사진이 그대로이고 썸네일이 아직 없는 경우에만 썸네일 저장
+    @Modifying
+    @Query("update Member m set m.profileThumbnail = :thumbnail" +
+            " where m.id = :memberId and m.profile = :profile and m.profileThumbnail is null")
+    int updateProfileThumbnail(@Param("memberId") Long memberId, @Param("profile") String profile, @Param("thumbnail") String thumbnail);
+
     Page<Member> findMembersByNicknameStartingWith(String nickname, Pageable pageable); // 닉네임을 통한 사용자 검색
     List<Member> findByNicknameIn(List<String> nicknames); // 선택된 닉네임 list -> 한번에 Member 객체들을 받아오는 메소드
 }
@@ -0,0 +1,64 @@
+package sw.study.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 내용의 알림을 여러 회원에게 배치로 추가 (BATCH_SIZE 개씩 executeBatch)
+     * @return 생성된 notification_id (memberIds 순서)
+     */
+    public List<Long> insertAll(List<Long> memberIds, Long categoryId, String content, Long targetId, LocalDateTime createdAt) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "insert into notification (member_id, category_id, target_id, content, is_read, created_at)" +
+                            " values (?, ?, ?, ?, false, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                List<Long> ids = new ArrayList<>(memberIds.size());
+                Timestamp timestamp = Timestamp.valueOf(createdAt);
+                for (int i = 0; i < memberIds.size(); i++) {
+                    statement.setLong(1, memberIds.get(i));
+                    statement.setLong(2, categoryId);
+                    if (targetId != null) {
+                        statement.setLong(3, targetId);
+                    } else {
+                        statement.setNull(3, Types.BIGINT);
+                    }
+                    statement.setString(4, content);
+                    statement.setTimestamp(5, timestamp);
+                    statement.addBatch();
+
+                    if ((i + 1) % BATCH_SIZE == 0 || i == memberIds.size() - 1) {
+                        statement.executeBatch();
+                        try (ResultSet keys = statement.getGeneratedKeys()) {
+                            while (keys.next()) {
+                                ids.add(keys.getLong(1));
+                            }
+                        }
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+}
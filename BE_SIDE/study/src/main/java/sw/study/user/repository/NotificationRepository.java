@@ -3,12 +3,21 @@ package sw.study.user.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sw.study.user.domain.Member;
 import sw.study.user.domain.Notification;
 
-import java.util.List;
-
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByMemberAndIsReadFalse(Member member);
     Page<Notification> findByMember(Member member, Pageable pageable);
+
+    // 읽지 않은 알림 수 (엔티티를 읽지 않고 count 만)
+    @Query("select count(n) from Notification n where n.member.id = :memberId and n.isRead = false")
+    long countUnreadByMemberId(@Param("memberId") Long memberId);
+
+    // 모두 읽음 처리 (한 번의 update)
+    @Modifying(clearAutomatically = true)
+    @Query("update Notification n set n.isRead = true where n.member.id = :memberId and n.isRead = false")
+    int markAllAsRead(@Param("memberId") Long memberId);
 }
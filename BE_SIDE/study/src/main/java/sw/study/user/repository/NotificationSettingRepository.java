@@ -1,13 +1,22 @@
 package sw.study.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sw.study.user.domain.Member;
 import sw.study.user.domain.NotificationCategory;
 import sw.study.user.domain.NotificationSetting;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationSettingRepository extends JpaRepository<NotificationSetting, Long> {
     Optional<NotificationSetting> findByMemberAndCategory(Member member, NotificationCategory category);
     Optional<NotificationSetting> findById(Long id);
+
+    // 받는 사람 중 해당 카테고리 알림을 켜 둔 회원 (한 번의 IN 조회)
+    @Query("select s.member.id from NotificationSetting s" +
+            " where s.category.id = :categoryId and s.isEnabled = true and s.member.id in :memberIds")
+    List<Long> findEnabledMemberIds(@Param("categoryId") Long categoryId, @Param("memberIds") Collection<Long> memberIds);
 }
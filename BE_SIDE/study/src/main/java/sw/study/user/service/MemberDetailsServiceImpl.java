@@ -2,9 +2,11 @@ package sw.study.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import sw.study.user.domain.Member;
 import sw.study.user.repository.MemberRepository;
@@ -12,7 +14,7 @@ import sw.study.user.impl.MemberDetailsImpl;
 
 @Service
 @RequiredArgsConstructor
-public class MemberDetailsServiceImpl implements UserDetailsService {
+public class MemberDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -24,4 +26,14 @@ public class MemberDetailsServiceImpl implements UserDetailsService {
         return new MemberDetailsImpl(member);
     }
 
+    // 로그인 성공 후 work factor 가 바뀐 비밀번호 해시를 새 해시로 교체
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByEmail(user.getUsername()).orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        member.changePassword(newPassword);
+
+        return new MemberDetailsImpl(member);
+    }
+
 }
@@ -3,6 +3,7 @@ package sw.study.user.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,15 +11,16 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import sw.study.community.event.ImageUploadedEvent;
+import sw.study.community.event.StoredFilesReleasedEvent;
 import sw.study.community.service.S3Service;
-import sw.study.config.jwt.JWTService;
-import sw.study.config.jwt.TokenProvider;
 import sw.study.exception.*;
 import sw.study.exception.email.DuplicateEmailException;
 import sw.study.exception.email.EmailNotFoundException;
 import sw.study.exception.email.VerificationCodeGenerationException;
 import sw.study.user.domain.*;
 import sw.study.user.dto.*;
+import sw.study.user.event.NotificationsReadEvent;
 import sw.study.user.repository.*;
 import sw.study.user.role.Role;
 
@@ -36,14 +38,16 @@ import java.util.stream.Collectors;
 public class MemberService {
     private final MemberRepository memberRepository;
     private final BCryptPasswordEncoder encoder;
-    private final TokenProvider tokenProvider;
     private final NotificationSettingRepository notificationSettingRepository;
     private final NotificationCategoryRepository notificationCategoryRepository;
     private final AreaRepository areaRepository;
     private final MemberAreaRepository memberAreaRepository;
+    private final MemberInfoQueryRepository memberInfoQueryRepository;
+    private final MemberAreaBulkRepository memberAreaBulkRepository;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     private final S3Service s3Service;
-    private final JWTService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long join(JoinDto joinDto) {
@@ -98,33 +102,9 @@ public class MemberService {
         }
     }
 
-    public Long getMemberIdByToken(String token) {
-        // 토큰 유효성 검사
-        token = jwtService.extractToken(token);
-
-        if (!tokenProvider.validateToken(token)) {
-            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
-        }
-
-        String email = jwtService.extractEmail(token);
-
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-
-        return member.getId();
-    }
-
-    public MemberDto getMemberByToken(String token) {
-        // 토큰 유효성 검사
-        token = jwtService.extractToken(token);
-
-        if (!tokenProvider.validateToken(token)) {
-            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
-        }
-
-        String email = jwtService.extractEmail(token);
-
-        Member member = memberRepository.findByEmail(email)
+    public MemberDto getMemberInfo(Long memberId) {
+        // 프로필, 알림 설정(카테고리 포함), 관심 분야(분야 포함)를 각각 한 번의 프로젝션 쿼리로 조회
+        MemberInfoQueryDto member = memberInfoQueryRepository.findMemberInfo(memberId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
         // MemberDto 생성
@@ -134,50 +114,22 @@ public class MemberService {
         memberDto.setProfile(member.getProfile());
         memberDto.setIntroduce(member.getIntroduce());
         memberDto.setRole(member.getRole().toString());
-        memberDto.setDeleted(memberDto.isDeleted());
+        memberDto.setDeleted(member.isDeleted());
 
         if (member.getDeletedAt() != null) {
             memberDto.setDeletedAt(LocalDate.from(member.getDeletedAt()));
         }
 
-        // 알림 설정 DTO 변환
-        List<NotificationSettingDTO> dtos = member.getSettings().stream()
-                .map(s -> {
-                    NotificationSettingDTO dto = new NotificationSettingDTO();
-                    NotificationCategoryDTO categoryDTO = new NotificationCategoryDTO();
-                    categoryDTO.setId(s.getCategory().getId());
-                    categoryDTO.setName(s.getCategory().getCategoryName());
-                    dto.setSettingId(s.getId());
-                    dto.setEnabled(s.isEnabled());
-                    dto.setCategoryDTO(categoryDTO);
-                    return dto;
-                })
-                .collect(Collectors.toList());
-
-        // 관심 분야 DTO 변환
-        List<MemberAreaDTO> interestDtos = member.getMemberAreas().stream()
-                .map(interest -> {
-                    MemberAreaDTO dto = new MemberAreaDTO();
-                    dto.setId(interest.getId());
-                    dto.setInterestId(interest.getArea().getId());
-                    dto.setName(interest.getArea().getAreaName());
-                    return dto;
-                })
-                .collect(Collectors.toList());
-
         // DTO 설정
-        memberDto.setSettings(dtos);
-        memberDto.setInterests(interestDtos);
+        memberDto.setSettings(memberInfoQueryRepository.findSettings(memberId));
+        memberDto.setInterests(memberInfoQueryRepository.findInterests(memberId));
 
-        // 이메일로 사용자 조회
         return memberDto;
     }
 
     @Transactional
-    public UpdateProfileResponse updateMemberProfile(String accessToken, String nickName, String introduction, MultipartFile profilePicture) throws IOException{
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-        Member member = memberRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    public UpdateProfileResponse updateMemberProfile(Long memberId, String nickName, String introduction, MultipartFile profilePicture) throws IOException{
+        Member member = findMember(memberId);
 
         if (introduction == null) {
             introduction = "";
@@ -191,12 +143,13 @@ public class MemberService {
         // 프로필 사진 업데이트
         if (profilePicture != null && !profilePicture.isEmpty()) {
             String profilePictureUrl = s3Service.upload(profilePicture, "profile/");
-            member.updateProfilePicture(profilePictureUrl);
+            changeProfilePicture(member, profilePictureUrl);
+            eventPublisher.publishEvent(ImageUploadedEvent.memberProfile(memberId, profilePictureUrl));
         }
 
         if (profilePicture != null && profilePicture.isEmpty()) {
             // 빈 파일일 경우 (파일은 존재하지만 내용이 없는 경우)
-            member.updateProfilePicture("");  // 빈 문자열로 기본 사진 처리
+            changeProfilePicture(member, "");  // 빈 문자열로 기본 사진 처리
         }
 
         // 자기소개 업데이트
@@ -210,24 +163,29 @@ public class MemberService {
     }
 
     @Transactional
-    public String resetMemberProfile(String accessToken) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-        Member member = memberRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    public String resetMemberProfile(Long memberId) {
+        Member member = findMember(memberId);
 
-        member.updateProfilePicture("");
+        changeProfilePicture(member, "");
         memberRepository.save(member);
 
         return member.getProfile();
     }
 
+    // 프로필 사진 변경 (이전 사진과 썸네일은 커밋된 뒤에 참조를 해제한다.)
+    private void changeProfilePicture(Member member, String profile) {
+        String oldProfile = member.getProfile();
+        String oldThumbnail = member.getProfileThumbnail();
+        member.updateProfilePicture(profile);
+        if (!Objects.equals(oldProfile, profile)) {
+            eventPublisher.publishEvent(StoredFilesReleasedEvent.of(oldProfile, oldThumbnail));
+        }
+    }
+
 
     @Transactional
-    public void changePassword(String accessToken, String oldPassword, String newPassword) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    public void changePassword(Long memberId, String oldPassword, String newPassword) {
+        Member member = findMember(memberId);
 
         // 비밀번호 공백 제거
         String trimmedOldPassword = oldPassword.trim();
@@ -276,164 +234,36 @@ public class MemberService {
     }
 
     @Transactional
-    public List<MemberAreaDTO> initInterest(String accessToken, AreaRequest areaRequest) {
-        List<MemberAreaDTO> dtos = new ArrayList<>();
-
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-
-        List<Long> areaRequestIds = areaRequest.getIds();
-        if (areaRequestIds == null) {
-            areaRequestIds = new ArrayList<>(); // null 체크 및 초기화
-        }
-
-        // 관심 항목 추가
-        for (Long areaId : areaRequestIds) {
-            Area area = areaRepository.findById(areaId)
-                    .orElseThrow(() -> new InterestNotFoundException("관심 분야를 찾지 못했습니다."));
-
-            MemberArea newInterest = MemberArea.CreateMemberArea(area);
-            member.addMemberArea(newInterest);
-            memberAreaRepository.save(newInterest);
-        }
-
-        // 업데이트된 관심 분야 DTO 생성
-        List<MemberArea> updateAreas = memberAreaRepository.findByMemberId(member.getId());
-        for (MemberArea memberArea : updateAreas) {
-            MemberAreaDTO dto = new MemberAreaDTO();
-            dto.setId(memberArea.getId());
-            dto.setInterestId(memberArea.getArea().getId());
-            dto.setName(memberArea.getArea().getAreaName());
-            dtos.add(dto);
-        }
-
-        return dtos;
+    public List<MemberAreaDTO> initInterest(Long memberId, AreaRequest areaRequest) {
+        // 관심 항목 추가 (이미 등록된 분야는 건너뜀)
+        return changeInterests(memberId, requestedAreaIds(areaRequest), false);
     }
 
     @Transactional
-    public List<MemberAreaDTO> updateInterest(String accessToken, AreaRequest areaRequest) {
-        List<MemberAreaDTO> dtos = new ArrayList<>();
-
-        // 토큰에서 이메일 추출
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-
-        // 요청에서 관심사 ID 목록 가져오기 (null 방지)
-        List<Long> interestIds = Optional.ofNullable(areaRequest.getIds()).orElse(new ArrayList<>());
-
-        // 기존의 관심사를 조회하여 ID 목록으로 변환
-        List<MemberArea> existingInterests = memberAreaRepository.findByMemberId(member.getId());
-        Set<Long> existingInterestIds = existingInterests.stream()
-                .map(memberArea -> memberArea.getArea().getId())
-                .collect(Collectors.toSet());
-
-        // 추가할 관심사: 새로운 요청의 ID 중 기존에 없는 ID들
-        Set<Long> interestsToAdd = interestIds.stream()
-                .filter(id -> !existingInterestIds.contains(id))
-                .collect(Collectors.toSet());
-
-        // 삭제할 관심사: 기존 관심사 중 새로운 요청에 없는 ID들
-        Set<Long> interestsToRemove = existingInterestIds.stream()
-                .filter(id -> !interestIds.contains(id))
-                .collect(Collectors.toSet());
-
-        // 관심사 추가
-        for (Long interestId : interestsToAdd) {
-            Area area = areaRepository.findById(interestId)
-                    .orElseThrow(() -> new InterestNotFoundException("관심 분야를 찾지 못했습니다."));
-            MemberArea newInterest = MemberArea.CreateMemberArea(area);
-            member.addMemberArea(newInterest);
-            memberAreaRepository.save(newInterest);
-
-            //MemberAreaDTO dto = new MemberAreaDTO();
-            //dto.setId(newInterest.getId());
-            //dto.setInterestId(newInterest.getArea().getId());
-            //dto.setName(newInterest.getArea().getAreaName());
-            //dtos.add(dto);
-        }
-
-        // 관심사 삭제
-        for (Long interestId : interestsToRemove) {
-            MemberArea existingInterest = memberAreaRepository.findByMemberIdAndAreaId(member.getId(), interestId)
-                    .orElseThrow(() -> new InterestNotFoundException("관심 분야를 찾지 못했습니다."));
-            member.removeInterest(existingInterest);
-            memberAreaRepository.delete(existingInterest);
-       }
-
-        // 업데이트된 관심사 목록 DTO 생성
-        List<MemberArea> updatedInterests = memberAreaRepository.findByMemberId(member.getId());
-        for (MemberArea interest : updatedInterests) {
-            MemberAreaDTO dto = new MemberAreaDTO();
-            dto.setId(interest.getId());
-            dto.setInterestId(interest.getArea().getId());
-            dto.setName(interest.getArea().getAreaName());
-            dtos.add(dto);
-        }
-
-        return dtos;
+    public List<MemberAreaDTO> updateInterest(Long memberId, AreaRequest areaRequest) {
+        // 요청한 목록으로 교체 (없는 분야는 추가, 요청에 없는 분야는 삭제)
+        return changeInterests(memberId, requestedAreaIds(areaRequest), true);
     }
 
     @Transactional
-    public void deleteInterest(String accessToken, AreaRequest areaRequest) {
-
-        // 토큰에서 이메일 추출
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    public void deleteInterest(Long memberId, AreaRequest areaRequest) {
+        Set<Long> interestIds = requestedAreaIds(areaRequest);
 
-        // 요청에서 관심사 ID 목록 가져오기 (null 방지)
-        List<Long> interestIds = Optional.ofNullable(areaRequest.getIds()).orElse(new ArrayList<>());
-
-        // 기존의 관심사를 조회하여 ID 목록으로 변환
-        List<MemberArea> existingInterests = memberAreaRepository.findByMemberId(member.getId());
-        Set<Long> existingInterestIds = existingInterests.stream()
-                .map(memberArea -> memberArea.getArea().getId())
-                .collect(Collectors.toSet());
-
-        // 삭제할 관심사: 기존 관심사 중 새로운 요청에 없는 ID들
-        Set<Long> interestsToRemove = existingInterestIds.stream()
-                .filter(id -> interestIds.contains(id))
-                .collect(Collectors.toSet());
-
-        // 관심사 삭제
-        for (Long interestId : interestsToRemove) {
-            MemberArea existingInterest = memberAreaRepository.findByMemberIdAndAreaId(member.getId(), interestId)
-                    .orElseThrow(() -> new InterestNotFoundException("관심 분야를 찾지 못했습니다."));
-            member.removeInterest(existingInterest);
-            memberAreaRepository.delete(existingInterest);
+        // 관심사 삭제 (한 번의 delete)
+        if (!interestIds.isEmpty()) {
+            memberAreaRepository.deleteByMemberIdAndAreaIds(memberId, interestIds);
         }
-
     }
 
     @Transactional
-    public void updateNotificationRead(String accessToken) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token); // 토큰에서 이메일 추출
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-
-        // 읽지 않은 알림 리스트 가져오기
-        List<Notification> notifications = notificationRepository.findByMemberAndIsReadFalse(member);
-
-        // 읽음 상태로 변경하고 저장하기
-        for (Notification notification : notifications) {
-            notification.markAsRead(); // 읽음 처리
-        }
-
-        // 변경된 알림들을 데이터베이스에 저장
-        notificationRepository.saveAll(notifications);
+    public void updateNotificationRead(Long memberId) {
+        // 읽지 않은 알림을 조회하지 않고 한 번의 update 로 읽음 처리
+        notificationRepository.markAllAsRead(memberId);
+        eventPublisher.publishEvent(new NotificationsReadEvent(memberId)); // 커밋 후 읽지 않은 알림 수 초기화
     }
 
-    public Page<NotificationDTO> getNotifications(String accessToken, Pageable pageable) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    public Page<NotificationDTO> getNotifications(Long memberId, Pageable pageable) {
+        Member member = memberRepository.getReferenceById(memberId); // 조건으로만 쓰므로 조회 없이 프록시 사용
 
         // 페이지네이션을 고려하여 Notification 엔티티를 페이지 단위로 가져옴
         Page<Notification> notificationsPage = notificationRepository.findByMember(member, pageable);
@@ -453,15 +283,66 @@ public class MemberService {
         return notificationDTOS;
     }
 
-    public long unReadNotification(String accessToken) {
-        String token = jwtService.extractToken(accessToken);
-        String email = jwtService.extractEmail(token);
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    public long unReadNotification(Long memberId) {
+        return unreadNotificationCounter.count(memberId);
+    }
 
-        List<Notification> notifications = notificationRepository.findByMemberAndIsReadFalse(member);
+    /**
+     * 관심 분야 일괄 변경
+     * 기존 목록 1번, 추가할 분야 검증 1번(IN), 삭제 1번, 추가 1번(JDBC 배치)으로 처리하고 결과는 다시 조회하지 않고 메모리에서 만든다.
+     * @param removeOthers true 면 요청에 없는 기존 분야를 삭제
+     */
+    private List<MemberAreaDTO> changeInterests(Long memberId, Set<Long> interestIds, boolean removeOthers) {
+        // 기존의 관심사 (분야 이름 포함)
+        List<MemberAreaDTO> existingInterests = memberInfoQueryRepository.findInterests(memberId);
+        if (existingInterests.isEmpty() && !memberRepository.existsById(memberId)) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        Set<Long> existingInterestIds = existingInterests.stream()
+                .map(MemberAreaDTO::getInterestId)
+                .collect(Collectors.toSet());
 
-        return notifications.size();
+        // 추가할 관심사: 새로운 요청의 ID 중 기존에 없는 ID들 (한 번의 IN 조회로 모두 검증)
+        List<Long> interestsToAdd = interestIds.stream()
+                .filter(id -> !existingInterestIds.contains(id))
+                .toList();
+        Map<Long, Area> areas = areaRepository.findAllById(interestsToAdd).stream()
+                .collect(Collectors.toMap(Area::getId, area -> area));
+        if (areas.size() != interestsToAdd.size()) {
+            throw new InterestNotFoundException("관심 분야를 찾지 못했습니다.");
+        }
+
+        List<MemberAreaDTO> dtos = new ArrayList<>(existingInterests);
+
+        // 삭제할 관심사: 기존 관심사 중 새로운 요청에 없는 ID들
+        if (removeOthers) {
+            Set<Long> interestsToRemove = existingInterestIds.stream()
+                    .filter(id -> !interestIds.contains(id))
+                    .collect(Collectors.toSet());
+            if (!interestsToRemove.isEmpty()) {
+                memberAreaRepository.deleteByMemberIdAndAreaIds(memberId, interestsToRemove);
+                dtos.removeIf(dto -> interestsToRemove.contains(dto.getInterestId()));
+            }
+        }
+
+        // 관심사 추가
+        List<Long> newIds = memberAreaBulkRepository.insertAll(memberId, interestsToAdd);
+        for (int i = 0; i < interestsToAdd.size(); i++) {
+            Area area = areas.get(interestsToAdd.get(i));
+            dtos.add(new MemberAreaDTO(newIds.get(i), area.getId(), area.getAreaName()));
+        }
+
+        return dtos;
+    }
+
+    private static Set<Long> requestedAreaIds(AreaRequest areaRequest) {
+        // 요청에서 관심사 ID 목록 가져오기 (null, 중복 제거)
+        return new LinkedHashSet<>(Optional.ofNullable(areaRequest.getIds()).orElse(new ArrayList<>()));
+    }
+
+    private Member findMember(Long memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
     }
 
     private void checkNicknameDuplication(String nickname) {
@@ -0,0 +1,29 @@
+package sw.study.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sw.study.user.event.NotificationFanoutEvent;
+
+/**
+ * 알림 일괄 발송 요청을 커밋 이후 notificationExecutor 에서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationFanoutListener {
+    private final NotificationService notificationService;
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(NotificationFanoutEvent event) {
+        try {
+            int sent = notificationService.fanOut(event);
+            log.debug("알림 일괄 발송: type = {}, 요청 {}명, 발송 {}명", event.getType(), event.getMemberIds().size(), sent);
+        } catch (RuntimeException e) {
+            log.warn("알림 일괄 발송 실패: type = {}, 요청 {}명", event.getType(), event.getMemberIds().size(), e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package sw.study.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import sw.study.config.websocket.StompMemberPrincipal;
+import sw.study.user.dto.NotificationPushDTO;
+import sw.study.user.event.NotificationBatchSentEvent;
+import sw.study.user.event.NotificationSentEvent;
+import sw.study.user.event.NotificationsReadEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 실시간 푸시 (STOMP /user/queue/notifications)
+ * 회원의 WebSocket 세션이 어느 노드에 붙어 있는지 모르므로, 커밋된 알림을 Redis 채널로 발행하고
+ * 모든 노드가 구독해 자신에게 연결된 세션에만 전달한다. 구독 직후에는 읽지 않은 알림 수를 한 번 보내
+ * 클라이언트가 목록/개수를 주기적으로 조회(polling)하지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushRelay implements MessageListener {
+    public static final String CHANNEL = "notification-push";
+    public static final String DESTINATION = "/queue/notifications";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(NotificationSentEvent event) {
+        publish(event.getMemberId(), NotificationPushDTO.notification(event.getNotification()));
+    }
+
+    // 일괄 발송은 받는 사람별 메시지를 파이프라인으로 한 번에 발행한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(NotificationBatchSentEvent event) {
+        byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        try {
+            List<byte[]> messages = new ArrayList<>(event.getNotifications().size());
+            for (NotificationSentEvent sent : event.getNotifications()) {
+                messages.add(objectMapper.writeValueAsBytes(
+                        new PushEnvelope(sent.getMemberId(), NotificationPushDTO.notification(sent.getNotification()))));
+            }
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                messages.forEach(message -> connection.publish(channel, message));
+                return null;
+            });
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("알림 푸시 일괄 발행 실패: {}명", event.getNotifications().size(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(NotificationsReadEvent event) {
+        publish(event.getMemberId(), NotificationPushDTO.unread(0));
+    }
+
+    /**
+     * 구독 직후 해당 세션에만 현재 읽지 않은 알림 수를 보낸다. (이후에는 증가분만 전달)
+     */
+    @EventListener
+    public void handle(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        if (!("/user" + DESTINATION).equals(accessor.getDestination())
+                || !(event.getUser() instanceof StompMemberPrincipal principal)) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(accessor.getSessionId());
+        headers.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(principal.getName(), DESTINATION,
+                NotificationPushDTO.unread(unreadNotificationCounter.count(principal.getMemberId())),
+                headers.getMessageHeaders());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            PushEnvelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), PushEnvelope.class);
+            String user = String.valueOf(envelope.getMemberId());
+            if (simpUserRegistry.getUser(user) != null) { // 이 노드에 연결된 세션이 있을 때만
+                messagingTemplate.convertAndSendToUser(user, DESTINATION, envelope.getPayload());
+            }
+        } catch (Exception e) {
+            log.warn("알림 푸시 메시지 처리 실패", e);
+        }
+    }
+
+    // 푸시는 보조 수단이므로 실패해도 알림 저장은 그대로 두고 클라이언트의 조회에 맡긴다.
+    private void publish(Long memberId, NotificationPushDTO payload) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new PushEnvelope(memberId, payload)));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("알림 푸시 발행 실패: memberId = {}", memberId, e);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class PushEnvelope {
+        private Long memberId;
+        private NotificationPushDTO payload;
+    }
+}
@@ -2,28 +2,38 @@ package sw.study.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import sw.study.user.domain.Member;
 import sw.study.user.domain.Notification;
 import sw.study.user.domain.NotificationCategory;
 import sw.study.user.domain.NotificationSetting;
+import sw.study.user.dto.NotificationDTO;
+import sw.study.user.event.NotificationBatchSentEvent;
+import sw.study.user.event.NotificationFanoutEvent;
+import sw.study.user.event.NotificationSentEvent;
+import sw.study.user.repository.NotificationBulkRepository;
 import sw.study.user.repository.NotificationCategoryRepository;
 import sw.study.user.repository.NotificationRepository;
 import sw.study.user.repository.NotificationSettingRepository;
 
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class NotificationService {
+    private static final int FANOUT_CHUNK_SIZE = 1000;
 
     private final NotificationRepository notificationRepository;
     private final NotificationCategoryRepository notificationCategoryRepository;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void sendNotification(Member member, String content, String type, Long targetId) {
@@ -40,7 +50,72 @@ public class NotificationService {
             Notification notification = Notification.createNotification(category, content, targetId);
             member.addNotification(notification);
             notificationRepository.save(notification);
+            eventPublisher.publishEvent(new NotificationSentEvent(member.getId(), toDTO(notification))); // 커밋 후 읽지 않은 알림 수 +1, 푸시
         }
     }
 
+    /**
+     * 여러 회원에게 같은 알림을 보낸다. (스터디 그룹 공지/일정 등)
+     * 호출한 트랜잭션이 커밋된 뒤 notificationExecutor 에서 fanOut 으로 처리하므로 요청 스레드는 기다리지 않는다.
+     */
+    public void sendNotifications(Collection<Long> memberIds, String content, String type, Long targetId) {
+        if (memberIds == null || content == null || type == null) {
+            throw new IllegalArgumentException("파라미터가 null입니다.");
+        }
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new NotificationFanoutEvent(new TreeSet<>(memberIds), type, content, targetId));
+    }
+
+    /**
+     * 알림 일괄 발송
+     * 카테고리 1번, 알림을 켜 둔 받는 사람 조회 1번(IN, FANOUT_CHUNK_SIZE 명씩), 추가는 JDBC 배치로 처리한다.
+     * (회원마다 sendNotification 을 호출하면 회원당 설정 조회/저장으로 쿼리가 3번씩 나간다.)
+     * 커밋 이후 호출되므로 호출한 쪽의 (이미 커밋된) 트랜잭션에 참여하지 않도록 새 트랜잭션에서 저장한다.
+     * @return 저장된 알림 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int fanOut(NotificationFanoutEvent event) {
+        NotificationCategory category = notificationCategoryRepository.findByCategoryName(event.getType())
+                .orElseThrow(() -> new NoSuchElementException("카테고리를 찾지 못했습니다."));
+
+        List<Long> memberIds = new ArrayList<>(event.getMemberIds());
+        List<Long> recipients = new ArrayList<>(memberIds.size());
+        for (int i = 0; i < memberIds.size(); i += FANOUT_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(i, Math.min(i + FANOUT_CHUNK_SIZE, memberIds.size()));
+            recipients.addAll(notificationSettingRepository.findEnabledMemberIds(category.getId(), chunk));
+        }
+        Collections.sort(recipients); // 회원 ID 순서로 추가
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationBulkRepository.insertAll(
+                recipients, category.getId(), event.getContent(), event.getTargetId(), now);
+
+        List<NotificationSentEvent> sent = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            NotificationDTO dto = new NotificationDTO();
+            dto.setId(ids.get(i));
+            dto.setContent(event.getContent());
+            dto.setType(category.getCategoryName());
+            dto.setCreatedAt(now);
+            dto.setTargetId(event.getTargetId() != null ? event.getTargetId() : 0);
+            sent.add(new NotificationSentEvent(recipients.get(i), dto));
+        }
+        if (!sent.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationBatchSentEvent(sent)); // 커밋 후 읽지 않은 알림 수, 푸시 일괄 반영
+        }
+        return sent.size();
+    }
+
+    private NotificationDTO toDTO(Notification notification) {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(notification.getId());
+        dto.setContent(notification.getContent());
+        dto.setRead(notification.isRead());
+        dto.setType(notification.getCategory().getCategoryName());
+        dto.setCreatedAt(notification.getCreatedAt());
+        dto.setTargetId(notification.getTargetId() != null ? notification.getTargetId() : 0);
+        return dto;
+    }
 }
@@ -0,0 +1,144 @@
+package sw.study.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sw.study.user.event.NotificationBatchSentEvent;
+import sw.study.user.event.NotificationSentEvent;
+import sw.study.user.event.NotificationsReadEvent;
+import sw.study.user.repository.NotificationRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원별 읽지 않은 알림 수 (Redis 카운터)
+ * 조회 시 카운터가 없으면 DB 에서 count 쿼리 한 번으로 채우고, 이후에는 알림 저장/모두 읽음이 커밋될 때 카운터만 고친다.
+ * 알림 엔티티는 읽지 않으며, 카운터가 틀어지더라도 TTL 이 지나거나 모두 읽음 처리하면 다시 DB 기준으로 맞춰진다.
+ * 알림이 저장될 때와 카운터를 지울 때(모두 읽음 등)마다 세대(GEN) 값을 올려, DB 를 세는 사이에 바뀐 것이 있으면 센 값으로 카운터를 채우지 않는다.
+ * (그 알림의 +1 은 카운터가 없어 반영되지 않았으므로 채우면 TTL 동안 하나 적게 보이고, 모두 읽음 이전에 센 값을 채우면 TTL 동안 읽은 알림이 남아 보인다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+    static final String KEY_PREFIX = "NOTIFICATION:UNREAD:";
+    static final String GEN_KEY_PREFIX = "NOTIFICATION:UNREAD:GEN:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    // KEYS[1] = 카운터, KEYS[2] = 세대, ARGV[1] = TTL(초)
+    // 세대는 항상 올리고, 카운터는 있을 때만 올린다. (없을 때 올리면 1 부터 시작해 DB 의 기존 알림 수가 빠진다.)
+    private static final RedisScript<Long> INCR_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end " +
+            "return -1", Long.class);
+
+    // KEYS[1] = 카운터, KEYS[2] = 세대, ARGV[1] = DB 를 세기 전의 세대, ARGV[2] = 센 값, ARGV[3] = TTL(초)
+    // 세는 사이 세대가 바뀌었으면 채우지 않는다. (다음 조회 때 다시 센다.)
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "if redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX') then return 1 end " +
+            "return 0", Long.class);
+
+    // KEYS[1] = 카운터, KEYS[2] = 세대, ARGV[1] = TTL(초)
+    // 세대를 올린 뒤 카운터를 지워, 지우기 전에 DB 를 센 조회가 카운터를 다시 채우지 못하게 한다.
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return redis.call('DEL', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    public long count(Long memberId) {
+        String key = KEY_PREFIX + memberId;
+        String genKey = GEN_KEY_PREFIX + memberId;
+        String gen;
+        try {
+            // 카운터와 세대를 한 번에 조회
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(key, genKey));
+            if (values != null && values.get(0) != null) {
+                return Long.parseLong(values.get(0));
+            }
+            gen = values != null && values.get(1) != null ? values.get(1) : "0";
+        } catch (DataAccessException e) {
+            log.warn("읽지 않은 알림 수 조회 실패 (DB 로 대체): memberId = {}", memberId, e);
+            return notificationRepository.countUnreadByMemberId(memberId);
+        }
+
+        long count = notificationRepository.countUnreadByMemberId(memberId);
+        try {
+            // 그 사이에 다른 요청이 채운 값은 덮어쓰지 않고, 알림이 저장되었다면 채우지 않는다.
+            stringRedisTemplate.execute(FILL_SCRIPT, List.of(key, genKey),
+                    gen, String.valueOf(count), String.valueOf(TTL.toSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("읽지 않은 알림 수 저장 실패: memberId = {}", memberId, e);
+        }
+        return count;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(NotificationSentEvent event) {
+        try {
+            stringRedisTemplate.execute(INCR_IF_EXISTS_SCRIPT,
+                    List.of(KEY_PREFIX + event.getMemberId(), GEN_KEY_PREFIX + event.getMemberId()),
+                    String.valueOf(TTL.toSeconds()));
+        } catch (DataAccessException e) {
+            evict(List.of(event.getMemberId()));
+        }
+    }
+
+    // 일괄 발송은 받는 사람 수만큼의 스크립트를 파이프라인으로 한 번에 보낸다.
+    // 실패하면 일부만 반영되었을 수 있으므로 받는 사람 전원의 카운터를 지운다. (다음 조회 때 DB 에서 다시 센다.)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(NotificationBatchSentEvent event) {
+        byte[] script = INCR_IF_EXISTS_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(TTL.toSeconds()).getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (NotificationSentEvent sent : event.getNotifications()) {
+                    byte[] key = (KEY_PREFIX + sent.getMemberId()).getBytes(StandardCharsets.UTF_8);
+                    byte[] genKey = (GEN_KEY_PREFIX + sent.getMemberId()).getBytes(StandardCharsets.UTF_8);
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2, key, genKey, ttl);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("읽지 않은 알림 수 일괄 반영 실패: {}명", event.getNotifications().size(), e);
+            evict(event.getNotifications().stream().map(NotificationSentEvent::getMemberId).distinct().toList());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(NotificationsReadEvent event) {
+        // 0 으로 덮어쓰면 읽음 처리와 동시에 저장된 알림의 +1 이 섞일 수 있으므로, 지우고 다음 조회 때 DB 에서 다시 센다.
+        evict(List.of(event.getMemberId()));
+    }
+
+    // 받는 사람 수만큼의 스크립트를 파이프라인으로 한 번에 보낸다.
+    private void evict(List<Long> memberIds) {
+        byte[] script = RESET_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(TTL.toSeconds()).getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long memberId : memberIds) {
+                    byte[] key = (KEY_PREFIX + memberId).getBytes(StandardCharsets.UTF_8);
+                    byte[] genKey = (GEN_KEY_PREFIX + memberId).getBytes(StandardCharsets.UTF_8);
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2, key, genKey, ttl);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("읽지 않은 알림 수 초기화 실패: {}명", memberIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package sw.study.viewcount;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 누적된 조회 수가 DB 에 반영되었을 때 발행되는 이벤트 (ID -> 반영된 조회 수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ViewCountFlushedEvent {
+    private final ViewCountTarget target;
+    private final Map<Long, Long> deltas;
+}
@@ -0,0 +1,36 @@
+package sw.study.viewcount;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ViewCountRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 누적된 조회 수를 배치로 반영
+     */
+    @Transactional
+    public void addViewCounts(ViewCountTarget target, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String sql = "update " + target.getTableName() +
+                " set view_count = view_count + ?" +
+                " where " + target.getIdColumn() + " = ?";
+
+        List<Object[]> args = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            args.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+}
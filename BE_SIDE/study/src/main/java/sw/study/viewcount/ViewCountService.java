@@ -0,0 +1,161 @@
+package sw.study.viewcount;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 수 write-behind 카운터
+ * 조회 시에는 Redis 해시(HINCRBY)에만 누적하고, 스케줄러가 주기적으로 DB 에 배치 반영한다.
+ * Redis 를 사용할 수 없을 때는 로컬 카운터(LongAdder)에 누적해두었다가 함께 반영한다.
+ * Redis 가 느리거나(SLOW_THRESHOLD) 오류가 나면 FALLBACK 동안 Redis 를 호출하지 않고 바로 로컬 카운터를 사용해, 조회 요청마다 타임아웃을 기다리지 않게 한다.
+ * 조회 수는 근사값이므로 장애 상황에서의 소량 유실은 허용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+    private static final String FLUSH_LOCK_KEY = "VC:LOCK";
+    private static final Duration FLUSH_LOCK_TIMEOUT = Duration.ofMinutes(1);
+    private static final long SLOW_THRESHOLD_MILLIS = 50;
+    private static final long FALLBACK_MILLIS = 10_000;
+
+    // 잠금 값이 자신의 토큰일 때만 해제 (반영이 잠금 만료보다 오래 걸려 다른 서버가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ViewCountRepository viewCountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<ViewCountTarget, ConcurrentHashMap<Long, LongAdder>> localCounters = createLocalCounters();
+    private volatile long fallbackUntil;
+
+    /**
+     * 조회 수 증가
+     * @return 아직 DB 에 반영되지 않은 조회 수 (이번 조회 포함)
+     */
+    public long increment(ViewCountTarget target, Long id) {
+        if (System.currentTimeMillis() >= fallbackUntil) {
+            long pending = localCounter(target, id).sum();
+            long start = System.currentTimeMillis();
+            try {
+                Long count = stringRedisTemplate.opsForHash().increment(target.getRedisKey(), id.toString(), 1);
+                if (System.currentTimeMillis() - start > SLOW_THRESHOLD_MILLIS) {
+                    startFallback("응답 지연");
+                }
+                return pending + count;
+            } catch (DataAccessException e) {
+                startFallback(e.getMessage());
+            }
+        }
+
+        LongAdder counter = localCounters.get(target).computeIfAbsent(id, key -> new LongAdder());
+        counter.increment();
+        return counter.sum();
+    }
+
+    private void startFallback(String reason) {
+        if (System.currentTimeMillis() >= fallbackUntil) {
+            log.warn("Redis 조회 수 증가 실패, {}ms 동안 로컬 카운터 사용: {}", FALLBACK_MILLIS, reason);
+        }
+        fallbackUntil = System.currentTimeMillis() + FALLBACK_MILLIS;
+    }
+
+    /**
+     * 누적된 조회 수를 DB 에 반영
+     */
+    public void flush() {
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            flushLocal(target);
+            try {
+                flushRedis(target);
+            } catch (DataAccessException e) {
+                log.warn("Redis 조회 수 반영 실패: target = {}", target, e);
+            }
+        }
+    }
+
+    private void flushLocal(ViewCountTarget target) {
+        Map<Long, Long> deltas = new HashMap<>();
+        ConcurrentHashMap<Long, LongAdder> counters = localCounters.get(target);
+        counters.forEach((id, counter) -> {
+            long delta = counter.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            } else {
+                counters.remove(id, counter);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            viewCountRepository.addViewCounts(target, deltas);
+        } catch (DataAccessException e) {
+            // 반영 실패 시 다음 주기에 다시 반영
+            deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+            throw e;
+        }
+        eventPublisher.publishEvent(new ViewCountFlushedEvent(target, deltas));
+    }
+
+    private void flushRedis(ViewCountTarget target) {
+        // 여러 서버가 동시에 같은 해시를 반영하지 않도록 잠금
+        String lockKey = FLUSH_LOCK_KEY + ":" + target;
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, FLUSH_LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            // 이전 주기에 반영하지 못한 해시가 남아있다면 그것부터 반영
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(target.getFlushKey()))) {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(target.getRedisKey()))) {
+                    return;
+                }
+                stringRedisTemplate.rename(target.getRedisKey(), target.getFlushKey());
+            }
+
+            HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+            Map<Long, Long> deltas = new HashMap<>();
+            hashOperations.entries(target.getFlushKey())
+                    .forEach((id, delta) -> deltas.put(Long.valueOf(id), Long.valueOf(delta)));
+
+            viewCountRepository.addViewCounts(target, deltas);
+            stringRedisTemplate.delete(target.getFlushKey());
+            eventPublisher.publishEvent(new ViewCountFlushedEvent(target, deltas));
+            log.info("조회 수 반영 완료: target = {}, size = {}", target, deltas.size());
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), lockToken);
+        }
+    }
+
+    private LongAdder localCounter(ViewCountTarget target, Long id) {
+        LongAdder counter = localCounters.get(target).get(id);
+        return counter != null ? counter : new LongAdder();
+    }
+
+    private static Map<ViewCountTarget, ConcurrentHashMap<Long, LongAdder>> createLocalCounters() {
+        Map<ViewCountTarget, ConcurrentHashMap<Long, LongAdder>> counters = new EnumMap<>(ViewCountTarget.class);
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            counters.put(target, new ConcurrentHashMap<>());
+        }
+        return counters;
+    }
+}
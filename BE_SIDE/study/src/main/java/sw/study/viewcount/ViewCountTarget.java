@@ -0,0 +1,24 @@
+package sw.study.viewcount;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회 수 집계 대상
+ * Redis 해시 키와, 누적된 조회 수를 DB 에 반영할 때 사용할 테이블 정보를 가진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ViewCountTarget {
+    POST("VC:POST", "post", "post_id"),
+    NOTICE("VC:NOTICE", "notice", "notice_id");
+
+    private final String redisKey;
+    private final String tableName;
+    private final String idColumn;
+
+    // 반영 중인 조회 수를 옮겨두는 키
+    public String getFlushKey() {
+        return redisKey + ":FLUSH";
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import sw.study.config.jwt.TokenDTO;
+import sw.study.config.jwt.TokenRevocationCache;
 import sw.study.exception.InvalidCredentialsException;
 import sw.study.exception.SamePasswordException;
 import sw.study.user.domain.Member;
@@ -40,6 +41,9 @@ public class AuthServiceTest {
     @Autowired
     private RedisUtil redisUtil;
 
+    @Autowired
+    private TokenRevocationCache tokenRevocationCache;
+
     static String email = "test@examplie.com";
     static String password = "1q2w3e4r!";
 
@@ -84,14 +88,15 @@ public class AuthServiceTest {
         // Arrange
         LoginRequest loginRequest = new LoginRequest(email, password);
         TokenDTO tokenDTO = authService.login(loginRequest);
+        long tokenEpoch = tokenRevocationCache.currentEpoch(email); // 로그인으로 발급된 토큰의 epoch
 
         // Act
         authService.logout(tokenDTO.getRefreshToken());
 
         // Assert
-        String refreshTokenKey = "RT:"+email;
-        String refreshToken = redisUtil.getData(refreshTokenKey);
-        assertNull(refreshToken); // Redis에서 Refresh Token이 삭제되었는지 확인
+        assertTrue(tokenRevocationCache.currentEpoch(email) > tokenEpoch); // 세션 epoch 가 올라갔는지 확인
+        assertTrue(tokenRevocationCache.check(email, tokenEpoch)[0]); // 기존 토큰이 무효화되었는지 확인
+        assertThrows(RuntimeException.class, () -> authService.reissue(tokenDTO.getRefreshToken()));
     }
 
     @Test
@@ -0,0 +1,77 @@
+package sw.study.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import sw.study.config.jwt.TokenProvider;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청 하나당 JWT 인증 비용 벤치마크
+ * 이전: 필터, getAuthentication, 서비스(extractEmail x2)에서 매번 파서를 새로 만들어 4번 파싱, Redis 3번 왕복
+ * 이후: 재사용 파서로 1번 파싱 후 요청 속성의 클레임 재사용, Redis 1번 왕복 (파이프라인)
+ * 실행: ./gradlew test --tests '*JwtVerificationBenchmarkTest' -Dauth.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "auth.benchmark", matches = "true")
+public class JwtVerificationBenchmarkTest {
+    private static final String SECRET = "c3ByaW5nLWJvb3Qtc2VjdXJpdHktand0LXR1dG9yaWFsLWppd29vbi1zcHJpbmctYm9vdC1zZWN1cml0eS1qd3QtdHV0b3JpYWwK";
+    private static final int WARMUP = 20_000;
+    private static final int REQUESTS = 100_000;
+
+    @Test
+    void JWT_인증_벤치마크() throws Exception {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        TokenProvider tokenProvider = new TokenProvider(SECRET);
+        String token = tokenProvider.generateTokenDTO(new UsernamePasswordAuthenticationToken(
+                "user@naver.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER"))), 1L, 0L).getAccessToken();
+
+        Runnable before = () -> {
+            for (int i = 0; i < 4; i++) {
+                Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+            }
+        };
+        Runnable after = () -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            try {
+                tokenProvider.verify(token);           // JwtFilter
+                tokenProvider.getAuthentication(tokenProvider.verify(token));
+                tokenProvider.parseClaims(token);      // 서비스의 extractEmail
+                tokenProvider.parseClaims(token);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+
+        print("이전 (파싱 4회, Redis 3회 왕복)", measure(before));
+        print("이후 (파싱 1회, Redis 1회 왕복)", measure(after));
+    }
+
+    private static long[] measure(Runnable request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+        long[] latencies = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            request.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void print(String name, long[] latencies) {
+        System.out.printf("%s: p50 = %.1f us, p99 = %.1f us%n",
+                name, latencies[REQUESTS / 2] / 1e3, latencies[REQUESTS * 99 / 100] / 1e3);
+    }
+}
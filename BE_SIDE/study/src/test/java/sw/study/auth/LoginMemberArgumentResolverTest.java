@@ -0,0 +1,67 @@
+package sw.study.auth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import sw.study.config.jwt.LoginMember;
+import sw.study.config.jwt.LoginMemberArgumentResolver;
+import sw.study.config.jwt.TokenProvider;
+import sw.study.exception.BaseException;
+import sw.study.exception.ErrorCode;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @LoginMember 회원 ID 주입 테스트 (DB 조회 없이 토큰의 "mid" 클레임 사용)
+ */
+public class LoginMemberArgumentResolverTest {
+    private static final String SECRET = "c3ByaW5nLWJvb3Qtc2VjdXJpdHktand0LXR1dG9yaWFsLWppd29vbi1zcHJpbmctYm9vdC1zZWN1cml0eS1qd3QtdHV0b3JpYWwK";
+
+    private final TokenProvider tokenProvider = new TokenProvider(SECRET);
+    private final LoginMemberArgumentResolver resolver = new LoginMemberArgumentResolver();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 토큰의_회원_ID_주입() throws Exception {
+        String token = tokenProvider.generateTokenDTO(new UsernamePasswordAuthenticationToken(
+                "user@naver.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER"))), 42L, 0L).getAccessToken();
+        SecurityContextHolder.getContext().setAuthentication(tokenProvider.getAuthentication(tokenProvider.verify(token)));
+
+        Object memberId = resolver.resolveArgument(parameter("required"), null, null, null);
+
+        assertThat(memberId).isEqualTo(42L);
+    }
+
+    @Test
+    void 로그인하지_않은_요청() throws Exception {
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter("required"), null, null, null))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LOGIN_REQUIRED);
+
+        assertThat(resolver.resolveArgument(parameter("optional"), null, null, null)).isNull();
+    }
+
+    private static MethodParameter parameter(String methodName) throws NoSuchMethodException {
+        return new MethodParameter(Handler.class.getDeclaredMethod(methodName, Long.class), 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handler {
+        void required(@LoginMember Long memberId) {
+        }
+
+        void optional(@LoginMember(required = false) Long memberId) {
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package sw.study.auth;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import sw.study.config.jwt.SessionStore;
+import sw.study.config.jwt.TokenRevocationCache;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 변경(로그인 -> 비밀번호 재설정 -> 로그아웃) 한 번의 Redis 비용 벤치마크
+ * 이전: 명령마다 왕복 (HINCRBY, PUBLISH / SET, ZADD, PUBLISH / DEL, ZREM, PUBLISH / HGET, HINCRBY, PUBLISH = 11회)
+ * 이후: SessionStore 의 Lua 스크립트로 변경마다 1회 왕복 (4회)
+ * 로컬 Redis(localhost:6379) 필요
+ * 실행: ./gradlew test --tests '*SessionStoreBenchmarkTest' -Dauth.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "auth.benchmark", matches = "true")
+public class SessionStoreBenchmarkTest {
+    private static final int WARMUP = 2_000;
+    private static final int REQUESTS = 10_000;
+    private static final String EPOCH_KEY = "SESSION:EPOCH";
+    private static final String RESET_INDEX = "REVOKED:RESET";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        stringRedisTemplate.delete(EPOCH_KEY);
+        stringRedisTemplate.delete(RESET_INDEX);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 세션_변경_벤치마크() {
+        SessionStore sessionStore = new SessionStore(stringRedisTemplate, new TokenRevocationCache(stringRedisTemplate, null));
+
+        Runnable before = () -> {
+            String email = "bench@naver.com";
+            Long epoch = stringRedisTemplate.opsForHash().increment(EPOCH_KEY, email, 1);
+            stringRedisTemplate.convertAndSend(TokenRevocationCache.CHANNEL, "E|" + email + "|" + epoch);
+
+            long expiresAt = System.currentTimeMillis() + 600_000;
+            stringRedisTemplate.opsForValue().set("PT:" + email, "token", 600_000, TimeUnit.MILLISECONDS);
+            stringRedisTemplate.opsForZSet().add(RESET_INDEX, email, expiresAt);
+            stringRedisTemplate.convertAndSend(TokenRevocationCache.CHANNEL, "R|" + email + "|" + expiresAt);
+
+            stringRedisTemplate.delete("PT:" + email);
+            stringRedisTemplate.opsForZSet().remove(RESET_INDEX, email);
+            stringRedisTemplate.convertAndSend(TokenRevocationCache.CHANNEL, "C|" + email);
+
+            Object current = stringRedisTemplate.opsForHash().get(EPOCH_KEY, email);
+            if (current != null && epoch >= Long.parseLong(current.toString())) {
+                Long next = stringRedisTemplate.opsForHash().increment(EPOCH_KEY, email, 1);
+                stringRedisTemplate.convertAndSend(TokenRevocationCache.CHANNEL, "E|" + email + "|" + next);
+            }
+        };
+        Runnable after = () -> {
+            String email = "bench@naver.com";
+            long epoch = sessionStore.bump(email);
+            sessionStore.startPasswordReset(email, "token", 600_000);
+            sessionStore.finishPasswordReset(email);
+            sessionStore.endSession(email, epoch);
+        };
+
+        print("이전 (명령마다 왕복, 11회)", measure(before));
+        print("이후 (Lua 스크립트, 4회)", measure(after));
+    }
+
+    private static long[] measure(Runnable request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+        long[] latencies = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            request.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void print(String name, long[] latencies) {
+        System.out.printf("%s: p50 = %.1f us, p99 = %.1f us%n",
+                name, latencies[REQUESTS / 2] / 1e3, latencies[REQUESTS * 99 / 100] / 1e3);
+    }
+}
@@ -0,0 +1,77 @@
+package sw.study.community;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import sw.study.community.service.AttachmentUploader;
+import sw.study.community.service.S3Service;
+import sw.study.exception.s3.S3UploadException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AttachmentUploaderTest {
+    private final Set<String> stored = ConcurrentHashMap.newKeySet();
+
+    // 실제 S3 대신 메모리에 저장하고, 이름이 fail 로 시작하는 파일은 실패시킨다.
+    private final S3Service s3Service = new S3Service(null, null, null) {
+        @Override
+        public String upload(MultipartFile file, String location) {
+            if (file.getOriginalFilename().startsWith("fail")) {
+                throw new S3UploadException("S3 요청 중 알 수 없는 오류가 발생했습니다.", null);
+            }
+            String url = "https://bucket/" + location + file.getOriginalFilename();
+            stored.add(url);
+            return url;
+        }
+
+        @Override
+        public void delete(String url) {
+            stored.remove(url);
+        }
+    };
+
+    @Test
+    void 첨부파일_병렬_업로드() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            //given
+            AttachmentUploader attachmentUploader = new AttachmentUploader(s3Service, executor);
+
+            //when
+            List<String> urls = attachmentUploader.uploadAll(List.of(file("a.png"), file("b.png"), file("c.png")), "post/");
+
+            //then
+            assertThat(urls).containsExactly("https://bucket/post/a.png", "https://bucket/post/b.png", "https://bucket/post/c.png");
+            assertThat(stored).hasSize(3);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void 첨부파일_업로드_실패시_업로드된_파일_삭제() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            //given
+            AttachmentUploader attachmentUploader = new AttachmentUploader(s3Service, executor);
+
+            //when, then
+            assertThatThrownBy(() -> attachmentUploader.uploadAll(List.of(file("a.png"), file("fail.png"), file("c.png")), "post/"))
+                    .isInstanceOf(S3UploadException.class);
+            assertThat(stored).isEmpty();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "image/png", new byte[]{1, 2, 3});
+    }
+}
@@ -0,0 +1,35 @@
+package sw.study.community;
+
+import jakarta.persistence.Column;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import sw.study.community.domain.Comment;
+import sw.study.community.domain.Post;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTest {
+
+    @Test
+    void 최대_단계의_경로가_컬럼에_들어감() throws Exception {
+        //given
+        Post post = Post.createPost("제목", "내용", null, null, List.of(), List.of());
+        Comment comment = Comment.createComment(post, null, "댓글", 1);
+        ReflectionTestUtils.setField(comment, "id", Long.MAX_VALUE); // 가장 긴 ID
+
+        //when
+        for (int depth = 1; depth <= Comment.MAX_DEPTH; depth++) {
+            assertThat(comment.canReply()).isTrue();
+            comment = Comment.createReply(comment, null, depth + "단계", 2);
+            ReflectionTestUtils.setField(comment, "id", Long.MAX_VALUE);
+        }
+
+        //then
+        int length = Comment.class.getDeclaredField("path").getAnnotation(Column.class).length();
+        assertThat(comment.getDepth()).isEqualTo(Comment.MAX_DEPTH);
+        assertThat(comment.getPath().length()).isLessThanOrEqualTo(length);
+        assertThat(comment.canReply()).isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package sw.study.community;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+import sw.study.community.event.ImageUploadedEvent;
+import sw.study.community.repository.PostFileRepository;
+import sw.study.community.service.ImageDerivativeListener;
+import sw.study.community.service.ImageThumbnailGenerator;
+import sw.study.community.service.PostDetailCache;
+import sw.study.community.service.S3Service;
+import sw.study.user.repository.MemberRepository;
+
+import java.io.ByteArrayInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ImageDerivativeListenerTest {
+    private static final String URL = "http://localhost:9000/bucket/post/a.png";
+
+    private final S3Service s3Service = mock(S3Service.class);
+    private final PostFileRepository postFileRepository = mock(PostFileRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final ImageDerivativeListener listener = new ImageDerivativeListener(s3Service, new ImageThumbnailGenerator(),
+            postFileRepository, mock(MemberRepository.class), mock(PostDetailCache.class), transactionTemplate);
+
+    @Test
+    void 크기가_너무_큰_이미지는_썸네일을_만들지_않음() {
+        //given
+        byte[] header = ImageThumbnailGeneratorTest.pngHeader(100_000, 100_000);
+        S3Object original = new S3Object();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(header.length);
+        original.setObjectMetadata(metadata);
+        original.setObjectContent(new ByteArrayInputStream(header));
+        when(s3Service.open(URL)).thenReturn(original);
+
+        //when
+        listener.handle(ImageUploadedEvent.postFile(1L, 1L, URL));
+
+        //then
+        verify(s3Service, never()).upload(any(byte[].class), any(), any(), any());
+        verifyNoInteractions(transactionTemplate, postFileRepository);
+    }
+}
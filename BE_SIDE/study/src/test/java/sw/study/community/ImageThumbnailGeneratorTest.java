@@ -0,0 +1,114 @@
+package sw.study.community;
+
+import org.junit.jupiter.api.Test;
+import sw.study.community.service.ImageThumbnailGenerator;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImageThumbnailGeneratorTest {
+    private final ImageThumbnailGenerator generator = new ImageThumbnailGenerator();
+
+    @Test
+    void 썸네일_생성() throws Exception {
+        //given
+        byte[] original = png(2000, 1000);
+
+        //when
+        byte[] thumbnail = generator.createThumbnail(original, 640);
+
+        //then
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertThat(image.getWidth()).isEqualTo(640);
+        assertThat(image.getHeight()).isEqualTo(320); // 비율 유지
+        assertThat(thumbnail.length).isLessThan(original.length);
+    }
+
+    @Test
+    void 이미지가_아니면_썸네일_없음() throws Exception {
+        assertThat(generator.createThumbnail("%PDF-1.4".getBytes(), 640)).isNull();
+    }
+
+    @Test
+    void 크기가_너무_크면_디코딩하지_않음() throws Exception {
+        //given
+        // 헤더만 100000 x 100000 (10GP) 인 PNG 뒤에 1MB 의 데이터를 붙인다.
+        byte[] header = pngHeader(100_000, 100_000);
+        byte[] original = new byte[header.length + 1024 * 1024];
+        System.arraycopy(header, 0, original, 0, header.length);
+        CountingInputStream input = new CountingInputStream(new ByteArrayInputStream(original));
+
+        //when
+        byte[] thumbnail = generator.createThumbnail(input, original.length, 640);
+
+        //then
+        assertThat(thumbnail).isNull();
+        assertThat(input.count).isLessThan(64 * 1024); // 헤더 근처만 읽고 멈춘다.
+    }
+
+    // 시그니처와 IHDR 청크만 있는 PNG
+    static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17);
+        ihdr.put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 2).put((byte) 0).put((byte) 0).put((byte) 0); // 8bit RGB
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})
+                .putInt(13).put(ihdr.array()).putInt((int) crc.getValue())
+                .array();
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+    // 압축이 잘 되지 않도록 잡음을 채운 PNG
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(1);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -4,9 +4,13 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,16 +21,30 @@ import sw.study.admin.repository.ReportRepository;
 import sw.study.admin.role.ReportReason;
 import sw.study.admin.role.ReportTargetType;
 import sw.study.community.domain.Comment;
-import sw.study.community.domain.CommentLike;
 import sw.study.community.domain.Post;
+import sw.study.community.domain.ReactionTargetType;
+import sw.study.community.dto.CommentPageResponse;
 import sw.study.community.dto.CommentRequest;
+import sw.study.community.dto.CommentResponse;
+import sw.study.community.dto.PostDetailResponse;
+import sw.study.community.dto.PostFeedResponse;
 import sw.study.community.dto.PostRequest;
+import sw.study.community.dto.ReactionSummary;
+import sw.study.community.event.PostActivityEvent;
+import sw.study.community.event.PostActivityType;
+import sw.study.community.dto.PostSummaryResponse;
 import sw.study.community.repository.CommentLikeRepository;
 import sw.study.community.repository.CommentRepository;
 import sw.study.community.repository.PostLikeRepository;
 import sw.study.community.repository.PostRepository;
 import sw.study.community.service.CommentService;
+import sw.study.community.service.PostDetailCache;
 import sw.study.community.service.PostService;
+import sw.study.community.service.ReactionService;
+import sw.study.community.service.TrendingService;
+import sw.study.exception.community.CommentDepthExceededException;
+import sw.study.exception.community.CommentNotBelongToPostException;
+import sw.study.exception.community.DuplicateLikeException;
 import sw.study.user.domain.Member;
 import sw.study.user.domain.NotificationCategory;
 import sw.study.user.repository.AreaRepository;
@@ -41,7 +59,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-@SpringBootTest
+@SpringBootTest(properties = "trending.key-prefix=TEST:HOT:") // 공유 Redis 의 인기 게시글 랭킹(HOT:POST)을 건드리지 않도록
 @Transactional
 public class PostServiceTest {
     @Autowired PostService postService;
@@ -55,6 +73,15 @@ public class PostServiceTest {
     @Autowired private CommentService commentService;
     @Autowired private CommentRepository commentRepository;
     @Autowired private CommentLikeRepository commentLikeRepository;
+    @Autowired private ReactionService reactionService;
+    @Autowired private TrendingService trendingService;
+    @Autowired private PostDetailCache postDetailCache;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void clearRanking() {
+        stringRedisTemplate.delete(List.of(trendingService.rankingKey(), trendingService.baseTimeKey()));
+    }
 
 
     // 추가적으로 예외 상황 테스트도 추가해야한다.
@@ -103,8 +130,10 @@ public class PostServiceTest {
         postService.addLike(postId, member2.getId());
 
         // then
-        int likeCnt = postRepository.findById(postId).get().getLikes().size();
-        assertThat(likeCnt).isEqualTo(1);
+        ReactionSummary reactionSummary = reactionService.getSummary(ReactionTargetType.POST, postId, member2.getId());
+        assertThat(reactionSummary.getLikeCount()).isEqualTo(1);
+        assertThat(reactionSummary.isLikedByMe()).isTrue();
+        assertThatThrownBy(() -> postService.addLike(postId, member2.getId())).isInstanceOf(DuplicateLikeException.class);
     }
 
     @Test
@@ -124,7 +153,10 @@ public class PostServiceTest {
         // then
         int likeCnt = postRepository.findById(postId).get().getLikes().size();
         assertThat(likeCnt).isEqualTo(0);
-        assertThat(postLikeRepository.findByPostAndMember(postRepository.findById(postId).orElseThrow(), member2)).isEqualTo(Optional.empty());
+        // DB 반영은 커밋 이후 비동기이므로, 좋아요 상태는 Redis 기준으로 확인
+        ReactionSummary reactionSummary = reactionService.getSummary(ReactionTargetType.POST, postId, member2.getId());
+        assertThat(reactionSummary.getLikeCount()).isEqualTo(0);
+        assertThat(reactionSummary.isLikedByMe()).isFalse();
     }
 
     @Test
@@ -200,9 +232,9 @@ public class PostServiceTest {
         commentService.addLike(postId, commentId, liker.getId());
 
         //then
-        Comment comment = commentRepository.findById(commentId).get();
-        CommentLike commentLike = commentLikeRepository.findByCommentAndMember(comment, liker).get();
-        assertThat(comment.getCommentLikes().size()).isEqualTo(1);
+        ReactionSummary reactionSummary = reactionService.getSummary(ReactionTargetType.COMMENT, commentId, liker.getId());
+        assertThat(reactionSummary.getLikeCount()).isEqualTo(1);
+        assertThat(reactionSummary.isLikedByMe()).isTrue();
     }
 
     @Test
@@ -224,7 +256,9 @@ public class PostServiceTest {
         //then
         commentService.cancelLike(postId, commentId, liker.getId());
         assertThat(comment.getCommentLikes().size()).isEqualTo(0);
-        assertThat(commentLikeRepository.findByCommentAndMember(comment, liker).isEmpty()).isTrue();
+        ReactionSummary reactionSummary = reactionService.getSummary(ReactionTargetType.COMMENT, commentId, liker.getId());
+        assertThat(reactionSummary.getLikeCount()).isEqualTo(0);
+        assertThat(reactionSummary.isLikedByMe()).isFalse();
     }
 
     @Test
@@ -278,6 +312,31 @@ public class PostServiceTest {
         assertThat(reply.getParent()).isEqualTo(parent);
     }
 
+    @Test
+    void 대댓글_최대_단계() throws Exception {
+        //given
+        Member poster = createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER);
+        Member replier = createMember("like@naver.com", "asdasd!!!!", "대댓글쓰는사람", Role.USER);
+        PostRequest postRequest = createPostRequest("반갑습니다", "안녕하세요 으아아아", "FREE", List.of("Java"), null);
+
+        Long postId = postService.save(postRequest, poster.getId());
+        Long commentId = commentService.save(createCommentRequest(1, "좋은 글 감사합니다"), postId, replier.getId());
+
+        //when
+        // 대댓글의 대댓글을 최대 단계까지 단다.
+        for (int depth = 1; depth <= Comment.MAX_DEPTH; depth++) {
+            commentId = commentService.reply(createCommentRequest(2, depth + "단계"), postId, commentId, replier.getId());
+        }
+        em.flush();
+
+        //then
+        Comment deepest = commentRepository.findById(commentId).orElseThrow();
+        assertThat(deepest.getDepth()).isEqualTo(Comment.MAX_DEPTH);
+        Long parentId = commentId;
+        assertThatThrownBy(() -> commentService.reply(createCommentRequest(2, "한 단계 더"), postId, parentId, replier.getId()))
+                .isInstanceOf(CommentDepthExceededException.class);
+    }
+
     @Test
     void 대댓글_삭제() throws Exception {
         //given
@@ -322,9 +381,9 @@ public class PostServiceTest {
         commentService.addReplyLike(postId, commentId, replyId, liker.getId());
 
         //then
-        Comment reply = commentRepository.findById(replyId).orElseThrow();
-        assertThat(reply.getCommentLikes().size()).isEqualTo(1);
-        assertThat(commentLikeRepository.findByCommentAndMember(reply, liker).isPresent()).isTrue();
+        ReactionSummary reactionSummary = reactionService.getSummary(ReactionTargetType.COMMENT, replyId, liker.getId());
+        assertThat(reactionSummary.getLikeCount()).isEqualTo(1);
+        assertThat(reactionSummary.isLikedByMe()).isTrue();
     }
 
     @Test
@@ -351,7 +410,9 @@ public class PostServiceTest {
         //then
         Comment reply = commentRepository.findById(replyId).orElseThrow();
         assertThat(reply.getCommentLikes().size()).isEqualTo(0);
-        assertThat(commentLikeRepository.findByCommentAndMember(reply, liker).isEmpty()).isTrue();
+        ReactionSummary reactionSummary = reactionService.getSummary(ReactionTargetType.COMMENT, replyId, liker.getId());
+        assertThat(reactionSummary.getLikeCount()).isEqualTo(0);
+        assertThat(reactionSummary.isLikedByMe()).isFalse();
     }
 
     @Test
@@ -386,6 +447,173 @@ public class PostServiceTest {
         assertThat(reporter.getReports().size()).isEqualTo(1);
     }
 
+    @Test
+    void 게시글_상세조회_쿼리수_고정() throws Exception {
+        //given
+        Member poster = createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER);
+        Member commenter = createMember("pok@naver.com", "password2", "989898", Role.USER);
+        Member liker = createMember("like@naver.com", "asdasd!!!!", "좋아요를누르는사람", Role.USER);
+        PostRequest postRequest = createPostRequest("반갑습니다", "안녕하세요 으아아아", "FREE", List.of("Java"), null);
+
+        Long postId = postService.save(postRequest, poster.getId());
+        Long commentId = commentService.save(createCommentRequest(1, "첫 댓글"), postId, commenter.getId());
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // 캐시를 거치지 않은 조립 쿼리 수를 측정
+        postDetailCache.evict(postId);
+        statistics.clear();
+        postService.getPostById(postId, liker.getId());
+        long fewCommentsQueryCount = statistics.getPrepareStatementCount();
+        em.clear();
+
+        // 댓글, 대댓글, 좋아요를 대량으로 추가
+        for (int i = 0; i < 20; i++) {
+            Long id = commentService.save(createCommentRequest(1, "댓글 " + i), postId, commenter.getId());
+            Long replyId = commentService.reply(createCommentRequest(2, "대댓글 " + i), postId, id, poster.getId());
+            commentService.addLike(postId, id, liker.getId());
+            commentService.addReplyLike(postId, id, replyId, liker.getId());
+        }
+        commentService.addLike(postId, commentId, liker.getId());
+        postService.addLike(postId, liker.getId());
+        em.flush();
+        em.clear();
+
+        //when
+        postDetailCache.evict(postId);
+        statistics.clear();
+        PostDetailResponse response = postService.getPostById(postId, liker.getId());
+        long manyCommentsQueryCount = statistics.getPrepareStatementCount();
+
+        //then
+        assertThat(response.getCommentsResponse().size()).isEqualTo(20); // 댓글 첫 페이지
+        assertThat(response.isHasNextComments()).isTrue();
+        assertThat(response.getCommentsResponse().get(1).getReplyCount()).isEqualTo(1);
+        assertThat(response.getLikeCount()).isEqualTo(1);
+        assertThat(response.isLikedByMe()).isTrue();
+        assertThat(response.getCommentsResponse().get(0).getLikeCount()).isEqualTo(1);
+        assertThat(manyCommentsQueryCount).isEqualTo(fewCommentsQueryCount);
+    }
+
+    @Test
+    void 게시글_상세조회_캐시() throws Exception {
+        //given
+        Member poster = createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER);
+        Member liker = createMember("like@naver.com", "asdasd!!!!", "좋아요를누르는사람", Role.USER);
+        Long postId = postService.save(createPostRequest("반갑습니다", "안녕하세요 으아아아", "FREE", List.of("Java"), null), poster.getId());
+        commentService.save(createCommentRequest(1, "첫 댓글"), postId, poster.getId());
+        postService.addLike(postId, liker.getId());
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        postService.getPostById(postId, poster.getId());
+
+        //when
+        statistics.clear();
+        PostDetailResponse likerResponse = postService.getPostById(postId, liker.getId());
+        PostDetailResponse anonymousResponse = postService.getPostById(postId, null);
+        long cachedQueryCount = statistics.getPrepareStatementCount();
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 댓글 작성 이벤트를 직접 전달
+        commentService.save(createCommentRequest(1, "두번째 댓글"), postId, poster.getId());
+        em.flush();
+        postDetailCache.handle(new PostActivityEvent(postId, PostActivityType.COMMENT));
+        PostDetailResponse reloadedResponse = postService.getPostById(postId, null);
+
+        //then
+        assertThat(cachedQueryCount).isZero();
+        assertThat(likerResponse.isLikedByMe()).isTrue(); // 회원별 정보는 캐시와 별도로 채운다.
+        assertThat(anonymousResponse.isLikedByMe()).isFalse();
+        assertThat(anonymousResponse.getLikeCount()).isEqualTo(1);
+        assertThat(reloadedResponse.getCommentsResponse().size()).isEqualTo(2);
+    }
+
+    @Test
+    void 게시글_목록_키셋_조회() throws Exception {
+        //given
+        Member member = createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER);
+        Long firstId = postService.save(createPostRequest("첫번째", "내용", "FREE", List.of("Java"), null), member.getId());
+        Long secondId = postService.save(createPostRequest("두번째", "내용", "FREE", List.of("Java"), null), member.getId());
+        Long thirdId = postService.save(createPostRequest("세번째", "내용", "FREE", List.of("Java"), null), member.getId());
+        postService.delete(secondId, member.getId());
+        em.flush();
+        em.clear();
+
+        //when
+        PostFeedResponse firstPage = postService.getFeed("FREE", List.of("Java"), null, null, 1);
+        PostFeedResponse secondPage = postService.getFeed("FREE", List.of("Java"),
+                firstPage.getNextCursorCreatedAt(), firstPage.getNextCursorId(), 1);
+
+        //then
+        assertThat(firstPage.getPosts()).extracting(PostSummaryResponse::getPostId).containsExactly(thirdId);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getPosts()).extracting(PostSummaryResponse::getPostId).containsExactly(firstId); // 삭제된 게시글 제외
+    }
+
+    @Test
+    void 댓글_대댓글_페이지_조회() throws Exception {
+        //given
+        Member poster = createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER);
+        Member commenter = createMember("pok@naver.com", "password2", "989898", Role.USER);
+        PostRequest postRequest = createPostRequest("반갑습니다", "안녕하세요 으아아아", "FREE", List.of("Java"), null);
+
+        Long postId = postService.save(postRequest, poster.getId());
+        Long firstId = commentService.save(createCommentRequest(1, "첫번째 댓글"), postId, commenter.getId());
+        Long secondId = commentService.save(createCommentRequest(1, "두번째 댓글"), postId, commenter.getId());
+        Long thirdId = commentService.save(createCommentRequest(1, "세번째 댓글"), postId, commenter.getId());
+        Long firstReplyId = commentService.reply(createCommentRequest(2, "대댓글1"), postId, firstId, poster.getId());
+        Long secondReplyId = commentService.reply(createCommentRequest(2, "대댓글2"), postId, firstId, poster.getId());
+        em.flush();
+        em.clear();
+
+        //when
+        CommentPageResponse firstPage = commentService.getComments(postId, null, 2, null);
+        CommentPageResponse secondPage = commentService.getComments(postId, firstPage.getNextCursor(), 2, null);
+        CommentPageResponse replies = commentService.getReplies(postId, firstId, null, 10, null);
+
+        //then
+        assertThat(firstPage.getComments()).extracting(CommentResponse::getCommentId).containsExactly(firstId, secondId);
+        assertThat(firstPage.getComments().get(0).getReplyCount()).isEqualTo(2);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getComments()).extracting(CommentResponse::getCommentId).containsExactly(thirdId);
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(replies.getComments()).extracting(CommentResponse::getCommentId).containsExactly(firstReplyId, secondReplyId);
+        assertThatThrownBy(() -> commentService.getReplies(postId + 1, firstId, null, 10, null))
+                .isInstanceOf(CommentNotBelongToPostException.class);
+    }
+
+    @Test
+    void 인기_게시글_조회() throws Exception {
+        //given
+        Member member = createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER);
+        Long viewedId = postService.save(createPostRequest("조회만", "내용", "FREE", List.of("Java"), null), member.getId());
+        Long likedId = postService.save(createPostRequest("좋아요", "내용", "FREE", List.of("Java"), null), member.getId());
+        Long reportedId = postService.save(createPostRequest("신고", "내용", "FREE", List.of("Java"), null), member.getId());
+        em.flush();
+        em.clear();
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 활동 이벤트를 직접 전달
+        trendingService.handle(new PostActivityEvent(viewedId, PostActivityType.VIEW));
+        trendingService.handle(new PostActivityEvent(likedId, PostActivityType.VIEW));
+        trendingService.handle(new PostActivityEvent(likedId, PostActivityType.LIKE));
+        trendingService.handle(new PostActivityEvent(likedId, PostActivityType.COMMENT));
+        trendingService.handle(new PostActivityEvent(reportedId, PostActivityType.VIEW));
+        trendingService.handle(new PostActivityEvent(reportedId, PostActivityType.REPORT));
+
+        //when
+        trendingService.renormalize();
+        List<Long> hotPostIds = trendingService.getHotPosts(50).stream().map(PostSummaryResponse::getPostId).toList();
+
+        //then
+        assertThat(hotPostIds).contains(likedId, viewedId).doesNotContain(reportedId); // 점수가 음수가 되면 정리
+        assertThat(hotPostIds.indexOf(likedId)).isLessThan(hotPostIds.indexOf(viewedId));
+    }
+
 //    @Test
 //    void 게시글_수정() throws Exception {
 //        //given
@@ -0,0 +1,117 @@
+package sw.study.community;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import sw.study.community.service.S3MultipartUploader;
+import sw.study.exception.s3.S3UploadException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class S3MultipartUploaderTest {
+    private static final int PART_SIZE = 1024;
+    private static final int MAX_PARTS_IN_FLIGHT = 2;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final FakeS3 s3 = new FakeS3();
+    private final S3MultipartUploader uploader = new S3MultipartUploader(s3, executor, PART_SIZE, MAX_PARTS_IN_FLIGHT);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 멀티파트_업로드() throws Exception {
+        //given
+        byte[] content = new byte[PART_SIZE * 5 + 100];
+        new Random(1).nextBytes(content);
+
+        //when
+        uploader.upload("bucket", "post/large.bin", new ByteArrayInputStream(content), "application/octet-stream");
+
+        //then
+        assertThat(s3.objects.get("post/large.bin")).isEqualTo(content);
+        assertThat(s3.maxInFlight.get()).isLessThanOrEqualTo(MAX_PARTS_IN_FLIGHT); // 메모리 제한
+        assertThat(s3.aborted.get()).isZero();
+    }
+
+    @Test
+    void 멀티파트_업로드_실패시_중단() throws Exception {
+        //given
+        s3.failingPartNumber = 3;
+
+        //when, then
+        assertThatThrownBy(() -> uploader.upload("bucket", "post/large.bin",
+                new ByteArrayInputStream(new byte[PART_SIZE * 5]), "application/octet-stream"))
+                .isInstanceOf(S3UploadException.class);
+        assertThat(s3.aborted.get()).isEqualTo(1);
+        assertThat(s3.objects).isEmpty();
+    }
+
+    // 멀티파트 업로드만 지원하는 메모리 S3
+    private static class FakeS3 extends AbstractAmazonS3 {
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<Integer, byte[]> parts = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicInteger aborted = new AtomicInteger();
+        private volatile int failingPartNumber = -1;
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId("upload-1");
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                if (request.getPartNumber() == failingPartNumber) {
+                    throw new AmazonS3Exception("part failed");
+                }
+                parts.put(request.getPartNumber(), request.getInputStream().readAllBytes());
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            ByteArrayOutputStream object = new ByteArrayOutputStream();
+            for (PartETag partETag : request.getPartETags()) {
+                object.writeBytes(parts.get(partETag.getPartNumber()));
+            }
+            objects.put(request.getKey(), object.toByteArray());
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted.incrementAndGet();
+            parts.clear();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package sw.study.community;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import sw.study.community.service.StoredFileRegistry;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// StoredFileRegistry 는 항상 새 트랜잭션에서 동작하므로 테스트 트랜잭션을 사용하지 않는다.
+@SpringBootTest
+public class StoredFileRegistryTest {
+    @Autowired StoredFileRegistry storedFileRegistry;
+
+    @Test
+    void 같은_내용_파일_참조_수_관리() throws Exception {
+        //given
+        String digest = UUID.randomUUID().toString().replace("-", "");
+        String url = "https://bucket/post/" + digest + ".png";
+
+        //when
+        String firstUrl = storedFileRegistry.acquire(digest); // 처음 올라온 내용
+        String registeredUrl = storedFileRegistry.register(digest, url);
+        String secondUrl = storedFileRegistry.acquire(digest); // 같은 내용이 다시 올라온 경우
+        String concurrentUrl = storedFileRegistry.register(digest, url + ".other"); // 동시에 올라온 경우
+
+        //then
+        assertThat(firstUrl).isNull();
+        assertThat(registeredUrl).isEqualTo(url);
+        assertThat(secondUrl).isEqualTo(url);
+        assertThat(concurrentUrl).isEqualTo(url);
+
+        // 참조 3개 중 마지막 참조가 해제될 때만 삭제 가능
+        assertThat(storedFileRegistry.release(url)).isFalse();
+        assertThat(storedFileRegistry.release(url)).isFalse();
+        assertThat(storedFileRegistry.release(url)).isTrue();
+        assertThat(storedFileRegistry.acquire(digest)).isNull();
+        assertThat(storedFileRegistry.release("https://bucket/thumbnail/unmanaged.jpg")).isTrue(); // 중복 제거 대상이 아닌 파일
+    }
+}
@@ -0,0 +1,79 @@
+package sw.study.community.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryPostSearchEngineTest {
+
+    @Test
+    void 한글_바이그램_토큰화() throws Exception {
+        //when
+        List<String> tokens = KoreanBigramTokenizer.tokenize("스프링 부트, JPA 질문!");
+
+        //then
+        assertThat(tokens).containsExactly("스프", "프링", "부트", "jpa", "질문");
+    }
+
+    @Test
+    void 검색_점수_순_정렬() throws Exception {
+        //given
+        InMemoryPostSearchEngine engine = new InMemoryPostSearchEngine();
+        LocalDateTime now = LocalDateTime.now();
+        engine.index(new PostSearchDocument(1L, "스프링 트랜잭션 질문", "전파 속성이 헷갈립니다", "QNA", List.of("Spring"), now));
+        engine.index(new PostSearchDocument(2L, "오늘 점심 메뉴", "스프링 얘기는 아니고 점심 얘기", "FREE", List.of("Java"), now));
+        engine.index(new PostSearchDocument(3L, "리액트 질문", "상태 관리", "QNA", List.of("React"), now));
+
+        //when
+        List<PostSearchHit> hits = engine.search(new PostSearchQuery("스프링 트랜잭션", null, null, 0, 10));
+
+        //then
+        assertThat(hits).extracting(PostSearchHit::getPostId).containsExactly(1L);
+    }
+
+    @Test
+    void 카테고리_분야_필터_삭제_반영() throws Exception {
+        //given
+        InMemoryPostSearchEngine engine = new InMemoryPostSearchEngine();
+        LocalDateTime now = LocalDateTime.now();
+        engine.index(new PostSearchDocument(1L, "스프링 질문", "내용", "QNA", List.of("Spring"), now));
+        engine.index(new PostSearchDocument(2L, "스프링 잡담", "내용", "FREE", List.of("Spring"), now.minusDays(60)));
+        engine.index(new PostSearchDocument(3L, "스프링 스터디", "내용", "FREE", List.of("Java"), now));
+
+        //when
+        List<PostSearchHit> free = engine.search(new PostSearchQuery("스프링", "FREE", null, 0, 10));
+        List<PostSearchHit> spring = engine.search(new PostSearchQuery("스프링", null, List.of("Spring"), 0, 10));
+        engine.remove(1L);
+        List<PostSearchHit> afterRemove = engine.search(new PostSearchQuery("스프링", null, List.of("Spring"), 0, 10));
+
+        //then
+        assertThat(free).extracting(PostSearchHit::getPostId).containsExactly(3L, 2L); // 최신 게시글 우선
+        assertThat(spring).extracting(PostSearchHit::getPostId).containsExactly(1L, 2L);
+        assertThat(afterRemove).extracting(PostSearchHit::getPostId).containsExactly(2L);
+    }
+
+    @Test
+    void 수정_삭제된_문서가_쌓이면_압축() throws Exception {
+        //given
+        InMemoryPostSearchEngine engine = new InMemoryPostSearchEngine();
+        LocalDateTime now = LocalDateTime.now();
+        engine.index(new PostSearchDocument(1L, "스프링 질문", "내용", "QNA", List.of("Spring"), now));
+        engine.index(new PostSearchDocument(2L, "리액트 질문", "내용", "QNA", List.of("React"), now));
+
+        //when
+        for (int i = 0; i < 3000; i++) {
+            engine.index(new PostSearchDocument(1L, "스프링 질문 " + i, "내용", "QNA", List.of("Spring"), now));
+        }
+        engine.remove(2L);
+
+        //then
+        assertThat(engine.documentSlots()).isLessThan(2048);
+        assertThat(engine.search(new PostSearchQuery("스프링 2999", null, null, 0, 10)))
+                .extracting(PostSearchHit::getPostId).containsExactly(1L);
+        assertThat(engine.search(new PostSearchQuery("리액트", null, null, 0, 10))).isEmpty();
+        assertThat(engine.isEmpty()).isFalse();
+    }
+}
@@ -0,0 +1,64 @@
+package sw.study.community.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 100만 건 게시글 검색 벤치마크
+ * 실행: ./gradlew test --tests '*PostSearchBenchmarkTest' -Dsearch.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "search.benchmark", matches = "true")
+public class PostSearchBenchmarkTest {
+    private static final int POST_COUNT = 1_000_000;
+    private static final int QUERY_COUNT = 1_000;
+    private static final String[] WORDS = {
+            "스프링", "부트", "트랜잭션", "자바", "리액트", "스터디", "모집", "질문", "알고리즘", "코딩테스트",
+            "데이터베이스", "인덱스", "쿼리", "성능", "배포", "도커", "쿠버네티스", "레디스", "캐시", "서버",
+            "프론트엔드", "백엔드", "면접", "프로젝트", "팀원", "구합니다", "에러", "해결", "방법", "공유"
+    };
+    private static final String[] CATEGORIES = {"FREE", "QNA"};
+    private static final String[] AREAS = {"Java", "Spring", "React", "Python", "DevOps"};
+
+    @Test
+    void 검색_벤치마크() throws Exception {
+        Random random = new Random(42);
+        InMemoryPostSearchEngine engine = new InMemoryPostSearchEngine();
+        LocalDateTime now = LocalDateTime.now();
+
+        long indexStart = System.nanoTime();
+        for (long id = 1; id <= POST_COUNT; id++) {
+            engine.index(new PostSearchDocument(id, sentence(random, 4), sentence(random, 30),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], List.of(AREAS[random.nextInt(AREAS.length)]),
+                    now.minusMinutes(random.nextInt(60 * 24 * 365))));
+        }
+        long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+        long[] latencies = new long[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String keyword = sentence(random, 1 + random.nextInt(2));
+            String category = random.nextBoolean() ? CATEGORIES[random.nextInt(CATEGORIES.length)] : null;
+
+            long start = System.nanoTime();
+            engine.search(new PostSearchQuery(keyword, category, null, 0, 20));
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("색인: %d 건, %d ms%n", POST_COUNT, indexMillis);
+        System.out.printf("검색: p50 = %.2f ms, p95 = %.2f ms, p99 = %.2f ms%n",
+                latencies[QUERY_COUNT / 2] / 1e6, latencies[QUERY_COUNT * 95 / 100] / 1e6, latencies[QUERY_COUNT * 99 / 100] / 1e6);
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sentence.toString();
+    }
+}
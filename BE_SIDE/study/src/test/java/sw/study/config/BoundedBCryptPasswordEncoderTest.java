@@ -0,0 +1,68 @@
+package sw.study.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import sw.study.exception.PasswordHashBusyException;
+
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 해시 수를 제한하는 인코더 테스트 (동시 실행 1개)
+ */
+class BoundedBCryptPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Semaphore permits = new Semaphore(1, true);
+
+    @Test
+    void 해시와_비교() {
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(4, permits, 1, meterRegistry);
+
+        String encoded = encoder.encode("password1!");
+
+        assertThat(encoder.matches("password1!", encoded)).isTrue();
+        assertThat(encoder.matches("password2!", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("password.hash.queue.wait").timer().count()).isEqualTo(3);
+        assertThat(permits.availablePermits()).isEqualTo(1); // 자리 반납
+    }
+
+    @Test
+    void 기다리는_요청이_가득_차면_바로_거절() throws Exception {
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(4, permits, 0, meterRegistry);
+        permits.acquire(); // 실행 중인 해시
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("password1!"))
+                .isInstanceOf(PasswordHashBusyException.class);
+        assertThat(System.nanoTime() - startedAt).isLessThan(500_000_000L); // 기다리지 않음
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 자리가_나지_않으면_제한_시간_후_거절() throws Exception {
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(4, permits, 1, meterRegistry);
+        permits.acquire(); // 실행 중인 해시
+
+        assertThatThrownBy(() -> encoder.matches("password1!", "$2a$04$invalid"))
+                .isInstanceOf(PasswordHashBusyException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void work_factor_가_바뀐_해시는_다시_해시() {
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(4, permits, 1, meterRegistry);
+        String oldHash = new BCryptPasswordEncoder(5).encode("password1!");
+        String currentHash = new BCryptPasswordEncoder(4).encode("password1!");
+
+        assertThat(encoder.upgradeEncoding(oldHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(currentHash)).isFalse();
+        assertThat(encoder.upgradeEncoding("plain")).isFalse();
+    }
+}
@@ -0,0 +1,51 @@
+package sw.study.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockPart;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultipartConfigTest {
+    private static final int MB = 1024 * 1024;
+
+    private final MultipartConfig.SizeLimitMultipartResolver resolver =
+            new MultipartConfig.SizeLimitMultipartResolver(5 * MB, 10 * MB, 50 * MB, 100 * MB);
+
+    @Test
+    void 게시글_첨부_파일은_큰_제한까지_허용() {
+        MultipartHttpServletRequest request = resolver.resolveMultipart(request("POST", "/api/post", 20 * MB));
+
+        assertThat(request.getFile("files").getSize()).isEqualTo(20 * MB);
+    }
+
+    @Test
+    void 다른_경로는_기본_제한() {
+        assertThatThrownBy(() -> resolver.resolveMultipart(request("PATCH", "/api/member/profile", 6 * MB)))
+                .isInstanceOf(MaxUploadSizeExceededException.class);
+        assertThatThrownBy(() -> resolver.resolveMultipart(request("POST", "/api/post/1/comment", 6 * MB)))
+                .isInstanceOf(MaxUploadSizeExceededException.class);
+    }
+
+    @Test
+    void Content_Length_가_제한을_넘으면_파싱하지_않고_거절() {
+        MockHttpServletRequest request = request("PATCH", "/api/member/profile", 1);
+        request.setContent(new byte[11 * MB]);
+
+        assertThatThrownBy(() -> resolver.resolveMultipart(request))
+                .isInstanceOf(MaxUploadSizeExceededException.class);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, int fileSize) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContentType("multipart/form-data; boundary=test");
+        MockPart part = new MockPart("files", "a.png", new byte[fileSize]);
+        part.getHeaders().setContentType(MediaType.IMAGE_PNG);
+        request.addPart(part);
+        return request;
+    }
+}
@@ -0,0 +1,87 @@
+package sw.study.config.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 epoch/비밀번호 재설정 목록 로컬 사본 테스트 (Redis 없이 전파 메시지 반영만 확인)
+ */
+class TokenRevocationCacheTest {
+
+    private final TokenRevocationCache cache = new TokenRevocationCache(null, null);
+
+    @Test
+    void epoch_이전에_발급된_토큰은_무효() {
+        cache.markReady();
+
+        cache.apply("E|user@naver.com|3");
+
+        assertThat(cache.check("user@naver.com", 2)).containsExactly(true, false);
+        assertThat(cache.check("user@naver.com", 3)).containsExactly(false, false);
+        assertThat(cache.check("other@naver.com", 0)).containsExactly(false, false);
+        assertThat(cache.currentEpoch("user@naver.com")).isEqualTo(3);
+    }
+
+    @Test
+    void ver_클레임이_없는_토큰은_무효() {
+        cache.markReady();
+
+        assertThat(cache.check("user@naver.com", -1)).containsExactly(true, false);
+    }
+
+    @Test
+    void 늦게_도착한_epoch_는_무시() {
+        cache.markReady();
+
+        cache.apply("E|user@naver.com|5");
+        cache.apply("E|user@naver.com|4");
+
+        assertThat(cache.currentEpoch("user@naver.com")).isEqualTo(5);
+    }
+
+    @Test
+    void 비밀번호_재설정_시작과_완료() {
+        cache.markReady();
+
+        cache.apply("R|user|name@naver.com|" + (System.currentTimeMillis() + 60_000));
+        assertThat(cache.check("user|name@naver.com", 0)).containsExactly(false, true);
+
+        cache.apply("C|user|name@naver.com");
+        assertThat(cache.check("user|name@naver.com", 0)).containsExactly(false, false);
+    }
+
+    @Test
+    void 재적재_중에_도착한_재설정_메시지는_스냅샷이_덮어쓰지_않음() {
+        cache.markReady();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.apply("R|done@naver.com|" + expiresAt);
+
+        // 스냅샷을 읽는 사이 재설정 시작(started)과 완료(done)가 도착
+        long sequence = cache.startResetSnapshot();
+        cache.apply("R|started@naver.com|" + expiresAt);
+        cache.apply("C|done@naver.com");
+        cache.mergeResets(Map.of("done@naver.com", expiresAt, "other@naver.com", expiresAt), sequence);
+
+        assertThat(cache.check("started@naver.com", 0)).containsExactly(false, true);
+        assertThat(cache.check("done@naver.com", 0)).containsExactly(false, false);
+        assertThat(cache.check("other@naver.com", 0)).containsExactly(false, true);
+    }
+
+    @Test
+    void 오래전에_올린_epoch_만_정리() {
+        cache.markReady();
+        long now = System.currentTimeMillis();
+
+        cache.apply("E|old@naver.com|" + (now - 10_000));
+        cache.apply("E|new@naver.com|" + now);
+        cache.apply("E|legacy@naver.com|3"); // 시각 기준이 아닌 이전 epoch
+        cache.pruneEpochs(now - 5_000);
+
+        assertThat(cache.currentEpoch("old@naver.com")).isZero();
+        assertThat(cache.currentEpoch("new@naver.com")).isEqualTo(now);
+        assertThat(cache.currentEpoch("legacy@naver.com")).isEqualTo(3);
+    }
+}
@@ -0,0 +1,142 @@
+package sw.study.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 요청 제한 필터 테스트 (Redis 오류 시 로컬 버킷으로 제한)
+ */
+class RateLimitFilterTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("rate-limit.login.ip-capacity", "5")
+            .withProperty("rate-limit.login.email-capacity", "2")
+            .withProperty("rate-limit.login.email-refill-seconds", "60");
+    private final RateLimiter rateLimiter = new RateLimiter(stringRedisTemplate, environment);
+    private final RateLimitFilter filter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+
+    @Test
+    void Redis_오류_시_로컬_버킷으로_이메일별_제한() throws Exception {
+        when(stringRedisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        assertThat(login("user@naver.com").getStatus()).isEqualTo(200);
+        assertThat(login("USER@naver.com").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = login("user@naver.com");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+
+        // 다른 이메일은 IP 한도 안에서 허용
+        assertThat(login("other@naver.com").getStatus()).isEqualTo(200);
+        // 한 번 실패한 뒤에는 FALLBACK 동안 Redis 를 호출하지 않는다.
+        verify(stringRedisTemplate, times(1)).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 제한_대상이_아닌_경로는_통과() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/join");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    void 컨트롤러는_본문을_다시_읽을_수_있다() throws Exception {
+        when(stringRedisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class))).thenReturn(0L);
+        MockHttpServletRequest request = loginRequest("user@naver.com");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        byte[] body = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(body, StandardCharsets.UTF_8)).contains("user@naver.com");
+    }
+
+    @Test
+    void 길이를_알_수_없는_본문도_이메일별로_제한() throws Exception {
+        when(stringRedisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(chunked(loginRequest("user@naver.com")), response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(chunked(loginRequest("user@naver.com")), rejected, new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void 큰_본문은_거절() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContent(new byte[8 * 1024 + 1]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(chunked(request), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    void 비동기_읽기_리스너에_바로_알림() throws Exception {
+        when(stringRedisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class))).thenReturn(0L);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(loginRequest("user@naver.com"), new MockHttpServletResponse(), chain);
+        ReadListener readListener = mock(ReadListener.class);
+
+        chain.getRequest().getInputStream().setReadListener(readListener);
+
+        verify(readListener).onDataAvailable();
+        verify(readListener).onAllDataRead();
+    }
+
+    // Transfer-Encoding: chunked 처럼 Content-Length 가 없는 요청
+    private static MockHttpServletRequest chunked(MockHttpServletRequest request) {
+        MockHttpServletRequest chunked = new MockHttpServletRequest(request.getMethod(), request.getRequestURI()) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setContentType(request.getContentType());
+        chunked.setContent(request.getContentAsByteArray());
+        return chunked;
+    }
+
+    private MockHttpServletResponse login(String email) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(loginRequest(email), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest loginRequest(String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"password1!\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,124 @@
+package sw.study.config.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import sw.study.config.jwt.TokenProvider;
+import sw.study.config.jwt.TokenRevocationCache;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * STOMP 연결 인증 테스트 (CONNECT 의 JWT, 개인 큐 구독만 허용, 연결 이후 만료/무효화)
+ */
+class StompAuthInterceptorTest {
+    private static final String SECRET = "c3ByaW5nLWJvb3Qtc2VjdXJpdHktand0LXR1dG9yaWFsLWppd29vbi1zcHJpbmctYm9vdC1zZWN1cml0eS1qd3QtdHV0b3JpYWwK";
+
+    private final TokenProvider tokenProvider = new TokenProvider(SECRET);
+    private final TokenRevocationCache tokenRevocationCache = mock(TokenRevocationCache.class);
+    private final StompSessionRegistry stompSessionRegistry = new StompSessionRegistry(tokenRevocationCache);
+    private final StompAuthInterceptor interceptor = new StompAuthInterceptor(tokenProvider, tokenRevocationCache, stompSessionRegistry);
+
+    @Test
+    void 토큰으로_연결하면_회원_ID_가_사용자_이름() {
+        when(tokenRevocationCache.check(anyString(), anyLong())).thenReturn(new boolean[]{false, false});
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("Authorization", "Bearer " + token());
+
+        Message<?> message = interceptor.preSend(message(accessor), null);
+
+        StompMemberPrincipal user = (StompMemberPrincipal) StompHeaderAccessor.wrap(message).getUser();
+        assertThat(user.getName()).isEqualTo("42");
+        assertThat(user.getEmail()).isEqualTo("user@naver.com");
+    }
+
+    @Test
+    void 토큰이_없거나_로그아웃된_토큰이면_연결_거부() {
+        StompHeaderAccessor anonymous = StompHeaderAccessor.create(StompCommand.CONNECT);
+        assertThatThrownBy(() -> interceptor.preSend(message(anonymous), null))
+                .isInstanceOf(MessageDeliveryException.class);
+
+        when(tokenRevocationCache.check(anyString(), anyLong())).thenReturn(new boolean[]{true, false});
+        StompHeaderAccessor loggedOut = StompHeaderAccessor.create(StompCommand.CONNECT);
+        loggedOut.addNativeHeader("Authorization", "Bearer " + token());
+        assertThatThrownBy(() -> interceptor.preSend(message(loggedOut), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void 개인_큐만_구독_가능() {
+        when(tokenRevocationCache.check(anyString(), anyLong())).thenReturn(new boolean[]{false, false});
+        StompHeaderAccessor own = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        own.setUser(user(System.currentTimeMillis() + 60_000));
+        own.setDestination("/user/queue/notifications");
+        assertThat(interceptor.preSend(message(own), null)).isNotNull();
+
+        StompHeaderAccessor other = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        other.setUser(user(System.currentTimeMillis() + 60_000));
+        other.setDestination("/queue/notifications-user1");
+        assertThatThrownBy(() -> interceptor.preSend(message(other), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void 연결_이후_만료되거나_로그아웃된_토큰은_구독_거부() {
+        when(tokenRevocationCache.check(anyString(), anyLong())).thenReturn(new boolean[]{false, false});
+        StompHeaderAccessor expired = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        expired.setUser(user(System.currentTimeMillis() - 1));
+        expired.setDestination("/user/queue/notifications");
+        assertThatThrownBy(() -> interceptor.preSend(message(expired), null))
+                .isInstanceOf(MessageDeliveryException.class);
+
+        when(tokenRevocationCache.check(anyString(), anyLong())).thenReturn(new boolean[]{true, false});
+        StompHeaderAccessor loggedOut = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        loggedOut.setUser(user(System.currentTimeMillis() + 60_000));
+        loggedOut.setDestination("/user/queue/notifications");
+        assertThatThrownBy(() -> interceptor.preSend(message(loggedOut), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void 무효화된_세션은_닫음() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        stompSessionRegistry.decorate(mock(WebSocketHandler.class)).afterConnectionEstablished(session);
+        stompSessionRegistry.authenticated("session-1", user(System.currentTimeMillis() + 60_000));
+
+        when(tokenRevocationCache.check(anyString(), anyLong())).thenReturn(new boolean[]{false, false});
+        stompSessionRegistry.closeInvalidSessions();
+        verify(session, never()).close(any());
+
+        when(tokenRevocationCache.check(anyString(), anyLong())).thenReturn(new boolean[]{true, false}); // 로그아웃
+        stompSessionRegistry.closeInvalidSessions();
+        verify(session).close(any(CloseStatus.class));
+    }
+
+    private static StompMemberPrincipal user(long expiresAt) {
+        return new StompMemberPrincipal(42L, "user@naver.com", 0L, expiresAt);
+    }
+
+    private String token() {
+        return tokenProvider.generateTokenDTO(new UsernamePasswordAuthenticationToken(
+                "user@naver.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER"))), 42L, 0L).getAccessToken();
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,116 @@
+package sw.study.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아웃박스 메일 발송 테스트 (GreenMail 을 로컬 SMTP 서버로 사용)
+ */
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MailOutboxService mailOutboxService = mock(MailOutboxService.class);
+
+    @Test
+    void 잡아온_메일을_한_연결로_발송() throws Exception {
+        MailOutbox code = mail(1L, "user@naver.com", "이메일 인증 코드", "인증 코드는 123456 입니다.", false);
+        MailOutbox link = mail(2L, "other@naver.com", "비밀번호 변경", "<a href='http://localhost'>변경</a>", true);
+        when(mailOutboxService.claim(anyInt())).thenReturn(List.of(code, link));
+
+        dispatcher(greenMail.getSmtp().getPort()).dispatch();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo("이메일 인증 코드");
+        assertThat(received[0].getContent().toString()).contains("123456");
+        assertThat(received[1].getAllRecipients()[0].toString()).isEqualTo("other@naver.com");
+        verify(mailOutboxService).markSent(List.of(1L, 2L));
+        verify(mailOutboxService, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void SMTP_장애_시_실패로_기록() {
+        MailOutbox code = mail(1L, "user@naver.com", "이메일 인증 코드", "123456", false);
+        when(mailOutboxService.claim(anyInt())).thenReturn(List.of(code));
+
+        dispatcher(greenMail.getSmtp().getPort() + 1).dispatch(); // 열려 있지 않은 포트
+
+        verify(mailOutboxService).markSent(List.of());
+        verify(mailOutboxService).markFailed(eq(1L), anyString());
+    }
+
+    @Test
+    void 재시도_간격은_지수적으로_늘고_횟수를_넘으면_DEAD() {
+        MailOutbox mail = MailOutbox.createMail("user@naver.com", "제목", "본문", false);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(mail.fail("연결 실패", now)).isFalse();
+        assertThat(mail.getNextAttemptAt()).isEqualTo(now.plusSeconds(30));
+        assertThat(mail.fail("연결 실패", now)).isFalse();
+        assertThat(mail.getNextAttemptAt()).isEqualTo(now.plusSeconds(60));
+
+        for (int i = 2; i < MailOutbox.MAX_ATTEMPTS - 1; i++) {
+            mail.fail("연결 실패", now);
+        }
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.fail("연결 실패", now)).isTrue();
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.DEAD);
+    }
+
+    @Test
+    void 유효_시간을_넘는_재시도는_하지_않음() {
+        MailOutbox mail = MailOutbox.createMail("user@naver.com", "이메일 인증 코드", "123456", false, Duration.ofMinutes(10));
+        LocalDateTime now = mail.getCreatedAt();
+
+        assertThat(mail.fail("연결 실패", now)).isFalse(); // 30초 뒤 재시도
+        assertThat(mail.fail("연결 실패", now.plusMinutes(9))).isTrue(); // 재시도 시각이 유효 시간을 넘음
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.EXPIRED);
+        assertThat(mail.getBody()).isNull();
+    }
+
+    @Test
+    void 실행기가_가득_차면_호출한_스레드에서_보내지_않고_돌려놓음() {
+        MailOutbox code = mail(1L, "user@naver.com", "이메일 인증 코드", "123456", false);
+        when(mailOutboxService.claim(anyInt())).thenReturn(List.of(code));
+        MailDispatcher dispatcher = new MailDispatcher(mailOutboxService, new JavaMailSenderImpl(), task -> {
+            throw new RejectedExecutionException("가득 참");
+        });
+
+        dispatcher.dispatch();
+
+        verify(mailOutboxService).release(List.of(1L));
+        verify(mailOutboxService, never()).markSent(any());
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    private MailDispatcher dispatcher(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.setDefaultEncoding("UTF-8");
+        return new MailDispatcher(mailOutboxService, mailSender, Runnable::run);
+    }
+
+    private static MailOutbox mail(Long id, String to, String subject, String body, boolean html) {
+        MailOutbox mail = MailOutbox.createMail(to, subject, body, html);
+        ReflectionTestUtils.setField(mail, "id", id);
+        return mail;
+    }
+}
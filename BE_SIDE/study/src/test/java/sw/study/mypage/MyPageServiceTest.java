@@ -1,9 +1,146 @@
 package sw.study.mypage;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import sw.study.exception.InterestNotFoundException;
+import sw.study.user.domain.Area;
+import sw.study.user.domain.Member;
+import sw.study.user.domain.MemberArea;
+import sw.study.user.domain.Notification;
+import sw.study.user.domain.NotificationCategory;
+import sw.study.user.dto.AreaRequest;
+import sw.study.user.dto.MemberAreaDTO;
+import sw.study.user.dto.MemberDto;
+import sw.study.user.repository.AreaRepository;
+import sw.study.user.repository.MemberRepository;
+import sw.study.user.repository.NotificationRepository;
+import sw.study.user.repository.NotificationCategoryRepository;
+import sw.study.user.role.Role;
+import sw.study.user.service.MemberService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
 public class MyPageServiceTest {
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired NotificationCategoryRepository notificationCategoryRepository;
+    @Autowired AreaRepository areaRepository;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired EntityManager em;
+
+    @Test
+    void 회원정보_조회_쿼리수_고정() throws Exception {
+        //given
+        List<NotificationCategory> categories = notificationCategoryRepository.findAll();
+        Member member = Member.createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER, categories);
+        List<Area> areas = areaRepository.findAll();
+        for (Area area : areas) {
+            member.addMemberArea(MemberArea.CreateMemberArea(area));
+        }
+        memberRepository.save(member);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        //when
+        statistics.clear();
+        MemberDto memberDto = memberService.getMemberInfo(member.getId());
+        long queryCount = statistics.getPrepareStatementCount();
+
+        //then
+        assertThat(memberDto.getEmail()).isEqualTo("ksh990408@naver.com");
+        assertThat(memberDto.getSettings()).hasSize(categories.size());
+        assertThat(memberDto.getSettings()).allMatch(setting -> setting.getCategoryDTO().getName() != null);
+        assertThat(memberDto.getInterests()).hasSize(areas.size());
+        assertThat(memberDto.getInterests()).allMatch(interest -> interest.getName() != null);
+        // 프로필 1번 + 알림 설정 1번 + 관심 분야 1번 (설정/관심 분야 수와 무관)
+        assertThat(queryCount).isEqualTo(3);
+    }
+
+    @Test
+    void 관심분야_일괄_변경() throws Exception {
+        //given
+        List<Area> areas = areaRepository.findAll();
+        Member member = Member.createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER, List.of());
+        member.addMemberArea(MemberArea.CreateMemberArea(areas.get(0)));
+        member.addMemberArea(MemberArea.CreateMemberArea(areas.get(1)));
+        memberRepository.save(member);
+        em.flush();
+        em.clear();
+
+        AreaRequest areaRequest = new AreaRequest();
+        areaRequest.setIds(List.of(areas.get(1).getId(), areas.get(2).getId(), areas.get(2).getId()));
+
+        //when
+        List<MemberAreaDTO> result = memberService.updateInterest(member.getId(), areaRequest);
+        em.clear();
+
+        //then
+        assertThat(result).extracting(MemberAreaDTO::getInterestId)
+                .containsExactly(areas.get(1).getId(), areas.get(2).getId());
+        assertThat(result).allMatch(dto -> dto.getId() != null && dto.getName() != null);
+        // 다시 조회한 결과와 같다.
+        assertThat(memberService.getMemberInfo(member.getId()).getInterests()).isEqualTo(result);
+    }
+
+    @Test
+    void 없는_관심분야는_추가하지_않는다() throws Exception {
+        //given
+        List<Area> areas = areaRepository.findAll();
+        Member member = Member.createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER, List.of());
+        memberRepository.save(member);
+        em.flush();
+
+        AreaRequest areaRequest = new AreaRequest();
+        areaRequest.setIds(List.of(areas.get(0).getId(), -1L));
+
+        //when, then
+        assertThatThrownBy(() -> memberService.initInterest(member.getId(), areaRequest))
+                .isInstanceOf(InterestNotFoundException.class);
+        assertThat(memberService.getMemberInfo(member.getId()).getInterests()).isEmpty();
+    }
+
+    @Test
+    void 알림_모두_읽음_일괄_처리() throws Exception {
+        //given
+        List<NotificationCategory> categories = notificationCategoryRepository.findAll();
+        Member member = Member.createMember("ksh990408@naver.com", "password1", "감자탕", Role.USER, categories);
+        memberRepository.save(member);
+        for (int i = 0; i < 3; i++) {
+            Notification notification = Notification.createNotification(categories.get(0), "알림" + i, (long) i);
+            member.addNotification(notification);
+            notificationRepository.save(notification);
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        //when
+        statistics.clear();
+        long before = notificationRepository.countUnreadByMemberId(member.getId());
+        int updated = notificationRepository.markAllAsRead(member.getId());
+        long after = notificationRepository.countUnreadByMemberId(member.getId());
+
+        //then
+        assertThat(before).isEqualTo(3);
+        assertThat(updated).isEqualTo(3);
+        assertThat(after).isZero();
+        // count 2번 + update 1번, 알림 엔티티는 읽지 않는다.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
 }
@@ -0,0 +1,97 @@
+package sw.study.notification;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import sw.study.user.domain.Member;
+import sw.study.user.domain.NotificationCategory;
+import sw.study.user.event.NotificationFanoutEvent;
+import sw.study.user.repository.MemberRepository;
+import sw.study.user.repository.NotificationCategoryRepository;
+import sw.study.user.repository.NotificationRepository;
+import sw.study.user.role.Role;
+import sw.study.user.service.NotificationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 회원에게 같은 알림을 보내는 비용 벤치마크 (스터디 그룹 50명, 커뮤니티 2000명)
+ * 이전: 회원마다 sendNotification (카테고리 조회, 설정 조회, 저장 = 회원당 쿼리 3번)
+ * 이후: fanOut (카테고리 1번 + 설정 IN 조회 1번 + JDBC 배치 추가)
+ * 로컬 DB/Redis 필요, fanOut 은 새 트랜잭션에서 저장하므로 만든 회원은 커밋했다가 끝나면 지운다.
+ * 실행: ./gradlew test --tests '*NotificationFanoutBenchmarkTest' -Dnotification.benchmark=true
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "notification.benchmark", matches = "true")
+public class NotificationFanoutBenchmarkTest {
+    @Autowired NotificationService notificationService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired NotificationCategoryRepository notificationCategoryRepository;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> memberRepository.deleteAllById(memberIds)); // 알림도 함께 삭제
+    }
+
+    @Test
+    void 스터디_그룹_50명() {
+        benchmark(50);
+    }
+
+    @Test
+    void 커뮤니티_2000명() {
+        benchmark(2000);
+    }
+
+    private void benchmark(int audience) {
+        String type = transactionTemplate.execute(status -> {
+            List<NotificationCategory> categories = notificationCategoryRepository.findAll();
+            for (int i = 0; i < audience; i++) {
+                Member member = Member.createMember("bench" + i + "@naver.com", "password1", "bench" + i, Role.USER, categories);
+                memberIds.add(memberRepository.save(member).getId());
+            }
+            return categories.get(0).getCategoryName();
+        });
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // 이전: 회원마다 발송
+        statistics.clear();
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Member member : memberRepository.findAllById(memberIds)) {
+                notificationService.sendNotification(member, "새 공지가 등록되었습니다.", type, 1L);
+            }
+        });
+        long beforeNanos = System.nanoTime() - start;
+        long beforeQueries = statistics.getPrepareStatementCount();
+
+        // 이후: 일괄 발송
+        statistics.clear();
+        start = System.nanoTime();
+        int sent = notificationService.fanOut(new NotificationFanoutEvent(new TreeSet<>(memberIds), type, "새 공지가 등록되었습니다.", 1L));
+        long afterNanos = System.nanoTime() - start;
+        long afterQueries = statistics.getPrepareStatementCount();
+
+        assertThat(sent).isEqualTo(audience);
+        assertThat(notificationRepository.countUnreadByMemberId(memberIds.get(0))).isEqualTo(2);
+        System.out.printf("%d명 이전 (회원마다 발송): %.1f ms, JPA 쿼리 %d번%n", audience, beforeNanos / 1e6, beforeQueries);
+        System.out.printf("%d명 이후 (fanOut): %.1f ms, JPA 쿼리 %d번 + JDBC 배치 추가%n", audience, afterNanos / 1e6, afterQueries);
+    }
+}
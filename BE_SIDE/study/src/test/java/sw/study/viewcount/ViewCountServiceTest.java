@@ -0,0 +1,60 @@
+package sw.study.viewcount;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewCountServiceTest {
+    private LettuceConnectionFactory connectionFactory;
+    private ViewCountService viewCountService;
+    private final Map<Long, Long> flushed = new HashMap<>();
+    private final List<Object> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 접속할 수 없는 Redis (로컬 카운터로 대체되어야 한다)
+        connectionFactory = new LettuceConnectionFactory("localhost", 1);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        ViewCountRepository viewCountRepository = new ViewCountRepository(null) {
+            @Override
+            public void addViewCounts(ViewCountTarget target, Map<Long, Long> deltas) {
+                deltas.forEach((id, delta) -> flushed.merge(id, delta, Long::sum));
+            }
+        };
+        viewCountService = new ViewCountService(new StringRedisTemplate(connectionFactory), viewCountRepository, events::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void Redis_장애시_로컬_카운터_누적_후_반영() throws Exception {
+        //given
+        viewCountService.increment(ViewCountTarget.POST, 1L);
+        viewCountService.increment(ViewCountTarget.POST, 1L);
+
+        //when
+        long pending = viewCountService.increment(ViewCountTarget.POST, 1L);
+        viewCountService.flush();
+
+        //then
+        assertThat(pending).isEqualTo(3);
+        assertThat(flushed.get(1L)).isEqualTo(3);
+        assertThat(events).singleElement()
+                .isInstanceOfSatisfying(ViewCountFlushedEvent.class, event -> assertThat(event.getDeltas()).containsEntry(1L, 3L));
+        assertThat(viewCountService.increment(ViewCountTarget.POST, 1L)).isEqualTo(1);
+    }
+}